@@ -15,10 +15,12 @@
  */
 package org.fest.assertions;
 
-import static org.fest.assertions.Formatting.inBrackets;
-import static org.fest.util.Strings.concat;
+import static org.fest.assertions.Collections.*;
+import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.LazyMessage.*;
+import static org.fest.assertions.PrimitiveArrays.*;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,9 +45,7 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
    * @throws AssertionError if the actual <code>byte</code> array does not contain the given values.
    */
   final void assertContains(List<Object> values) {
-    List<Object> copyOfActual = copyActual();
-    List<Object> notFound = new ArrayList<Object>();
-    for (Object value : values) if (!copyOfActual.contains(value)) notFound.add(value);
+    Collection<Object> notFound = notFound(copyActual(), values.toArray());
     if (!notFound.isEmpty()) failIfElementsNotFound(notFound);
   }
 
@@ -57,21 +57,14 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
    */
   final void assertContainsOnly(List<Object> values) {
     List<Object> copyOfActual = copyActual();
-    List<Object> notFound = new ArrayList<Object>();
-    for (Object value : values) {
-      if (!copyOfActual.contains(value)) {
-        notFound.add(value);
-        continue;
-      }
-      copyOfActual.remove(value);
-    }
+    List<Object> notFound = removeFirstOccurrences(copyOfActual, values);
     if (!notFound.isEmpty()) failIfElementsNotFound(notFound);
     if (!copyOfActual.isEmpty())
-      fail(concat("unexpected element(s):", inBrackets(copyOfActual.toArray()), " in array:", actualInBrackets()));
+      fail(lazyMessage("unexpected element(s):", format(copyOfActual), " in array:", actualInBrackets()));
   }
 
-  private void failIfElementsNotFound(List<Object> notFound) {
-    fail(concat("array:", actualInBrackets(), " does not contain element(s):", inBrackets(notFound.toArray())));
+  private void failIfElementsNotFound(Collection<Object> notFound) {
+    fail(lazyMessage("array:", actualInBrackets(), " does not contain element(s):", format(notFound)));
   }
 
   /**
@@ -80,17 +73,62 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
    * @throws AssertionError if the actual array contains any of the given values.
    */
   final void assertExcludes(List<Object> values) {
-    List<Object> copyOfActual = copyActual();
-    List<Object> found = new ArrayList<Object>();
-    for (Object value : values) if (copyOfActual.contains(value)) found.add(value);
+    Collection<Object> found = found(copyActual(), values.toArray());
     if (!found.isEmpty())
-      fail(concat("array:", actualInBrackets(), " does not exclude element(s):", inBrackets(found.toArray())));
+      fail(lazyMessage("array:", actualInBrackets(), " does not exclude element(s):", format(found)));
+  }
+
+  /**
+   * Verifies that the actual array of primitives contains the given values.
+   * @param values the values to look for.
+   * @param encodedActual the values in the actual array, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @param encodedValues the values to look for, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @throws AssertionError if the actual array does not contain the given values.
+   */
+  final void assertContains(T values, EncodedArray encodedActual, EncodedArray encodedValues) {
+    int[] notFound = indicesNotFound(encodedActual, encodedValues);
+    if (notFound.length > 0) failIfElementsNotFound(new ArrayElements(values, notFound));
+  }
+
+  /**
+   * Verifies that the actual array of primitives contains the given values <strong>only</strong>.
+   * @param values the values to look for.
+   * @param encodedActual the values in the actual array, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @param encodedValues the values to look for, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @throws AssertionError if the actual array does not contain the given objects, or if the actual array contains
+   *          elements other than the ones specified.
+   */
+  final void assertContainsOnly(T values, EncodedArray encodedActual, EncodedArray encodedValues) {
+    int[][] mismatches = removeFirstOccurrences(encodedActual, encodedValues, MAX_ELEMENTS_IN_MESSAGE);
+    if (mismatches[0].length > 0) failIfElementsNotFound(new ArrayElements(values, mismatches[0]));
+    int unexpectedCount = mismatches[2][0];
+    if (unexpectedCount > 0)
+      fail(lazyMessage("unexpected element(s):", format(new ArrayElements(actual, mismatches[1], unexpectedCount)),
+          " in array:", actualInBrackets()));
+  }
+
+  /**
+   * Verifies that the actual array of primitives does not contain the given values.
+   * @param values the values the array should exclude.
+   * @param encodedActual the values in the actual array, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @param encodedValues the values to look for, encoded by <code>{@link PrimitiveArrays}</code>.
+   * @throws AssertionError if the actual array contains any of the given values.
+   */
+  final void assertExcludes(T values, EncodedArray encodedActual, EncodedArray encodedValues) {
+    int[] found = indicesFound(encodedActual, encodedValues);
+    if (found.length > 0)
+      fail(lazyMessage("array:", actualInBrackets(), " does not exclude element(s):",
+          format(new ArrayElements(values, found))));
   }
 
   abstract List<Object> copyActual();
 
-  final String actualInBrackets() {
-    return inBrackets(actual);
+  final Description actualInBrackets() {
+    return bracketed(actual);
+  }
+
+  final Description format(Collection<?> c) {
+    return bracketed(c);
   }
 
   /**
@@ -106,7 +144,7 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
    * @throws AssertionError if the actual array is <code>null</code> or not empty.
    */
   public final void isEmpty() {
-    if (actualGroupSize() > 0) fail(concat("expecting empty array, but was:", actualInBrackets()));
+    if (actualGroupSize() > 0) fail(lazyMessage("expecting empty array, but was:", actualInBrackets()));
   }
 
   /**
@@ -115,7 +153,7 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
    */
   public final void isNullOrEmpty() {
     if (actual == null || actualGroupSize() == 0) return;
-    fail(concat("expecting a null or empty array, but was:", actualInBrackets()));
+    fail(lazyMessage("expecting a null or empty array, but was:", actualInBrackets()));
   }
 
   /**
@@ -136,7 +174,7 @@ abstract class ArrayAssert<T> extends GroupAssert<T> {
   final void assertHasSize(int expected) {
     int actualSize = actualGroupSize();
     if (actualSize == expected) return;
-    fail(concat(
+    fail(lazyMessage(
         "expected size:", inBrackets(expected)," but was:", inBrackets(actualSize), " for array:", actualInBrackets()));
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+
+/**
+ * Understands a read-only <code>{@link java.util.List}</code> view of some or all the elements of an array. Elements
+ * of arrays of primitives are boxed only when they are accessed.
+ *
+ * @author Alex Ruiz
+ */
+final class ArrayElements extends AbstractList<Object> {
+
+  private final Object array;
+  private final int[] indices;
+  private final int size;
+
+  /**
+   * Creates a new </code>{@link ArrayElements}</code> containing all the elements of the given array.
+   * @param array the given array.
+   */
+  ArrayElements(Object array) {
+    this(array, null);
+  }
+
+  /**
+   * Creates a new </code>{@link ArrayElements}</code> containing the elements of the given array at the given indices.
+   * @param array the given array.
+   * @param indices the indices of the elements to include, or <code>null</code> to include all of them.
+   */
+  ArrayElements(Object array, int[] indices) {
+    this(array, indices, indices != null ? indices.length : Array.getLength(array));
+  }
+
+  /**
+   * Creates a new </code>{@link ArrayElements}</code> containing the elements of the given array at the given indices,
+   * reporting the given size. Only the elements at the given indices can be accessed: this view is meant to be
+   * formatted in failure messages, which include only the first
+   * <code>{@link Formatting#MAX_ELEMENTS_IN_MESSAGE}</code> elements of a group and the number of elements left out.
+   * @param array the given array.
+   * @param indices the indices of the elements to include.
+   * @param size the size of this view, equal to or greater than the number of indices.
+   */
+  ArrayElements(Object array, int[] indices, int size) {
+    this.array = array;
+    this.indices = indices;
+    this.size = size;
+  }
+
+  @Override public Object get(int index) {
+    return Array.get(array, indices != null ? indices[index] : index);
+  }
+
+  @Override public int size() {
+    return size;
+  }
+}
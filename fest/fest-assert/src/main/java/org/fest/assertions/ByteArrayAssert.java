@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.fest.assertions.Fail.*;
+import static org.fest.assertions.PrimitiveArrays.encode;
 
 /**
  * Understands assertion methods for <code>byte</code> arrays. To create a new instance of this class use the
@@ -113,7 +114,7 @@ public final class ByteArrayAssert extends ArrayAssert<byte[]> {
    */
   public ByteArrayAssert contains(byte...values) {
     isNotNull();
-    assertContains(list(values));
+    assertContains(values, encode(actual), encode(values));
     return this;
   }
 
@@ -127,7 +128,7 @@ public final class ByteArrayAssert extends ArrayAssert<byte[]> {
    */
   public ByteArrayAssert containsOnly(byte...values) {
     isNotNull();
-    assertContainsOnly(list(values));
+    assertContainsOnly(values, encode(actual), encode(values));
     return this;
   }
 
@@ -140,7 +141,7 @@ public final class ByteArrayAssert extends ArrayAssert<byte[]> {
    */
   public ByteArrayAssert excludes(byte...values) {
     isNotNull();
-    assertExcludes(list(values));
+    assertExcludes(values, encode(actual), encode(values));
     return this;
   }
 
@@ -207,7 +208,7 @@ public final class ByteArrayAssert extends ArrayAssert<byte[]> {
    * @throws AssertionError if the actual <code>byte</code> array is not equal to the given one.
    */
   public ByteArrayAssert isEqualTo(byte[] expected) {
-    if (!Arrays.equals(actual, expected)) fail(errorMessageIfNotEqual(actual, expected));
+    if (!Arrays.equals(actual, expected)) fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -219,7 +220,7 @@ public final class ByteArrayAssert extends ArrayAssert<byte[]> {
    * @throws AssertionError if the actual <code>byte</code> array is equal to the given one.
    */
   public ByteArrayAssert isNotEqualTo(byte[] array) {
-    if (Arrays.equals(actual, array)) fail(errorMessageIfEqual(actual, array));
+    if (Arrays.equals(actual, array)) fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
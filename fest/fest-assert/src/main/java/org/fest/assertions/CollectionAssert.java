@@ -21,10 +21,11 @@ import java.util.List;
 
 import org.fest.util.Collections;
 
+import static java.util.Arrays.asList;
 import static org.fest.assertions.Collections.*;
-import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.LazyMessage.*;
 import static org.fest.util.Collections.duplicatesFrom;
-import static org.fest.util.Strings.concat;
 
 /**
  * Understands assertions for collections. To create a new instance of this class use the
@@ -67,23 +68,16 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
   public CollectionAssert containsOnly(Object...objects) {
     isNotNull();
     failIfNull(objects);
-    List<Object> notFound = new ArrayList<Object>();
     List<Object> copy = new ArrayList<Object>(actual);
-    for (Object o : objects) {
-      if (!copy.contains(o)) {
-        notFound.add(o);
-        continue;
-      }
-      copy.remove(o);
-    }
+    List<Object> notFound = removeFirstOccurrences(copy, asList(objects));
     if (!notFound.isEmpty()) failIfElementsNotFound(notFound);
     if (!copy.isEmpty())
-      fail(concat("unexpected element(s):", format(copy), " in collection:", format(actual)));
+      fail(lazyMessage("unexpected element(s):", format(copy), " in collection:", format(actual)));
     return this;
   }
 
   private void failIfElementsNotFound(Collection<Object> notFound) {
-    fail(concat("collection:", format(actual), " does not contain element(s):", format(notFound)));
+    fail(lazyMessage("collection:", format(actual), " does not contain element(s):", format(notFound)));
   }
 
   /**
@@ -99,7 +93,7 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
     failIfNull(objects);
     Collection<Object> found = found(actual, objects);
     if (!found.isEmpty())
-      fail(concat("collection:", format(actual), " does not exclude element(s):", format(found)));
+      fail(lazyMessage("collection:", format(actual), " does not exclude element(s):", format(found)));
     return this;
   }
 
@@ -117,12 +111,12 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
     isNotNull();
     Collection<?> duplicates = duplicatesFrom(actual);
     if (!duplicates.isEmpty())
-      fail(concat("collection:", format(actual), " contains duplicate(s):", format(duplicates)));
+      fail(lazyMessage("collection:", format(actual), " contains duplicate(s):", format(duplicates)));
     return this;
   }
 
-  private String format(Collection<?> c) {
-    return inBrackets(c);
+  private Description format(Collection<?> c) {
+    return bracketed(c);
   }
 
   /**
@@ -225,7 +219,7 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
    */
   public final void isNullOrEmpty() {
     if (Collections.isEmpty(actual)) return;
-    fail(concat("expecting a null or empty collection, but was:", format(actual)));
+    fail(lazyMessage("expecting a null or empty collection, but was:", format(actual)));
   }
 
   /**
@@ -245,7 +239,7 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
    */
   public void isEmpty() {
     isNotNull();
-    if (!Collections.isEmpty(actual)) fail(concat("expecting empty collection, but was:", format(actual)));
+    if (!Collections.isEmpty(actual)) fail(lazyMessage("expecting empty collection, but was:", format(actual)));
   }
 
   /**
@@ -270,7 +264,7 @@ public final class CollectionAssert extends GroupAssert<Collection<?>> {
   public CollectionAssert hasSize(int expected) {
     int actualSize = actualGroupSize();
     if (actualSize != expected)
-      fail(concat(
+      fail(lazyMessage(
           "expected size:", inBrackets(expected)," but was:", inBrackets(actualSize), " for collection:", format(actual)));
     return this;
   }
@@ -17,10 +17,19 @@ package org.fest.assertions;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Understands utility methods related to <code>{@link Collections}</code>.
+ * <p>
+ * Look-ups are backed by hash tables, instead of calling <code>{@link Collection#contains(Object)}</code> once per
+ * element to find, unless the elements to compare cannot be hashed reliably (their class overrides
+ * <code>equals</code> but not <code>hashCode</code>, or <code>hashCode</code> throws an exception.)
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -34,8 +43,9 @@ public final class Collections {
    * @return the elements that were not found in the given <code>Collection</code>.
    */
   public static Collection<Object> notFound(Collection<?> target, Object...objects) {
+    boolean[] found = search(target, objects);
     List<Object> notFound = new ArrayList<Object>();
-    for (Object o : objects) if (!target.contains(o)) notFound.add(o);
+    for (int i = 0; i < objects.length; i++) if (!found[i]) notFound.add(objects[i]);
     return notFound;
   }
 
@@ -47,10 +57,147 @@ public final class Collections {
    * @return the elements that were found in the given <code>Collection</code>.
    */
   public static Collection<Object> found(Collection<?> target, Object...objects) {
-    List<Object> found = new ArrayList<Object>();
-    for (Object o : objects) if (target.contains(o)) found.add(o);
+    boolean[] found = search(target, objects);
+    List<Object> result = new ArrayList<Object>();
+    for (int i = 0; i < objects.length; i++) if (found[i]) result.add(objects[i]);
+    return result;
+  }
+
+  /*
+   * Sets are not indexed: they already provide fast look-ups and may have their own notion of equality (e.g. TreeSet.)
+   * Otherwise, the objects to find are indexed and the target is traversed once, stopping as soon as all of them have
+   * been found.
+   */
+  private static boolean[] search(Collection<?> target, Object[] objects) {
+    boolean[] found = new boolean[objects.length];
+    if (objects.length > 1 && !(target instanceof Set<?>)) {
+      try {
+        indexedSearch(target, objects, found);
+        return found;
+      } catch (RuntimeException e) {
+        // some element could not be hashed, fall back to linear search.
+      }
+    }
+    for (int i = 0; i < objects.length; i++) found[i] = target.contains(objects[i]);
     return found;
   }
-  
+
+  private static void indexedSearch(Collection<?> target, Object[] objects, boolean[] found) {
+    Map<Object, List<Integer>> pending = new HashMap<Object, List<Integer>>();
+    HashableTypes hashableTypes = new HashableTypes();
+    for (int i = 0; i < objects.length; i++) {
+      Object o = objects[i];
+      if (!hashableTypes.isHashable(o)) {
+        found[i] = target.contains(o);
+        continue;
+      }
+      List<Integer> indices = pending.get(o);
+      if (indices == null) {
+        indices = new ArrayList<Integer>();
+        pending.put(o, indices);
+      }
+      indices.add(i);
+    }
+    Iterator<?> elements = target.iterator();
+    while (!pending.isEmpty() && elements.hasNext()) {
+      List<Integer> indices = pending.remove(elements.next());
+      if (indices == null) continue;
+      for (int i : indices) found[i] = true;
+    }
+  }
+
+  /**
+   * Removes from the given list the first occurrence of each of the given objects, returning the objects that were
+   * not found.
+   * @param target the list to remove the objects from.
+   * @param objects the objects to remove.
+   * @return the objects that were not found in the given list.
+   */
+  static List<Object> removeFirstOccurrences(List<Object> target, List<Object> objects) {
+    HashableTypes hashableTypes = new HashableTypes();
+    if (hashableTypes.areHashable(target) && hashableTypes.areHashable(objects)) {
+      try {
+        return indexedRemoveFirstOccurrences(target, objects);
+      } catch (RuntimeException e) {
+        // some element could not be hashed, fall back to linear search.
+      }
+    }
+    List<Object> notFound = new ArrayList<Object>();
+    for (Object o : objects) if (!target.remove(o)) notFound.add(o);
+    return notFound;
+  }
+
+  private static List<Object> indexedRemoveFirstOccurrences(List<Object> target, List<Object> objects) {
+    Map<Object, int[]> available = new HashMap<Object, int[]>();
+    for (Object e : target) counter(available, e)[0]++;
+    Map<Object, int[]> toRemove = new HashMap<Object, int[]>();
+    List<Object> notFound = new ArrayList<Object>();
+    for (Object o : objects) {
+      int[] count = available.get(o);
+      if (count == null || count[0] == 0) {
+        notFound.add(o);
+        continue;
+      }
+      count[0]--;
+      counter(toRemove, o)[0]++;
+    }
+    if (toRemove.isEmpty()) return notFound;
+    List<Object> remaining = new ArrayList<Object>(target.size());
+    for (Object e : target) {
+      int[] count = toRemove.get(e);
+      if (count != null && count[0] > 0) {
+        count[0]--;
+        continue;
+      }
+      remaining.add(e);
+    }
+    target.clear();
+    target.addAll(remaining);
+    return notFound;
+  }
+
+  private static int[] counter(Map<Object, int[]> counters, Object o) {
+    int[] counter = counters.get(o);
+    if (counter == null) {
+      counter = new int[1];
+      counters.put(o, counter);
+    }
+    return counter;
+  }
+
+  /*
+   * A type can be hashed reliably if the class that overrides hashCode is the same class, or a subclass of the one
+   * that overrides equals.
+   */
+  private static class HashableTypes {
+    private final Map<Class<?>, Boolean> checked = new HashMap<Class<?>, Boolean>();
+
+    boolean areHashable(Collection<?> c) {
+      for (Object o : c) if (!isHashable(o)) return false;
+      return true;
+    }
+
+    boolean isHashable(Object o) {
+      if (o == null) return true;
+      Class<?> type = o.getClass();
+      Boolean hashable = checked.get(type);
+      if (hashable == null) {
+        hashable = overridesHashCodeWithEquals(type);
+        checked.put(type, hashable);
+      }
+      return hashable;
+    }
+
+    private static boolean overridesHashCodeWithEquals(Class<?> type) {
+      try {
+        Class<?> equalsOwner = type.getMethod("equals", Object.class).getDeclaringClass();
+        Class<?> hashCodeOwner = type.getMethod("hashCode").getDeclaringClass();
+        return equalsOwner.isAssignableFrom(hashCodeOwner);
+      } catch (Exception e) {
+        return false;
+      }
+    }
+  }
+
   private Collections() {}
 }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.fest.assertions.Fail.*;
+import static org.fest.assertions.PrimitiveArrays.encode;
 
 /**
  * Understands assertion methods for <code>double</code> arrays. To create a new instance of this class use the
@@ -112,7 +113,7 @@ public final class DoubleArrayAssert extends ArrayAssert<double[]> {
    */
   public DoubleArrayAssert contains(double...values) {
     isNotNull();
-    assertContains(list(values));
+    assertContains(values, encode(actual), encode(values));
     return this;
   }
 
@@ -126,7 +127,7 @@ public final class DoubleArrayAssert extends ArrayAssert<double[]> {
    */
   public DoubleArrayAssert containsOnly(double...values) {
     isNotNull();
-    assertContainsOnly(list(values));
+    assertContainsOnly(values, encode(actual), encode(values));
     return this;
   }
 
@@ -139,7 +140,7 @@ public final class DoubleArrayAssert extends ArrayAssert<double[]> {
    */
   public DoubleArrayAssert excludes(double...values) {
     isNotNull();
-    assertExcludes(list(values));
+    assertExcludes(values, encode(actual), encode(values));
     return this;
   }
 
@@ -206,7 +207,7 @@ public final class DoubleArrayAssert extends ArrayAssert<double[]> {
    * @throws AssertionError if the actual <code>double</code> array is not equal to the given one.
    */
   public DoubleArrayAssert isEqualTo(double[] expected) {
-    if (!Arrays.equals(actual, expected)) fail(errorMessageIfNotEqual(actual, expected));
+    if (!Arrays.equals(actual, expected)) fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -218,7 +219,7 @@ public final class DoubleArrayAssert extends ArrayAssert<double[]> {
    * @throws AssertionError if the actual <code>double</code> array is equal to the given one.
    */
   public DoubleArrayAssert isNotEqualTo(double[] array) {
-    if (Arrays.equals(actual, array)) fail(errorMessageIfEqual(actual, array));
+    if (Arrays.equals(actual, array)) fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
@@ -17,11 +17,14 @@ package org.fest.assertions;
 
 import static org.fest.assertions.ComparisonFailureFactory.comparisonFailure;
 import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.LazyMessage.*;
+import static org.fest.assertions.SoftAssertions.*;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Strings.concat;
 
 /**
- * Understands failure methods.
+ * Understands failure methods. Failures of assertions executed by <code>{@link SoftAssertions#check(Runnable)}</code>
+ * are recorded by the <code>{@link SoftAssertions}</code> executing them instead of thrown.
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -43,20 +46,34 @@ public final class Fail {
    * @param realCause cause of the error.
    */
   public static void fail(String message, Throwable realCause) {
+    collectIfChecking(new BasicDescription(message), realCause);
     AssertionError error = new AssertionError(message);
     error.initCause(realCause);
     throw error;
   }
 
+  /**
+   * Throws an <code>{@link AssertionError}</code> whose message is the value of the given description. The value of
+   * the description is not requested until the message of the error is.
+   * @param message the description of the failure.
+   * @see LazyMessage
+   */
+  static void failWith(Description message) {
+    collectIfChecking(message);
+    throw new LazyAssertionError(message);
+  }
+
   static void failIfEqual(String message, Object first, Object second) {
-    if (areEqual(first, second)) fail(errorMessageIfEqual(message, first, second));
+    if (areEqual(first, second)) failWith(lazyMessage(format(message), lazyErrorMessageIfEqual(first, second)));
   }
 
   static void failIfNotEqual(String message, Object actual, Object expected) {
     if (areEqual(actual, expected)) return;
-    AssertionError comparisonFailure = comparisonFailure(message, expected, actual);
-    if (comparisonFailure != null) throw comparisonFailure;
-    fail(errorMessageIfNotEqual(message, actual, expected));
+    if (!checking()) {
+      AssertionError comparisonFailure = comparisonFailure(message, expected, actual);
+      if (comparisonFailure != null) throw comparisonFailure;
+    }
+    failWith(lazyMessage(format(message), lazyErrorMessageIfNotEqual(actual, expected)));
   }
 
   static void failIfNull(String message, Object o) {
@@ -64,16 +81,18 @@ public final class Fail {
   }
 
   static void failIfNotNull(String message, Object o) {
-    if (o != null) fail(concat(format(message), inBrackets(o), " should be null"));
+    if (o != null) failWith(lazyMessage(format(message), bracketedInFull(o), " should be null"));
   }
 
   static void failIfSame(String message, Object first, Object second) {
-    if (first == second) fail(concat(format(message), "given objects are same:", inBrackets(first)));
+    if (first == second) failWith(lazyMessage(format(message), "given objects are same:", bracketedInFull(first)));
   }
 
   static void failIfNotSame(String message, Object first, Object second) {
     if (first != second)
-      fail(concat(format(message), "expected same instance but found:", inBrackets(first), " and:", inBrackets(second)));
+      failWith(lazyMessage(
+          format(message), "expected same instance but found:", bracketedInFull(first), " and:",
+          bracketedInFull(second)));
   }
 
   /**
@@ -82,6 +101,7 @@ public final class Fail {
    * @throws AssertionError with the given message.
    */
   public static void fail(String message) {
+    collectIfChecking(new BasicDescription(message));
     throw new AssertionError(message);
   }
 
@@ -93,6 +113,28 @@ public final class Fail {
     return concat("expected:", inBrackets(expected), " but was:", inBrackets(actual));
   }
 
+  /**
+   * Returns the message of a failure caused by two objects that are not equal, which is built only when requested.
+   * @param actual the actual object.
+   * @param expected the expected object.
+   * @return the lazily built message.
+   * @see #errorMessageIfNotEqual(Object, Object)
+   */
+  static Description lazyErrorMessageIfNotEqual(Object actual, Object expected) {
+    return lazyMessage("expected:", bracketedInFull(expected), " but was:", bracketedInFull(actual));
+  }
+
+  /**
+   * Returns the message of a failure caused by two objects that are equal, which is built only when requested.
+   * @param actual the actual object.
+   * @param o the object the actual object should not be equal to.
+   * @return the lazily built message.
+   * @see #errorMessageIfEqual(Object, Object)
+   */
+  static Description lazyErrorMessageIfEqual(Object actual, Object o) {
+    return lazyMessage("actual value:", bracketedInFull(actual), " should not be equal to:", bracketedInFull(o));
+  }
+
   static String errorMessageIfEqual(String message, Object actual, Object o) {
     return concat(format(message), errorMessageIfEqual(actual, o));
   }
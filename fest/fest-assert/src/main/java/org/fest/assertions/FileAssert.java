@@ -16,6 +16,7 @@ package org.fest.assertions;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 
 import org.fest.assertions.FileContentComparator.LineDiff;
 
@@ -265,7 +266,8 @@ public final class FileAssert extends GenericAssert<File> {
   }
 
   /**
-   * Verifies that the content of the actual <code>File</code> is equal to the content of the given one. Adapted from
+   * Verifies that the content of the actual <code>File</code> is equal to the content of the given one, decoding both
+   * files with the platform's default charset. Adapted from
    * <a href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from
    * <a href="http://sourceforge.net/projects/junit-addons">JUnit-addons</a>.)
    * @param expected the given <code>File</code> to compare the actual <code>File</code> to.
@@ -276,19 +278,58 @@ public final class FileAssert extends GenericAssert<File> {
    * @throws IllegalArgumentException if the file to compare to is <code>null</code>.
    */
   public FileAssert hasSameContentAs(File expected) {
-    isNotNull();
-    if (expected == null) throw new IllegalArgumentException("File to compare to should not be null");
-    assertExists(actual).assertExists(expected);
+    assertCanCompareContentTo(expected);
     try {
-      LineDiff[] diffs = comparator.compareContents(actual, expected);
-      if (!isEmpty(diffs)) fail(expected, diffs);
+      failIfNotEmpty(expected, comparator.compareContents(actual, expected));
     } catch (IOException e) {
       cannotCompareToExpectedFile(expected, e);
     }
     return this;
   }
 
-  private void fail(File expected, LineDiff[] diffs) {
+  /**
+   * Verifies that the content of the actual <code>File</code> is equal to the content of the given one. The files are
+   * compared byte by byte, and they are decoded with the given charset only to report the first lines that are not
+   * equal.
+   * @param expected the given <code>File</code> to compare the actual <code>File</code> to.
+   * @param charset the charset to use to decode the files.
+   * @return this assertion object.
+   * @throws AssertionError if the the actual <code>File</code> is <code>null</code>.
+   * @throws AssertionError if the content of the actual <code>File</code> is not equal to the content of the given
+   *          one.
+   * @throws IllegalArgumentException if the file to compare to is <code>null</code>.
+   * @throws IllegalArgumentException if the given charset is <code>null</code>.
+   */
+  public FileAssert hasSameContentAs(File expected, Charset charset) {
+    if (charset == null) throw new IllegalArgumentException("Charset to decode files should not be null");
+    assertCanCompareContentTo(expected);
+    try {
+      failIfNotEmpty(expected, comparator.compareContents(actual, expected, charset));
+    } catch (IOException e) {
+      cannotCompareToExpectedFile(expected, e);
+    }
+    return this;
+  }
+
+  private void assertCanCompareContentTo(File expected) {
+    isNotNull();
+    if (expected == null) throw new IllegalArgumentException("File to compare to should not be null");
+    assertExists(actual).assertExists(expected);
+  }
+
+  private void failIfNotEmpty(File expected, LineDiff[] diffs) {
+    if (!isEmpty(diffs)) fail(expected, diffs);
+  }
+
+  private void fail(final File expected, final LineDiff[] diffs) {
+    fail(new Description() {
+      public String value() {
+        return errorMessageIfNotSameContent(expected, diffs);
+      }
+    });
+  }
+
+  private String errorMessageIfNotSameContent(File expected, LineDiff[] diffs) {
     StringBuilder b = new StringBuilder();
     b.append("file:").append(inBrackets(actual)).append(" and file:").append(inBrackets(expected))
       .append(" do not have same contents:");
@@ -296,7 +337,7 @@ public final class FileAssert extends GenericAssert<File> {
       b.append(LINE_SEPARATOR).append("line:").append(inBrackets(diff.lineNumber))
         .append(", expected:").append(inBrackets(diff.expected)).append(" but was:").append(inBrackets(diff.actual));
     }
-    fail(b.toString());
+    return b.toString();
   }
 
   private void cannotCompareToExpectedFile(File expected, Exception e) {
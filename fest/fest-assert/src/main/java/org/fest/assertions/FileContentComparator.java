@@ -18,11 +18,19 @@ import static org.fest.util.Closeables.close;
 import static org.fest.util.Objects.areEqual;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Compares the contents of two files.
+ * <p>
+ * Files of the same size are compared byte by byte first, reading them in chunks through
+ * <code>{@link FileChannel}</code>s, without decoding them. Only files that are not equal are compared line by line,
+ * to report the first differing lines.
+ * </p>
  *
  * @author David DIDIER
  * @author Alex Ruiz
@@ -30,24 +38,40 @@ import java.util.List;
  */
 class FileContentComparator {
 
+  static final int MAX_LINE_DIFFS = 50;
+
   private static final String EOF = "EOF";
+  private static final int CHUNK_SIZE = 1 << 20;
 
   /**
-   * Verifies that the given files have the same content. Adapted from <a
+   * Verifies that the given files have the same content, decoding them with the default charset. Adapted from <a
    * href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from
    * <a href="http://sourceforge.net/projects/junit-addons">JUnit-addons</a>.)
    * @param actual the first <code>File</code> to compare.
    * @param expected the given <code>File</code> to compare <code>actual</code> to.
-   * @return the differences between the given files, if any.
+   * @return the first <code>{@link #MAX_LINE_DIFFS}</code> differences between the given files, if any.
    * @throws IOException any I/O error.
    */
   LineDiff[] compareContents(File actual, File expected) throws IOException {
+    return compareContents(actual, expected, Charset.defaultCharset());
+  }
+
+  /**
+   * Verifies that the given files have the same content.
+   * @param actual the first <code>File</code> to compare.
+   * @param expected the given <code>File</code> to compare <code>actual</code> to.
+   * @param charset the charset to use to decode the lines of the files, if they are not equal.
+   * @return the first <code>{@link #MAX_LINE_DIFFS}</code> differences between the given files, if any.
+   * @throws IOException any I/O error.
+   */
+  LineDiff[] compareContents(File actual, File expected, Charset charset) throws IOException {
+    if (actual.length() == expected.length() && haveSameBytes(actual, expected)) return new LineDiff[0];
     InputStream actualInputStream = null;
     InputStream expectedInputStream = null;
     try {
       actualInputStream = new FileInputStream(actual);
       expectedInputStream = new FileInputStream(expected);
-      List<LineDiff> diffs = checkSameContent(reader(actualInputStream), reader(expectedInputStream));
+      List<LineDiff> diffs = checkSameContent(reader(actualInputStream, charset), reader(expectedInputStream, charset));
       return diffs.toArray(new LineDiff[diffs.size()]);
     } finally {
       close(expectedInputStream);
@@ -55,28 +79,78 @@ class FileContentComparator {
     }
   }
 
-  private LineNumberReader reader(InputStream inputStream) {
-    return new LineNumberReader(new BufferedReader(new InputStreamReader(inputStream)));
+  private boolean haveSameBytes(File actual, File expected) throws IOException {
+    FileInputStream actualInputStream = null;
+    FileInputStream expectedInputStream = null;
+    try {
+      actualInputStream = new FileInputStream(actual);
+      expectedInputStream = new FileInputStream(expected);
+      return haveSameBytes(actualInputStream.getChannel(), expectedInputStream.getChannel());
+    } finally {
+      close(expectedInputStream);
+      close(actualInputStream);
+    }
+  }
+
+  private boolean haveSameBytes(FileChannel actual, FileChannel expected) throws IOException {
+    ByteBuffer actualChunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+    ByteBuffer expectedChunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+    while (true) {
+      boolean actualEnded = !fill(actual, actualChunk);
+      boolean expectedEnded = !fill(expected, expectedChunk);
+      if (!haveSameBytes(actualChunk, expectedChunk)) return false;
+      if (actualEnded || expectedEnded) return actualEnded == expectedEnded;
+      actualChunk.clear();
+      expectedChunk.clear();
+    }
+  }
+
+  /*
+   * Reads from the given channel until the buffer is full or the end of the channel is reached, and flips the buffer.
+   * Returns false if the end of the channel was reached.
+   */
+  private boolean fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+    boolean more = true;
+    while (buffer.hasRemaining())
+      if (channel.read(buffer) < 0) {
+        more = false;
+        break;
+      }
+    buffer.flip();
+    return more;
+  }
+
+  private boolean haveSameBytes(ByteBuffer actual, ByteBuffer expected) {
+    if (actual.remaining() != expected.remaining()) return false;
+    while (actual.remaining() >= 8)
+      if (actual.getLong() != expected.getLong()) return false;
+    while (actual.hasRemaining())
+      if (actual.get() != expected.get()) return false;
+    return true;
+  }
+
+  private LineNumberReader reader(InputStream inputStream, Charset charset) {
+    return new LineNumberReader(new BufferedReader(new InputStreamReader(inputStream, charset)));
   }
 
   private List<LineDiff> checkSameContent(LineNumberReader actual, LineNumberReader expected) throws IOException {
     List<LineDiff> diffs = new ArrayList<LineDiff>();
-    while (true) {
-      if (!expected.ready() && !actual.ready()) return diffs;
+    while (diffs.size() < MAX_LINE_DIFFS) {
       int lineNumber = expected.getLineNumber();
       String actualLine = actual.readLine();
       String expectedLine = expected.readLine();
-      if (areEqual(actualLine, expectedLine)) continue;
-      diffs.add(new LineDiff(lineNumber, actualLine, expectedLine));
-      if (!actual.ready() && expected.ready()) {
+      if (actualLine == null && expectedLine == null) break;
+      if (actualLine == null) {
         diffs.add(new LineDiff(lineNumber, EOF, expectedLine));
-        return diffs;
+        break;
       }
-      if (actual.ready() && !expected.ready()) {
+      if (expectedLine == null) {
         diffs.add(new LineDiff(lineNumber, actualLine, EOF));
-        return diffs;
+        break;
       }
+      if (!areEqual(actualLine, expectedLine)) diffs.add(new LineDiff(lineNumber, actualLine, expectedLine));
     }
+    return diffs;
   }
 
   static class LineDiff {
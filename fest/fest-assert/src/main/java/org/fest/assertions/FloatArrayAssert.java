@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.fest.assertions.Fail.*;
+import static org.fest.assertions.PrimitiveArrays.encode;
 
 /**
  * Understands assertion methods for <code>float</code> arrays. To create a new instance of this class use the
@@ -114,7 +115,7 @@ public final class FloatArrayAssert extends ArrayAssert<float[]> {
    */
   public FloatArrayAssert contains(float...values) {
     isNotNull();
-    assertContains(list(values));
+    assertContains(values, encode(actual), encode(values));
     return this;
   }
 
@@ -128,7 +129,7 @@ public final class FloatArrayAssert extends ArrayAssert<float[]> {
    */
   public FloatArrayAssert containsOnly(float...values) {
     isNotNull();
-    assertContainsOnly(list(values));
+    assertContainsOnly(values, encode(actual), encode(values));
     return this;
   }
 
@@ -141,7 +142,7 @@ public final class FloatArrayAssert extends ArrayAssert<float[]> {
    */
   public FloatArrayAssert excludes(float...values) {
     isNotNull();
-    assertExcludes(list(values));
+    assertExcludes(values, encode(actual), encode(values));
     return this;
   }
 
@@ -208,7 +209,7 @@ public final class FloatArrayAssert extends ArrayAssert<float[]> {
    * @throws AssertionError if the actual <code>float</code> array is not equal to the given one.
    */
   public FloatArrayAssert isEqualTo(float[] expected) {
-    if (!Arrays.equals(actual, expected)) fail(errorMessageIfNotEqual(actual, expected));
+    if (!Arrays.equals(actual, expected)) fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -220,7 +221,7 @@ public final class FloatArrayAssert extends ArrayAssert<float[]> {
    * @throws AssertionError if the actual <code>float</code> array is equal to the given one.
    */
   public FloatArrayAssert isNotEqualTo(float[] array) {
-    if (Arrays.equals(actual, array)) fail(errorMessageIfEqual(actual, array));
+    if (Arrays.equals(actual, array)) fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
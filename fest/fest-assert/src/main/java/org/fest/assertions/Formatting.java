@@ -19,7 +19,9 @@ import static org.fest.util.Strings.*;
 
 import java.awt.Dimension;
 import java.io.File;
+import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.fest.util.Arrays;
@@ -35,6 +37,9 @@ final class Formatting {
 
   private static final String EMPTY_MESSAGE = "";
 
+  /** The maximum number of elements of a group (collection or array) to include in a failure message. */
+  static final int MAX_ELEMENTS_IN_MESSAGE = 50;
+
   static String format(String message) {
     if (isEmpty(message)) return EMPTY_MESSAGE;
     return concat("[", message, "] ");
@@ -50,6 +55,40 @@ final class Formatting {
     return doBracketAround(quote(o));
   }
 
+  /**
+   * Returns the <code>String</code> representation of the given object in brackets. If the object is a collection or
+   * a one-dimensional array, only its first elements are included, up to the given maximum.
+   * @param o the object to format.
+   * @param maxElements the maximum number of elements to include.
+   * @return the <code>String</code> representation of the given object.
+   */
+  static String inBrackets(Object o, int maxElements) {
+    if (o instanceof Collection<?>) return inBrackets((Collection<?>)o, maxElements);
+    if (isOneDimensionalArray(o) && Array.getLength(o) > maxElements)
+      return inBrackets(new ArrayElements(o), maxElements);
+    return inBrackets(o);
+  }
+
+  /**
+   * Returns the <code>String</code> representation of the given collection in brackets, including only the first
+   * elements of it, up to the given maximum.
+   * @param c the collection to format.
+   * @param maxElements the maximum number of elements to include.
+   * @return the <code>String</code> representation of the given collection.
+   */
+  static String inBrackets(Collection<?> c, int maxElements) {
+    if (c == null || c.size() <= maxElements) return inBrackets(c);
+    StringBuilder b = new StringBuilder();
+    b.append('[');
+    Iterator<?> i = c.iterator();
+    for (int count = 0; count < maxElements; count++) {
+      Object e = i.next();
+      b.append(e == c ? "(this Collection)" : quote(e)).append(", ");
+    }
+    b.append("...(").append(c.size() - maxElements).append(" more)]");
+    return doBracketAround(b.toString());
+  }
+
   private static boolean isOneDimensionalArray(Object o) {
     return o != null && o.getClass().isArray() && !o.getClass().getComponentType().isArray();
   }
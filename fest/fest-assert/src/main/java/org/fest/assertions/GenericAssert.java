@@ -17,6 +17,7 @@ package org.fest.assertions;
 
 import static org.fest.assertions.Fail.*;
 import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.LazyMessage.lazyMessage;
 import static org.fest.util.Strings.concat;
 
 /**
@@ -166,14 +167,18 @@ public abstract class GenericAssert<T> extends Assert {
    * @param condition the condition to check.
    * @throws AssertionError if the actual value does not satisfy the given condition.
    */
-  protected final void assertSatisfies(Condition<T> condition) {
+  protected final void assertSatisfies(final Condition<T> condition) {
     validate(condition);
     if (condition.matches(actual)) return;
-    fail(errorMessageIfConditionNotSatisfied(condition));
+    fail(new Description() {
+      public String value() {
+        return errorMessageIfConditionNotSatisfied(condition);
+      }
+    });
   }
 
   private String errorMessageIfConditionNotSatisfied(Condition<T> condition) {
-    String message = concat("actual value:", inBrackets(actual), " should satisfy condition");
+    String message = concat("actual value:", inBrackets(actual, MAX_ELEMENTS_IN_MESSAGE), " should satisfy condition");
     return condition.addDescriptionTo(message);
   }
 
@@ -182,14 +187,19 @@ public abstract class GenericAssert<T> extends Assert {
    * @param condition the condition to check.
    * @throws AssertionError if the actual value satisfies the given condition.
    */
-  protected final void assertDoesNotSatisfy(Condition<T> condition) {
+  protected final void assertDoesNotSatisfy(final Condition<T> condition) {
     validate(condition);
     if (!condition.matches(actual)) return;
-    fail(errorMessageIfConditionSatisfied(condition));
+    fail(new Description() {
+      public String value() {
+        return errorMessageIfConditionSatisfied(condition);
+      }
+    });
   }
 
   private String errorMessageIfConditionSatisfied(Condition<T> condition) {
-    String message = concat("actual value:", inBrackets(actual), " should not satisfy condition");
+    String message =
+      concat("actual value:", inBrackets(actual, MAX_ELEMENTS_IN_MESSAGE), " should not satisfy condition");
     return condition.addDescriptionTo(message);
   }
 
@@ -258,6 +268,15 @@ public abstract class GenericAssert<T> extends Assert {
     Fail.fail(formatted(reason), cause);
   }
 
+  /**
+   * Fails by throwing an <code>{@link AssertionError}</code> whose message is built only when requested. Use this method
+   * when the reason for the failure includes potentially big objects, like the actual value.
+   * @param reason the reason for the failure, used as the message for the thrown exception.
+   */
+  protected final void fail(Description reason) {
+    Fail.failWith(lazyMessage(format(description()), reason));
+  }
+
   private String formatted(String reason) {
     return concat(format(description()), reason);
   }
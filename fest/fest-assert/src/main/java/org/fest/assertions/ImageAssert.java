@@ -16,12 +16,22 @@
 package org.fest.assertions;
 
 import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import static java.lang.Math.min;
 
 import static org.fest.assertions.Fail.*;
 import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.assertions.ImageComparator.compare;
+import static org.fest.assertions.ImageComparator.diffImage;
+import static org.fest.assertions.ImageComparator.isEqual;
+import static org.fest.assertions.Threshold.threshold;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Strings.*;
 
@@ -34,8 +44,13 @@ import static org.fest.util.Strings.*;
  */
 public final class ImageAssert extends GenericAssert<BufferedImage> {
 
+  private static final Threshold ZERO_THRESHOLD = threshold(0);
+  private static final int MAX_REGIONS_IN_MESSAGE = 10;
+
   private static ImageReader imageReader = new ImageReader();
 
+  private File diffImageFile;
+
   /**
    * Reads the image in the specified path.
    * @param imageFilePath the path of the image to read.
@@ -163,10 +178,85 @@ public final class ImageAssert extends GenericAssert<BufferedImage> {
     if (areEqual(actual, expected)) return this;
     failIfNull(expected);
     failIfNotEqual(sizeOf(actual), sizeOf(expected));
-    if (!hasEqualColor(expected)) fail("images do not have the same color(s)");
+    if (!isEqual(actual, expected, ZERO_THRESHOLD))
+      fail(concat("images do not have the same color(s)", diffImageSaved(expected, ZERO_THRESHOLD)));
+    return this;
+  }
+
+  /**
+   * Verifies that the actual image is equal to the given one, using the given threshold. Two images are equal if they
+   * have the same size and the number of pixels at the same coordinates that do not have the same color is not greater
+   * than the maximum allowed by the threshold. Two pixels have the same color if none of their channels differ by more
+   * than the tolerance per channel of the threshold.
+   * <p>
+   * If the images are not equal, the message of the thrown <code>{@link AssertionError}</code> includes the number of
+   * differing pixels and the bounding boxes of the regions that contain them.
+   * </p>
+   * @param expected the given image to compare the actual image to.
+   * @param threshold the tolerance to use when comparing the images.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given threshold is <code>null</code>.
+   * @throws AssertionError if the actual image is not equal to the given one.
+   * @see #savingDiffImageTo(File)
+   */
+  public ImageAssert isEqualTo(BufferedImage expected, Threshold threshold) {
+    if (threshold == null) throw new IllegalArgumentException("The threshold should not be null");
+    if (areEqual(actual, expected)) return this;
+    failIfNull(expected);
+    failIfNotEqual(sizeOf(actual), sizeOf(expected));
+    ImageDifference difference = compare(actual, expected, threshold);
+    int differingPixels = difference.differingPixels();
+    if (differingPixels <= threshold.maxDifferingPixels()) return this;
+    fail(concat(
+        "images do not have the same color(s), expected at most:", inBrackets(threshold.maxDifferingPixels()),
+        " differing pixel(s) but was:", inBrackets(differingPixels), " using a tolerance per channel of:",
+        inBrackets(threshold.channelTolerance()), ", differing region(s):", format(difference.regions()),
+        diffImageSaved(expected, threshold)));
+    return this;
+  }
+
+  /**
+   * Sets the file to write an image highlighting the differences between the actual image and the expected one to,
+   * when any of the <code>isEqualTo</code> methods fails because the images do not have the same color(s). Pixels that
+   * are not equal are painted red, while the rest of the pixels are copied, faded, from the expected image. The image
+   * is written in PNG format. This method should be called before any assertion method.
+   * <p>
+   * For example:
+   * <pre>
+   * assertThat(screenshot).<strong>savingDiffImageTo</strong>(new File(&quot;diff.png&quot;)).isEqualTo(baseline);
+   * </pre>
+   * </p>
+   * @param file the file to write the image to.
+   * @return this assertion object.
+   */
+  public ImageAssert savingDiffImageTo(File file) {
+    diffImageFile = file;
     return this;
   }
 
+  private String diffImageSaved(BufferedImage expected, Threshold threshold) {
+    if (diffImageFile == null) return "";
+    try {
+      ImageIO.write(diffImage(actual, expected, threshold), "png", diffImageFile);
+      return concat(" (differences saved to ", quote(diffImageFile.getAbsolutePath()), ")");
+    } catch (IOException e) {
+      return concat(" (unable to save differences to ", quote(diffImageFile.getAbsolutePath()), ")");
+    }
+  }
+
+  private static String format(List<Rectangle> regions) {
+    StringBuilder b = new StringBuilder();
+    int count = min(regions.size(), MAX_REGIONS_IN_MESSAGE);
+    for (int i = 0; i < count; i++) {
+      if (i > 0) b.append(", ");
+      Rectangle r = regions.get(i);
+      b.append("[x=").append(r.x).append(", y=").append(r.y).append(", width=").append(r.width)
+          .append(", height=").append(r.height).append("]");
+    }
+    if (regions.size() > count) b.append(", ...(").append(regions.size() - count).append(" more)");
+    return concat("<[", b.toString(), "]>");
+  }
+
   private void failIfNull(BufferedImage expected) {
     if (expected != null) return;
     fail(errorMessageIfNotEqual(actual, null));
@@ -187,7 +277,7 @@ public final class ImageAssert extends GenericAssert<BufferedImage> {
   public ImageAssert isNotEqualTo(BufferedImage image) {
     if (areEqual(actual, image)) fail(errorMessageIfEqual(actual, image));
     if (image == null) return this;
-    if (areEqual(sizeOf(actual), sizeOf(image)) && hasEqualColor(image)) fail("images are equal");
+    if (areEqual(sizeOf(actual), sizeOf(image)) && isEqual(actual, image, ZERO_THRESHOLD)) fail("images are equal");
     return this;
   }
 
@@ -195,15 +285,6 @@ public final class ImageAssert extends GenericAssert<BufferedImage> {
     return new Dimension(image.getWidth(), image.getHeight());
   }
 
-  private boolean hasEqualColor(BufferedImage expected) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++)
-      for (int y = 0; y < h; y++)
-        if (actual.getRGB(x, y) != expected.getRGB(x, y)) return false;
-    return true;
-  }
-
   /**
    * Verifies that the actual image is not <code>null</code>.
    * @return this assertion object.
@@ -0,0 +1,315 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.awt.image.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.awt.image.BufferedImage.*;
+import static java.lang.Math.*;
+
+import static org.fest.util.Strings.concat;
+
+/**
+ * Understands comparison of the colors of two images of the same size.
+ * <p>
+ * Pixels are read a row at a time, directly from the <code>{@link DataBuffer}</code> of the images when they are of
+ * type <code>{@link BufferedImage#TYPE_INT_RGB}</code>, <code>{@link BufferedImage#TYPE_INT_ARGB}</code>,
+ * <code>{@link BufferedImage#TYPE_3BYTE_BGR}</code> or <code>{@link BufferedImage#TYPE_4BYTE_ABGR}</code>, and
+ * through <code>{@link BufferedImage#getRGB(int, int, int, int, int[], int, int)}</code> otherwise. Big images are
+ * compared in parallel, in horizontal stripes.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class ImageComparator {
+
+  static final int TILE_SIZE = 16;
+
+  private static final int PARALLEL_THRESHOLD = 512 * 512;
+  private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+  private static final int DIFFERENT_PIXEL = 0xFFFF0000;
+  private static final int FADE_MASK = 0x40FFFFFF;
+
+  /**
+   * Compares all the pixels of the given images.
+   * @param actual the actual image.
+   * @param expected the expected image, with the same size as the actual one.
+   * @param threshold the tolerance to use when comparing pixels.
+   * @return the result of the comparison.
+   */
+  static ImageDifference compare(BufferedImage actual, BufferedImage expected, Threshold threshold) {
+    return scan(actual, expected, threshold, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Indicates whether the given images are equal, using the given threshold. Unlike
+   * <code>{@link #compare(BufferedImage, BufferedImage, Threshold)}</code>, this method stops as soon as it finds more
+   * differing pixels than the ones allowed.
+   * @param actual the actual image.
+   * @param expected the expected image, with the same size as the actual one.
+   * @param threshold the tolerance to use when comparing pixels.
+   * @return <code>true</code> if the images are equal, <code>false</code> otherwise.
+   */
+  static boolean isEqual(BufferedImage actual, BufferedImage expected, Threshold threshold) {
+    int max = threshold.maxDifferingPixels();
+    return scan(actual, expected, threshold, max).differingPixels() <= max;
+  }
+
+  private static ImageDifference scan(BufferedImage actual, BufferedImage expected, Threshold threshold, int limit) {
+    Scan scan = new Scan(actual, expected, threshold.channelTolerance(), limit);
+    int height = actual.getHeight();
+    if ((long)actual.getWidth() * height < PARALLEL_THRESHOLD || PROCESSORS < 2) {
+      scan.scanRows(0, height);
+      return scan.result();
+    }
+    int tileRows = scan.tileRows;
+    int stripeCount = min(PROCESSORS * 4, tileRows);
+    int stripeHeight = ((tileRows + stripeCount - 1) / stripeCount) * TILE_SIZE;
+    List<Callable<Void>> stripes = new ArrayList<Callable<Void>>();
+    for (int y = 0; y < height; y += stripeHeight) stripes.add(scan.stripe(y, min(y + stripeHeight, height)));
+    runAll(stripes);
+    return scan.result();
+  }
+
+  private static void runAll(List<Callable<Void>> tasks) {
+    try {
+      for (Future<Void> f : Workers.POOL.invokeAll(tasks)) f.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while comparing images", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+      if (cause instanceof Error) throw (Error)cause;
+      throw new IllegalStateException("Unable to compare images", cause);
+    }
+  }
+
+  /**
+   * Creates an image highlighting the differences between the given images: pixels that are not equal are painted red,
+   * while the rest of the pixels are copied, faded, from the expected image.
+   * @param actual the actual image.
+   * @param expected the expected image, with the same size as the actual one.
+   * @param threshold the tolerance to use when comparing pixels.
+   * @return the created image.
+   */
+  static BufferedImage diffImage(BufferedImage actual, BufferedImage expected, Threshold threshold) {
+    int width = actual.getWidth();
+    int height = actual.getHeight();
+    int tolerance = threshold.channelTolerance();
+    BufferedImage diff = new BufferedImage(width, height, TYPE_INT_ARGB);
+    PixelRows actualRows = PixelRows.of(actual);
+    PixelRows expectedRows = PixelRows.of(expected);
+    int[] a = new int[width];
+    int[] e = new int[width];
+    int[] d = new int[width];
+    for (int y = 0; y < height; y++) {
+      actualRows.read(y, a);
+      expectedRows.read(y, e);
+      for (int x = 0; x < width; x++) d[x] = areEqual(a[x], e[x], tolerance) ? e[x] & FADE_MASK : DIFFERENT_PIXEL;
+      diff.setRGB(0, y, width, 1, d, 0, width);
+    }
+    return diff;
+  }
+
+  static boolean areEqual(int argb1, int argb2, int tolerance) {
+    if (argb1 == argb2) return true;
+    if (tolerance == 0) return false;
+    for (int shift = 0; shift < 32; shift += 8)
+      if (abs(((argb1 >>> shift) & 0xFF) - ((argb2 >>> shift) & 0xFF)) > tolerance) return false;
+    return true;
+  }
+
+  private static class Scan {
+    final BufferedImage actual;
+    final BufferedImage expected;
+    final int tolerance;
+    final int limit;
+    final int width;
+    final int tileColumns;
+    final int tileRows;
+    final AtomicInteger differingPixels = new AtomicInteger();
+    final int[][] tileBounds;
+
+    Scan(BufferedImage actual, BufferedImage expected, int tolerance, int limit) {
+      this.actual = actual;
+      this.expected = expected;
+      this.tolerance = tolerance;
+      this.limit = limit;
+      width = actual.getWidth();
+      tileColumns = (width + TILE_SIZE - 1) / TILE_SIZE;
+      tileRows = (actual.getHeight() + TILE_SIZE - 1) / TILE_SIZE;
+      tileBounds = new int[tileColumns * tileRows][];
+    }
+
+    Callable<Void> stripe(final int fromRow, final int toRow) {
+      return new Callable<Void>() {
+        public Void call() {
+          scanRows(fromRow, toRow);
+          return null;
+        }
+      };
+    }
+
+    /*
+     * Stripes always start at the top of a row of tiles, so two stripes never update the bounds of the same tile.
+     */
+    void scanRows(int fromRow, int toRow) {
+      PixelRows actualRows = PixelRows.of(actual);
+      PixelRows expectedRows = PixelRows.of(expected);
+      int[] a = new int[width];
+      int[] e = new int[width];
+      for (int y = fromRow; y < toRow; y++) {
+        if (differingPixels.get() > limit) return;
+        actualRows.read(y, a);
+        expectedRows.read(y, e);
+        int count = 0;
+        for (int x = 0; x < width; x++) {
+          if (areEqual(a[x], e[x], tolerance)) continue;
+          mark(x, y);
+          count++;
+        }
+        if (count > 0) differingPixels.addAndGet(count);
+      }
+    }
+
+    private void mark(int x, int y) {
+      int tile = (y / TILE_SIZE) * tileColumns + x / TILE_SIZE;
+      int[] bounds = tileBounds[tile];
+      if (bounds == null) {
+        tileBounds[tile] = new int[] { x, y, x, y };
+        return;
+      }
+      if (x < bounds[0]) bounds[0] = x;
+      if (x > bounds[2]) bounds[2] = x;
+      bounds[3] = y;
+    }
+
+    ImageDifference result() {
+      return new ImageDifference(differingPixels.get(), tileColumns, tileRows, tileBounds);
+    }
+  }
+
+  private static abstract class PixelRows {
+    static PixelRows of(BufferedImage image) {
+      WritableRaster raster = image.getRaster();
+      DataBuffer buffer = raster.getDataBuffer();
+      SampleModel sampleModel = raster.getSampleModel();
+      if (buffer.getNumBanks() == 1) {
+        int type = image.getType();
+        if ((type == TYPE_INT_RGB || type == TYPE_INT_ARGB) && buffer instanceof DataBufferInt
+            && sampleModel instanceof SinglePixelPackedSampleModel)
+          return new IntPixelRows(raster, (DataBufferInt)buffer, (SinglePixelPackedSampleModel)sampleModel,
+              type == TYPE_INT_RGB);
+        if ((type == TYPE_3BYTE_BGR || type == TYPE_4BYTE_ABGR) && buffer instanceof DataBufferByte
+            && sampleModel instanceof ComponentSampleModel)
+          return new BytePixelRows(raster, (DataBufferByte)buffer, (ComponentSampleModel)sampleModel,
+              type == TYPE_4BYTE_ABGR);
+      }
+      return new RgbPixelRows(image);
+    }
+
+    /**
+     * Reads the colors of the pixels in the given row, in the default RGB color model.
+     * @param y the index of the row.
+     * @param row the array to store the colors in.
+     */
+    abstract void read(int y, int[] row);
+  }
+
+  private static class IntPixelRows extends PixelRows {
+    private final int[] data;
+    private final int origin;
+    private final int scanlineStride;
+    private final int alpha;
+
+    IntPixelRows(Raster raster, DataBufferInt buffer, SinglePixelPackedSampleModel sampleModel, boolean opaque) {
+      data = buffer.getData();
+      scanlineStride = sampleModel.getScanlineStride();
+      origin = buffer.getOffset() - raster.getSampleModelTranslateY() * scanlineStride
+          - raster.getSampleModelTranslateX();
+      alpha = opaque ? 0xFF000000 : 0;
+    }
+
+    void read(int y, int[] row) {
+      int start = origin + y * scanlineStride;
+      for (int x = 0; x < row.length; x++) row[x] = data[start + x] | alpha;
+    }
+  }
+
+  private static class BytePixelRows extends PixelRows {
+    private final byte[] data;
+    private final int origin;
+    private final int scanlineStride;
+    private final int pixelStride;
+    private final int red;
+    private final int green;
+    private final int blue;
+    private final int alpha;
+
+    BytePixelRows(Raster raster, DataBufferByte buffer, ComponentSampleModel sampleModel, boolean hasAlpha) {
+      data = buffer.getData();
+      scanlineStride = sampleModel.getScanlineStride();
+      pixelStride = sampleModel.getPixelStride();
+      origin = buffer.getOffset() - raster.getSampleModelTranslateY() * scanlineStride
+          - raster.getSampleModelTranslateX() * pixelStride;
+      int[] bandOffsets = sampleModel.getBandOffsets();
+      red = bandOffsets[0];
+      green = bandOffsets[1];
+      blue = bandOffsets[2];
+      alpha = hasAlpha ? bandOffsets[3] : -1;
+    }
+
+    void read(int y, int[] row) {
+      int i = origin + y * scanlineStride;
+      for (int x = 0; x < row.length; x++, i += pixelStride) {
+        int a = alpha < 0 ? 0xFF : data[i + alpha] & 0xFF;
+        row[x] = a << 24 | (data[i + red] & 0xFF) << 16 | (data[i + green] & 0xFF) << 8 | data[i + blue] & 0xFF;
+      }
+    }
+  }
+
+  private static class RgbPixelRows extends PixelRows {
+    private final BufferedImage image;
+
+    RgbPixelRows(BufferedImage image) {
+      this.image = image;
+    }
+
+    void read(int y, int[] row) {
+      image.getRGB(0, y, row.length, 1, row, 0, row.length);
+    }
+  }
+
+  private static class Workers {
+    static final ExecutorService POOL = Executors.newFixedThreadPool(PROCESSORS, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, concat("fest-image-comparison-", count.incrementAndGet()));
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  private ImageComparator() {}
+}
@@ -0,0 +1,91 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.*;
+
+/**
+ * Understands the result of comparing the colors of two images.
+ *
+ * @see ImageComparator
+ *
+ * @author Alex Ruiz
+ */
+final class ImageDifference {
+
+  private final int differingPixels;
+  private final int tileColumns;
+  private final int tileRows;
+  private final int[][] tileBounds;
+
+  ImageDifference(int differingPixels, int tileColumns, int tileRows, int[][] tileBounds) {
+    this.differingPixels = differingPixels;
+    this.tileColumns = tileColumns;
+    this.tileRows = tileRows;
+    this.tileBounds = tileBounds;
+  }
+
+  /**
+   * Returns the number of pixels that are not equal.
+   * @return the number of pixels that are not equal.
+   */
+  int differingPixels() { return differingPixels; }
+
+  /**
+   * Returns the bounding boxes of the regions containing pixels that are not equal, in the order in which the regions are
+   * found scanning the images from top to bottom. Pixels that are not equal belong to the same region if they are closer than
+   * <code>{@link ImageComparator#TILE_SIZE}</code> pixels from each other.
+   * @return the bounding boxes of the regions containing pixels that are not equal.
+   */
+  List<Rectangle> regions() {
+    List<Rectangle> regions = new ArrayList<Rectangle>();
+    boolean[] visited = new boolean[tileBounds.length];
+    int[] pending = new int[tileBounds.length];
+    for (int tile = 0; tile < tileBounds.length; tile++) {
+      if (tileBounds[tile] == null || visited[tile]) continue;
+      int[] region = tileBounds[tile].clone();
+      visited[tile] = true;
+      int size = 0;
+      pending[size++] = tile;
+      while (size > 0) {
+        int current = pending[--size];
+        merge(region, tileBounds[current]);
+        int row = current / tileColumns;
+        int column = current % tileColumns;
+        for (int r = max(row - 1, 0); r <= min(row + 1, tileRows - 1); r++)
+          for (int c = max(column - 1, 0); c <= min(column + 1, tileColumns - 1); c++) {
+            int neighbor = r * tileColumns + c;
+            if (tileBounds[neighbor] == null || visited[neighbor]) continue;
+            visited[neighbor] = true;
+            pending[size++] = neighbor;
+          }
+      }
+      regions.add(new Rectangle(region[0], region[1], region[2] - region[0] + 1, region[3] - region[1] + 1));
+    }
+    return regions;
+  }
+
+  private static void merge(int[] region, int[] bounds) {
+    region[0] = min(region[0], bounds[0]);
+    region[1] = min(region[1], bounds[1]);
+    region[2] = max(region[2], bounds[2]);
+    region[3] = max(region[3], bounds[3]);
+  }
+}
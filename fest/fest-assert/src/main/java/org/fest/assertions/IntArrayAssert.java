@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.fest.assertions.Fail.*;
+import static org.fest.assertions.PrimitiveArrays.encode;
 
 /**
  * Understands assertion methods for <code>int</code> arrays. To create a new instance of this class use the
@@ -113,7 +114,7 @@ public final class IntArrayAssert extends ArrayAssert<int[]> {
    */
   public IntArrayAssert contains(int...values) {
     isNotNull();
-    assertContains(list(values));
+    assertContains(values, encode(actual), encode(values));
     return this;
   }
 
@@ -127,7 +128,7 @@ public final class IntArrayAssert extends ArrayAssert<int[]> {
    */
   public IntArrayAssert containsOnly(int...values) {
     isNotNull();
-    assertContainsOnly(list(values));
+    assertContainsOnly(values, encode(actual), encode(values));
     return this;
   }
 
@@ -140,7 +141,7 @@ public final class IntArrayAssert extends ArrayAssert<int[]> {
    */
   public IntArrayAssert excludes(int...values) {
     isNotNull();
-    assertExcludes(list(values));
+    assertExcludes(values, encode(actual), encode(values));
     return this;
   }
 
@@ -208,7 +209,7 @@ public final class IntArrayAssert extends ArrayAssert<int[]> {
    */
   public IntArrayAssert isEqualTo(int[] expected) {
     if (!Arrays.equals(actual, expected))
-      fail(errorMessageIfNotEqual(actual, expected));
+      fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -221,7 +222,7 @@ public final class IntArrayAssert extends ArrayAssert<int[]> {
    */
   public IntArrayAssert isNotEqualTo(int[] array) {
     if (Arrays.equals(actual, array))
-      fail(errorMessageIfEqual(actual, array));
+      fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
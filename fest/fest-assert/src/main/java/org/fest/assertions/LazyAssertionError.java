@@ -0,0 +1,54 @@
+/*
+ * Created on Jul 24, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.io.ObjectStreamException;
+
+/**
+ * Understands an <code>{@link AssertionError}</code> whose message is built only when it is requested.
+ *
+ * @see LazyMessage
+ *
+ * @author Alex Ruiz
+ */
+final class LazyAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Description message;
+
+  LazyAssertionError(Description message) {
+    this.message = message;
+  }
+
+  /**
+   * Returns the message of this error, building it if necessary.
+   * @return the message of this error.
+   */
+  @Override public String getMessage() {
+    return message != null ? message.value() : null;
+  }
+
+  /*
+   * The message is not serializable: errors are serialized as regular AssertionErrors containing the built message.
+   */
+  private Object writeReplace() throws ObjectStreamException {
+    AssertionError error = new AssertionError(getMessage());
+    error.initCause(getCause());
+    error.setStackTrace(getStackTrace());
+    return error;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Created on Jul 24, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static org.fest.assertions.Formatting.*;
+
+/**
+ * Understands a message that is built only when its value is requested, for the first time. Failure messages that
+ * include the actual value of an assertion, or any other potentially big object, should be passed to
+ * <code>{@link GenericAssert#fail(Description)}</code> as a <code>{@link LazyMessage}</code>: the thrown
+ * <code>{@link AssertionError}</code> formats them only when <code>{@link AssertionError#getMessage()}</code> is
+ * called, which never happens if the error is caught and discarded (e.g. by code that retries an assertion until it
+ * passes.)
+ * <p>
+ * Since formatting is deferred, the message shows the state of the formatted objects at the time the message is
+ * requested, not at the time the assertion failed.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class LazyMessage implements Description {
+
+  private final Object[] parts;
+  private String value;
+
+  /**
+   * Creates a new <code>{@link LazyMessage}</code> made of the given parts. Parts that are
+   * <code>{@link Description}</code>s are replaced by their value, other parts by their <code>String</code>
+   * representation.
+   * @param parts the parts of the message.
+   * @return the created message.
+   */
+  static LazyMessage lazyMessage(Object...parts) {
+    return new LazyMessage(parts);
+  }
+
+  /**
+   * Returns a <code>{@link Description}</code> whose value is the <code>String</code> representation of the given
+   * object in brackets, including only the first <code>{@link Formatting#MAX_ELEMENTS_IN_MESSAGE}</code> elements of
+   * collections and arrays. The given object is not formatted until the value is requested.
+   * @param o the object to format.
+   * @return the created <code>Description</code>.
+   */
+  static Description bracketed(Object o) {
+    return new Bracketed(o, true);
+  }
+
+  /**
+   * Returns a <code>{@link Description}</code> whose value is the <code>String</code> representation of the given
+   * object in brackets, including all the elements of collections and arrays. Use this method instead of
+   * <code>{@link #bracketed(Object)}</code> when two objects are compared, since truncating them may hide their
+   * differences. The given object is not formatted until the value is requested.
+   * @param o the object to format.
+   * @return the created <code>Description</code>.
+   */
+  static Description bracketedInFull(Object o) {
+    return new Bracketed(o, false);
+  }
+
+  private LazyMessage(Object[] parts) {
+    this.parts = parts;
+  }
+
+  /**
+   * Builds this message the first time this method is called.
+   * @return the value of this message.
+   */
+  public synchronized String value() {
+    if (value != null) return value;
+    StringBuilder b = new StringBuilder();
+    for (Object part : parts) b.append(part instanceof Description ? ((Description)part).value() : part);
+    value = b.toString();
+    return value;
+  }
+
+  /** @see java.lang.Object#toString() */
+  @Override public String toString() {
+    return value();
+  }
+
+  private static class Bracketed implements Description {
+    private final Object o;
+    private final boolean truncated;
+
+    Bracketed(Object o, boolean truncated) {
+      this.o = o;
+      this.truncated = truncated;
+    }
+
+    public String value() {
+      return truncated ? inBrackets(o, MAX_ELEMENTS_IN_MESSAGE) : inBrackets(o);
+    }
+
+    @Override public String toString() {
+      return value();
+    }
+  }
+}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.fest.assertions.Fail.*;
+import static org.fest.assertions.PrimitiveArrays.encode;
 
 /**
  * Understands assertion methods for <code>long</code> arrays. To create a new instance of this class use the
@@ -113,7 +114,7 @@ public final class LongArrayAssert extends ArrayAssert<long[]> {
    */
   public LongArrayAssert contains(long...values) {
     isNotNull();
-    assertContains(list(values));
+    assertContains(values, encode(actual), encode(values));
     return this;
   }
 
@@ -127,7 +128,7 @@ public final class LongArrayAssert extends ArrayAssert<long[]> {
    */
   public LongArrayAssert containsOnly(long...values) {
     isNotNull();
-    assertContainsOnly(list(values));
+    assertContainsOnly(values, encode(actual), encode(values));
     return this;
   }
 
@@ -140,7 +141,7 @@ public final class LongArrayAssert extends ArrayAssert<long[]> {
    */
   public LongArrayAssert excludes(long...values) {
     isNotNull();
-    assertExcludes(list(values));
+    assertExcludes(values, encode(actual), encode(values));
     return this;
   }
 
@@ -207,7 +208,7 @@ public final class LongArrayAssert extends ArrayAssert<long[]> {
    * @throws AssertionError if the actual <code>long</code> array is not equal to the given one.
    */
   public LongArrayAssert isEqualTo(long[] expected) {
-    if (!Arrays.equals(actual, expected)) fail(errorMessageIfNotEqual(actual, expected));
+    if (!Arrays.equals(actual, expected)) fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -219,7 +220,7 @@ public final class LongArrayAssert extends ArrayAssert<long[]> {
    * @throws AssertionError if the actual <code>long</code> array is equal to the given one.
    */
   public LongArrayAssert isNotEqualTo(long[] array) {
-    if (Arrays.equals(actual, array)) fail(errorMessageIfEqual(actual, array));
+    if (Arrays.equals(actual, array)) fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
@@ -21,7 +21,8 @@ import java.util.Map;
 
 import org.fest.util.Maps;
 
-import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.LazyMessage.*;
 import static org.fest.util.Strings.*;
 
 /**
@@ -168,8 +169,9 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
 
   private boolean containsEntry(Entry e) {
     if (e == null) throw new IllegalArgumentException("The entry to check should not be null");
-    if (!actual.containsKey(e.key)) return false;
-    return actual.containsValue(e.value);
+    Object value = actual.get(e.key);
+    if (value == null) return e.value == null && actual.containsKey(e.key);
+    return value.equals(e.value);
   }
 
   private String entryOrEntries(List<Entry> found) {
@@ -208,7 +210,8 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
   }
 
   private void failIfNotFound(String description, Collection<?> notFound) {
-    fail(concat("the map:", formattedActual(), " does not contain the ", description, ":", inBrackets(notFound)));
+    fail(lazyMessage("the map:", formattedActual(), " does not contain the ", description, ":",
+        bracketed(notFound)));
   }
 
   private void validate(String description, Object[] objects) {
@@ -217,7 +220,8 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
   }
 
   private void failIfFound(String description, Collection<?> found) {
-    fail(concat("the map:", formattedActual(), " contains the ", description, ":", inBrackets(found)));
+    fail(lazyMessage("the map:", formattedActual(), " contains the ", description, ":",
+        bracketed(found)));
   }
 
   /**
@@ -231,8 +235,8 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
     isNotNull();
     int actualSize = actualGroupSize();
     if (actualSize != expected)
-      fail(concat(
-          "expected size:", inBrackets(expected)," but was:", inBrackets(actualSize), " for map:", inBrackets(actual)));
+      fail(lazyMessage(
+          "expected size:", inBrackets(expected)," but was:", inBrackets(actualSize), " for map:", formattedActual()));
     return this;
   }
 
@@ -242,7 +246,7 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
    */
   public final void isNullOrEmpty() {
     if (Maps.isEmpty(actual)) return;
-    fail(concat("expecting a null or empty map, but was:", formattedActual()));
+    fail(lazyMessage("expecting a null or empty map, but was:", formattedActual()));
   }
 
   /**
@@ -253,12 +257,12 @@ public final class MapAssert extends GroupAssert<Map<?, ?>> {
   public void isEmpty() {
     isNotNull();
     if ((actual != null) && !actual.isEmpty()) {
-      fail(concat("expecting empty map, but was:", formattedActual()));
+      fail(lazyMessage("expecting empty map, but was:", formattedActual()));
     }
   }
 
-  private String formattedActual() {
-    return inBrackets(actual);
+  private Description formattedActual() {
+    return bracketed(actual);
   }
 
   /**
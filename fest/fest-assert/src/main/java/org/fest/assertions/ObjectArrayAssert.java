@@ -21,8 +21,8 @@ import java.util.List;
 
 import static org.fest.assertions.Fail.*;
 import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.assertions.LazyMessage.lazyMessage;
 import static org.fest.util.Collections.*;
-import static org.fest.util.Strings.concat;
 
 /**
  * Understands assertions for <code>Object</code> arrays.  To create a new instance of this class use the
@@ -127,7 +127,7 @@ public final class ObjectArrayAssert extends ArrayAssert<Object[]> {
     isNotNull();
     for (Object o : actual)
       if (!type.isInstance(o))
-        fail(concat("not all elements in array:", actualInBrackets(), " belong to the type:", inBrackets(type)));
+        fail(lazyMessage("not all elements in array:", actualInBrackets(), " belong to the type:", inBrackets(type)));
     return this;
   }
 
@@ -146,7 +146,7 @@ public final class ObjectArrayAssert extends ArrayAssert<Object[]> {
       found = true;
       break;
     }
-    if (!found) fail(concat("array:", actualInBrackets(), " does not have any elements of type:", inBrackets(type)));
+    if (!found) fail(lazyMessage("array:", actualInBrackets(), " does not have any elements of type:", inBrackets(type)));
     return this;
   }
 
@@ -205,7 +205,7 @@ public final class ObjectArrayAssert extends ArrayAssert<Object[]> {
     Collection<?> actualAsList = list(actual);
     Collection<?> duplicates = duplicatesFrom(actualAsList);
     if (!duplicates.isEmpty())
-      fail(concat("array:", actualInBrackets(), " contains duplicate(s):", inBrackets(duplicates)));
+      fail(lazyMessage("array:", actualInBrackets(), " contains duplicate(s):", format(duplicates)));
     return this;
   }
 
@@ -262,7 +262,7 @@ public final class ObjectArrayAssert extends ArrayAssert<Object[]> {
    * @throws AssertionError if the actual <code>Object</code> array is not equal to the given one.
    */
   public ObjectArrayAssert isEqualTo(Object[] expected) {
-    if (!Arrays.equals(actual, expected)) fail(errorMessageIfNotEqual(actual, expected));
+    if (!Arrays.equals(actual, expected)) fail(lazyErrorMessageIfNotEqual(actual, expected));
     return this;
   }
 
@@ -274,7 +274,7 @@ public final class ObjectArrayAssert extends ArrayAssert<Object[]> {
    * @throws AssertionError if the actual <code>Object</code> array is equal to the given one.
    */
   public ObjectArrayAssert isNotEqualTo(Object[] array) {
-    if (Arrays.equals(actual, array)) fail(errorMessageIfEqual(actual, array));
+    if (Arrays.equals(actual, array)) fail(lazyErrorMessageIfEqual(actual, array));
     return this;
   }
 
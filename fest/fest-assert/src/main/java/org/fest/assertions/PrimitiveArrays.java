@@ -0,0 +1,264 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.Arrays;
+
+/**
+ * Understands searching of values in arrays of primitives, without boxing them.
+ * <p>
+ * Arrays are accessed through <code>{@link EncodedArray}</code> views, which encode each element as a
+ * <code>long</code> when it is read, in such a way that two encoded values are equal if and only if the wrappers of
+ * the original values are equal (e.g. <code>{@link Double#equals(Object)}</code>.) Arrays are never copied: the
+ * values to look for are turned into a small set of keys (a counting table for <code>boolean</code>s,
+ * <code>byte</code>s, <code>char</code>s and <code>short</code>s, or the sorted distinct values for any other type)
+ * and the array to search is scanned once, stopping as soon as the result is known.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class PrimitiveArrays {
+
+  private static final int BOOLEAN_KEY_COUNT = 2;
+  private static final int BYTE_KEY_COUNT = 1 << 8;
+  private static final int CHAR_KEY_COUNT = 1 << 16;
+  private static final int SHORT_KEY_COUNT = 1 << 16;
+
+  /**
+   * Understands a read-only view of an array of primitives, whose elements are encoded as <code>long</code>s when
+   * accessed.
+   */
+  abstract static class EncodedArray {
+    final int length;
+    final int keyCount;
+
+    /**
+     * Creates a new </code>{@link EncodedArray}</code>.
+     * @param length the length of the array.
+     * @param keyCount the number of distinct values the elements can have, if small enough to use a counting table
+     * (encoded elements are then between 0 and <code>keyCount - 1</code>,) or 0 otherwise.
+     */
+    EncodedArray(int length, int keyCount) {
+      this.length = length;
+      this.keyCount = keyCount;
+    }
+
+    abstract long get(int index);
+  }
+
+  static EncodedArray encode(final boolean[] values) {
+    return new EncodedArray(values.length, BOOLEAN_KEY_COUNT) {
+      long get(int index) { return values[index] ? 1 : 0; }
+    };
+  }
+
+  static EncodedArray encode(final byte[] values) {
+    return new EncodedArray(values.length, BYTE_KEY_COUNT) {
+      long get(int index) { return values[index] & 0xFF; }
+    };
+  }
+
+  static EncodedArray encode(final char[] values) {
+    return new EncodedArray(values.length, CHAR_KEY_COUNT) {
+      long get(int index) { return values[index]; }
+    };
+  }
+
+  static EncodedArray encode(final double[] values) {
+    return new EncodedArray(values.length, 0) {
+      long get(int index) { return Double.doubleToLongBits(values[index]); }
+    };
+  }
+
+  static EncodedArray encode(final float[] values) {
+    return new EncodedArray(values.length, 0) {
+      long get(int index) { return Float.floatToIntBits(values[index]); }
+    };
+  }
+
+  static EncodedArray encode(final int[] values) {
+    return new EncodedArray(values.length, 0) {
+      long get(int index) { return values[index]; }
+    };
+  }
+
+  static EncodedArray encode(final long[] values) {
+    return new EncodedArray(values.length, 0) {
+      long get(int index) { return values[index]; }
+    };
+  }
+
+  static EncodedArray encode(final short[] values) {
+    return new EncodedArray(values.length, SHORT_KEY_COUNT) {
+      long get(int index) { return values[index] & 0xFFFF; }
+    };
+  }
+
+  /**
+   * Returns the indices of the given values that are not in the given array.
+   * @param array the array to search.
+   * @param values the values to look for.
+   * @return the indices (in <code>values</code>) of the values that were not found.
+   */
+  static int[] indicesNotFound(EncodedArray array, EncodedArray values) {
+    return indices(search(array, values), false);
+  }
+
+  /**
+   * Returns the indices of the given values that are in the given array.
+   * @param array the array to search.
+   * @param values the values to look for.
+   * @return the indices (in <code>values</code>) of the values that were found.
+   */
+  static int[] indicesFound(EncodedArray array, EncodedArray values) {
+    return indices(search(array, values), true);
+  }
+
+  private static boolean[] search(EncodedArray array, EncodedArray values) {
+    Keys keys = keysOf(values);
+    boolean[] present = new boolean[keys.count];
+    int pending = keys.distinctCount;
+    for (int i = 0; i < array.length && pending > 0; i++) {
+      int key = keys.keyOf(array.get(i));
+      if (key < 0 || present[key]) continue;
+      present[key] = true;
+      pending--;
+    }
+    boolean[] found = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) found[i] = present[keys.keyOf(values.get(i))];
+    return found;
+  }
+
+  private static int[] indices(boolean[] flags, boolean flag) {
+    int count = 0;
+    for (boolean f : flags) if (f == flag) count++;
+    int[] indices = new int[count];
+    int index = 0;
+    for (int i = 0; i < flags.length; i++) if (flags[i] == flag) indices[index++] = i;
+    return indices;
+  }
+
+  /**
+   * Removes from the given array the first occurrence of each of the given values.
+   * @param array the array to remove the values from.
+   * @param values the values to remove.
+   * @param maxRemaining the maximum number of indices of elements not removed to return.
+   * @return the indices of the values that were not found, the indices of the first <code>maxRemaining</code> elements
+   * in the array that were not removed and, as the only element of the last array, the number of elements that were
+   * not removed, in that order.
+   */
+  static int[][] removeFirstOccurrences(EncodedArray array, EncodedArray values, int maxRemaining) {
+    Keys keys = keysOf(values);
+    int[] pending = new int[keys.count];
+    for (int i = 0; i < values.length; i++) pending[keys.keyOf(values.get(i))]++;
+    int[] removed = new int[keys.count];
+    int[] remaining = new int[0];
+    int remainingCount = 0;
+    for (int i = 0; i < array.length; i++) {
+      int key = keys.keyOf(array.get(i));
+      if (key >= 0 && pending[key] > 0) {
+        pending[key]--;
+        removed[key]++;
+        continue;
+      }
+      if (remainingCount < maxRemaining) {
+        if (remainingCount == remaining.length)
+          remaining = copyOf(remaining, Math.min(remainingCount * 2 + 1, maxRemaining));
+        remaining[remainingCount] = i;
+      }
+      remainingCount++;
+    }
+    boolean[] notFound = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      int key = keys.keyOf(values.get(i));
+      if (removed[key] > 0) removed[key]--;
+      else notFound[i] = true;
+    }
+    int[] firstRemaining = copyOf(remaining, Math.min(remainingCount, maxRemaining));
+    return new int[][] { indices(notFound, true), firstRemaining, { remainingCount } };
+  }
+
+  // Arrays.copyOf(int[], int) is not available in Java 5.
+  private static int[] copyOf(int[] array, int length) {
+    int[] copy = new int[length];
+    System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+    return copy;
+  }
+
+  private static Keys keysOf(EncodedArray values) {
+    if (values.keyCount > 0) return new TableKeys(values);
+    return new SortedKeys(values);
+  }
+
+  /*
+   * Maps each of the values to look for to a key between 0 and count - 1, and any other value to -1.
+   */
+  private abstract static class Keys {
+    int count;
+    int distinctCount;
+
+    abstract int keyOf(long value);
+  }
+
+  private static class TableKeys extends Keys {
+    private final boolean[] wanted;
+
+    TableKeys(EncodedArray values) {
+      count = values.keyCount;
+      wanted = new boolean[count];
+      for (int i = 0; i < values.length; i++) {
+        int value = (int)values.get(i);
+        if (wanted[value]) continue;
+        wanted[value] = true;
+        distinctCount++;
+      }
+    }
+
+    int keyOf(long value) {
+      return wanted[(int)value] ? (int)value : -1;
+    }
+  }
+
+  private static class SortedKeys extends Keys {
+    private final long[] keys;
+
+    SortedKeys(EncodedArray values) {
+      long[] sorted = new long[values.length];
+      for (int i = 0; i < sorted.length; i++) sorted[i] = values.get(i);
+      Arrays.sort(sorted);
+      for (int i = 0; i < sorted.length; i++)
+        if (count == 0 || sorted[count - 1] != sorted[i]) sorted[count++] = sorted[i];
+      keys = sorted;
+      distinctCount = count;
+    }
+
+    // Arrays.binarySearch(long[], int, int, long) is not available in Java 5.
+    int keyOf(long value) {
+      int low = 0;
+      int high = count - 1;
+      while (low <= high) {
+        int middle = (low + high) >>> 1;
+        long key = keys[middle];
+        if (key < value) low = middle + 1;
+        else if (key > value) high = middle - 1;
+        else return middle;
+      }
+      return -1;
+    }
+  }
+
+  private PrimitiveArrays() {}
+}
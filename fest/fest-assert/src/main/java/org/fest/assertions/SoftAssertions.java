@@ -0,0 +1,231 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.valueOf;
+import static org.fest.util.Systems.LINE_SEPARATOR;
+
+/**
+ * Understands a collector of assertion failures. Assertions executed by
+ * <code>{@link #check(Runnable)}</code> do not throw an <code>{@link AssertionError}</code> when they fail: their
+ * failures are recorded by this collector and reported all at once, in a single <code>AssertionError</code>, by
+ * <code>{@link #assertAll()}</code>.
+ * <p>
+ * Example:
+ * <pre>
+ * final SoftAssertions softly = new SoftAssertions();
+ * for (final Row row : rows) {
+ *   softly.check(new Runnable() {
+ *     public void run() {
+ *       assertThat(row.name()).isNotEmpty();
+ *       assertThat(row.age()).isGreaterThan(0);
+ *     }
+ *   });
+ * }
+ * softly.assertAll();
+ * </pre>
+ * </p>
+ * <p>
+ * The first failing assertion in a check ends such check, since the following ones may depend on it (e.g. an
+ * assertion on the size of a collection that was expected not to be <code>null</code>.) Recording a failure does not
+ * create an <code>AssertionError</code>, and its message is not built until <code>{@link #assertAll()}</code> is
+ * called. Failures are located by the call to <code>{@link #check(Runnable)}</code> that executed them: a stack trace
+ * is captured only for the first failure of each class of <code>{@link Runnable}</code> (e.g. each anonymous
+ * <code>Runnable</code> in a test,) and the location found is reused for the following failures of that class. The
+ * cause of a failure (see <code>{@link Fail#fail(String, Throwable)}</code>) is kept and reported by
+ * <code>{@link #assertAll()}</code>.
+ * </p>
+ * <p>
+ * A check is ended by throwing an <code>{@link Error}</code> that is only meant to be caught by
+ * <code>{@link #check(Runnable)}</code>. The given <code>Runnable</code> (and any method it calls) should not catch
+ * <code>{@link Throwable}</code> or <code>Error</code> around assertions: doing so swallows the end of the check, and
+ * the assertions that follow the failing one are executed as if it had passed. The failure is still recorded, and
+ * <code>{@link #check(Runnable)}</code> still returns <code>false</code>.
+ * </p>
+ * <p>
+ * Only the assertions executed in the thread that calls <code>{@link #check(Runnable)}</code> are recorded. Instances
+ * of this class are not thread-safe.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class SoftAssertions {
+
+  private static final ThreadLocal<SoftAssertions> current = new ThreadLocal<SoftAssertions>();
+
+  private final List<Failure> failures = new ArrayList<Failure>();
+  private final Map<Class<?>, StackTraceElement> locations = new HashMap<Class<?>, StackTraceElement>();
+
+  private Class<?> callSite;
+
+  /**
+   * Executes the given assertions, recording the first one that fails instead of throwing an
+   * <code>{@link AssertionError}</code>. Any other exception thrown by the given assertions is not caught.
+   * @param assertions the assertions to execute.
+   * @return <code>true</code> if all the given assertions passed, <code>false</code> otherwise.
+   * @throws IllegalArgumentException if the given assertions are <code>null</code>.
+   */
+  public boolean check(Runnable assertions) {
+    if (assertions == null) throw new IllegalArgumentException("The assertions to check should not be null");
+    SoftAssertions previous = current.get();
+    Class<?> previousCallSite = callSite;
+    current.set(this);
+    callSite = assertions.getClass();
+    int failureCount = failures.size();
+    try {
+      assertions.run();
+      return failures.size() == failureCount;
+    } catch (CheckEnded e) {
+      return false;
+    } finally {
+      callSite = previousCallSite;
+      if (previous != null) current.set(previous);
+      else current.remove();
+    }
+  }
+
+  /**
+   * Records the given failure if an assertion is being executed by <code>{@link #check(Runnable)}</code> in the
+   * current thread, ending the check. Otherwise this method does nothing.
+   * @param message the description of the failure.
+   */
+  static void collectIfChecking(Description message) {
+    collectIfChecking(message, null);
+  }
+
+  /**
+   * Records the given failure and its cause if an assertion is being executed by <code>{@link #check(Runnable)}</code>
+   * in the current thread, ending the check. Otherwise this method does nothing.
+   * @param message the description of the failure.
+   * @param cause the cause of the failure, may be <code>null</code>.
+   */
+  static void collectIfChecking(Description message, Throwable cause) {
+    SoftAssertions collector = current.get();
+    if (collector == null) return;
+    collector.collect(message, cause);
+    throw CheckEnded.INSTANCE;
+  }
+
+  /**
+   * Indicates whether an assertion is being executed by <code>{@link #check(Runnable)}</code> in the current thread.
+   * @return <code>true</code> if failures in the current thread are recorded instead of thrown, <code>false</code>
+   * otherwise.
+   */
+  static boolean checking() {
+    return current.get() != null;
+  }
+
+  private void collect(Description message, Throwable cause) {
+    failures.add(new Failure(message, cause, location()));
+  }
+
+  /*
+   * The location of a failure is the frame that called check, found in a stack trace captured only once per class of
+   * Runnable.
+   */
+  private StackTraceElement location() {
+    if (locations.containsKey(callSite)) return locations.get(callSite);
+    StackTraceElement location = callerOfCheck(new Throwable().getStackTrace());
+    locations.put(callSite, location);
+    return location;
+  }
+
+  private static StackTraceElement callerOfCheck(StackTraceElement[] stackTrace) {
+    String className = SoftAssertions.class.getName();
+    for (int i = 0; i < stackTrace.length - 1; i++) {
+      StackTraceElement e = stackTrace[i];
+      if (className.equals(e.getClassName()) && "check".equals(e.getMethodName())) return stackTrace[i + 1];
+    }
+    return null;
+  }
+
+  /**
+   * Throws an <code>{@link AssertionError}</code> listing all the failures recorded by this collector, if any. The
+   * cause of the thrown error is the cause of the first failure that has one.
+   * @throws AssertionError if any of the assertions executed by <code>{@link #check(Runnable)}</code> failed.
+   */
+  public void assertAll() {
+    int count = failures.size();
+    if (count == 0) return;
+    StringBuilder b = new StringBuilder();
+    b.append(count).append(" soft assertion(s) failed:");
+    Throwable firstCause = null;
+    for (int i = 0; i < count; i++) {
+      Failure failure = failures.get(i);
+      b.append(LINE_SEPARATOR).append(i + 1).append(") ").append(failure.message());
+      if (failure.location != null) b.append(" (checked at ").append(failure.location).append(")");
+      if (failure.cause == null) continue;
+      b.append(" caused by: ").append(failure.cause);
+      if (firstCause == null) firstCause = failure.cause;
+    }
+    AssertionError error = new AssertionError(b.toString());
+    if (firstCause != null) error.initCause(firstCause);
+    throw error;
+  }
+
+  /**
+   * Returns the number of failures recorded by this collector.
+   * @return the number of failures recorded by this collector.
+   */
+  public int failureCount() {
+    return failures.size();
+  }
+
+  /**
+   * Returns the messages of the failures recorded by this collector, in the order they were recorded.
+   * @return the messages of the failures recorded by this collector.
+   */
+  public List<String> failureMessages() {
+    List<String> messages = new ArrayList<String>(failures.size());
+    for (Failure failure : failures) messages.add(failure.message());
+    return messages;
+  }
+
+  private static class Failure {
+    final Description message;
+    final Throwable cause;
+    final StackTraceElement location;
+
+    Failure(Description message, Throwable cause, StackTraceElement location) {
+      this.message = message;
+      this.cause = cause;
+      this.location = location;
+    }
+
+    String message() {
+      return valueOf(message != null ? message.value() : null);
+    }
+  }
+
+  /*
+   * Ends the execution of a check after its first failure. It is never seen outside this class, so it does not need a
+   * stack trace.
+   */
+  private static class CheckEnded extends Error {
+    private static final long serialVersionUID = 1L;
+
+    static final CheckEnded INSTANCE = new CheckEnded();
+
+    @Override public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static org.fest.util.Strings.concat;
+
+/**
+ * Understands the tolerance to use when comparing the colors of two images. Two pixels are considered equal if none of
+ * their alpha, red, green and blue channels differ by more than the tolerance per channel. Two images are considered
+ * equal if the number of pixels that are not equal is not greater than the maximum number of differing pixels.
+ * <p>
+ * For example:
+ * <pre>
+ * assertThat(screenshot).isEqualTo(baseline, <strong>threshold(4).maxDifferingPixels(100)</strong>);
+ * </pre>
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class Threshold {
+
+  private static final int MAX_CHANNEL_TOLERANCE = 255;
+
+  private final int channelTolerance;
+  private final int maxDifferingPixels;
+
+  /**
+   * Creates a new <code>{@link Threshold}</code> that does not allow any differing pixels.
+   * @param channelTolerance the maximum difference allowed between the values of the same channel of two pixels.
+   * @return the created <code>Threshold</code>.
+   * @throws IllegalArgumentException if the given tolerance is negative or greater than 255.
+   */
+  public static Threshold threshold(int channelTolerance) {
+    return new Threshold(channelTolerance, 0);
+  }
+
+  private Threshold(int channelTolerance, int maxDifferingPixels) {
+    if (channelTolerance < 0 || channelTolerance > MAX_CHANNEL_TOLERANCE)
+      throw new IllegalArgumentException(
+          concat("The tolerance per channel should be between 0 and 255, but was:<", channelTolerance, ">"));
+    if (maxDifferingPixels < 0)
+      throw new IllegalArgumentException(
+          concat("The maximum number of differing pixels should not be negative, but was:<", maxDifferingPixels, ">"));
+    this.channelTolerance = channelTolerance;
+    this.maxDifferingPixels = maxDifferingPixels;
+  }
+
+  /**
+   * Creates a new <code>{@link Threshold}</code> with the same tolerance per channel as this one, that allows the
+   * given number of differing pixels.
+   * @param count the maximum number of pixels that can differ.
+   * @return the created <code>Threshold</code>.
+   * @throws IllegalArgumentException if the given number is negative.
+   */
+  public Threshold maxDifferingPixels(int count) {
+    return new Threshold(channelTolerance, count);
+  }
+
+  /**
+   * Returns the maximum difference allowed between the values of the same channel of two pixels.
+   * @return the maximum difference allowed between the values of the same channel of two pixels.
+   */
+  public int channelTolerance() { return channelTolerance; }
+
+  /**
+   * Returns the maximum number of pixels that can differ.
+   * @return the maximum number of pixels that can differ.
+   */
+  public int maxDifferingPixels() { return maxDifferingPixels; }
+
+  /** @see java.lang.Object#toString() */
+  @Override public String toString() {
+    return concat(
+        getClass().getSimpleName(), "[",
+        "channelTolerance=", channelTolerance, ", ",
+        "maxDifferingPixels=", maxDifferingPixels, "]"
+    );
+  }
+}
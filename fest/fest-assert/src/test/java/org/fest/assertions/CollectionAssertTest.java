@@ -508,6 +508,21 @@ public class CollectionAssertTest {
         });
   }
 
+  @Test public void shouldFailShowingOnlyFirstElementsIfActualIsLargeAndHasNotExpectedValues() {
+    List<Integer> numbers = new ArrayList<Integer>();
+    for (int i = 0; i < 1000; i++) numbers.add(i);
+    String message = null;
+    try {
+      new CollectionAssert(numbers).containsOnly(0, 1);
+    } catch (AssertionError e) {
+      message = e.getMessage();
+    }
+    assertNotNull(message);
+    assertTrue(message.startsWith("unexpected element(s):<[2, 3, 4, "));
+    assertTrue(message.contains(", 51, ...(948 more)]> in collection:<[0, 1, 2, "));
+    assertTrue(message.endsWith(", 49, ...(950 more)]>"));
+  }
+
   @Test public void shouldFailIfActualDoesNotContainExpectedElement() {
     expectAssertionError("collection:<['Gandalf', 'Frodo']> does not contain element(s):<['Sam']>").on(
         new CodeToTest() {
@@ -0,0 +1,123 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+
+import static org.fest.assertions.Collections.*;
+import static org.fest.util.Collections.list;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for <code>{@link Collections}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class CollectionsTest {
+
+  @Test public void shouldReturnObjectsNotFoundInOrder() {
+    List<String> target = list("Luke", "Leia", "Han");
+    assertEquals(notFound(target, "Yoda", "Leia", "Anakin", "Yoda"), list("Yoda", "Anakin", "Yoda"));
+  }
+
+  @Test public void shouldReturnObjectsFoundInOrder() {
+    List<String> target = list("Luke", "Leia", "Han", null);
+    assertEquals(found(target, "Han", "Yoda", null, "Luke", "Han"), list("Han", null, "Luke", "Han"));
+  }
+
+  @Test public void shouldUseSetLookUpIfTargetIsSet() {
+    TreeSet<String> target = new TreeSet<String>(CASE_INSENSITIVE_ORDER);
+    target.add("Luke");
+    assertEquals(notFound(target, "LUKE", "Leia"), list("Leia"));
+  }
+
+  @Test public void shouldFindObjectsThatCannotBeHashed() {
+    List<Object> target = new ArrayList<Object>();
+    target.add("Luke");
+    target.add(new NotHashable("Leia"));
+    assertEquals(found(target, new NotHashable("Leia"), "Luke", new NotHashable("Han")).size(), 2);
+    assertEquals(notFound(target, new NotHashable("Han"), "Luke"), list(new NotHashable("Han")));
+  }
+
+  @Test public void shouldFindObjectsWhoseHashCodeThrowsException() {
+    List<Object> target = new ArrayList<Object>();
+    target.add("Luke");
+    target.add(new HashCodeThrowsException("Leia"));
+    assertEquals(found(target, new HashCodeThrowsException("Leia"), "Luke").size(), 2);
+  }
+
+  @Test public void shouldRemoveFirstOccurrencesAndReturnObjectsNotFound() {
+    List<Object> target = new ArrayList<Object>(list("Luke", "Leia", "Luke", "Han", "Luke"));
+    List<Object> notFound = removeFirstOccurrences(target, new ArrayList<Object>(list("Luke", "Yoda", "Luke")));
+    assertEquals(notFound, list("Yoda"));
+    assertEquals(target, list("Leia", "Han", "Luke"));
+  }
+
+  @Test public void shouldRemoveFirstOccurrencesOfObjectsThatCannotBeHashed() {
+    List<Object> target = new ArrayList<Object>();
+    target.add(new NotHashable("Leia"));
+    target.add("Luke");
+    List<Object> objects = new ArrayList<Object>();
+    objects.add("Luke");
+    objects.add(new NotHashable("Han"));
+    List<Object> notFound = removeFirstOccurrences(target, objects);
+    assertEquals(notFound, list(new NotHashable("Han")));
+    assertEquals(target, list(new NotHashable("Leia")));
+  }
+
+  @Test public void shouldFindAllObjectsInLargeCollection() {
+    List<Object> target = new ArrayList<Object>();
+    for (int i = 0; i < 100000; i++) target.add(i);
+    Object[] objects = new Object[10000];
+    for (int i = 0; i < objects.length; i++) objects[i] = i * 10;
+    assertTrue(notFound(target, objects).isEmpty());
+    assertTrue(removeFirstOccurrences(target, list(objects)).isEmpty());
+    assertEquals(target.size(), 90000);
+  }
+
+  private static class NotHashable {
+    private final String name;
+
+    NotHashable(String name) { this.name = name; }
+
+    @Override public boolean equals(Object obj) {
+      if (!(obj instanceof NotHashable)) return false;
+      return name.equals(((NotHashable)obj).name);
+    }
+
+    @Override public String toString() { return name; }
+  }
+
+  private static class HashCodeThrowsException {
+    private final String name;
+
+    HashCodeThrowsException(String name) { this.name = name; }
+
+    @Override public boolean equals(Object obj) {
+      if (!(obj instanceof HashCodeThrowsException)) return false;
+      return name.equals(((HashCodeThrowsException)obj).name);
+    }
+
+    @Override public int hashCode() { throw new UnsupportedOperationException(); }
+  }
+}
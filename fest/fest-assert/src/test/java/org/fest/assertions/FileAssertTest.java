@@ -16,6 +16,7 @@ package org.fest.assertions;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -423,6 +424,40 @@ public class FileAssertTest {
     new FileAssert(file, comparator).hasSameContentAs(expected);
   }
 
+  @Test public void shouldSucceedIfFilesHaveSameContentUsingCharset() {
+    file.exists(true);
+    FileContentComparatorStub comparator = new FileContentComparatorStub();
+    FileStub expected = new FileStub("c:\\temp\\expected.txt");
+    expected.exists(true);
+    Charset charset = Charset.forName("UTF-8");
+    new FileAssert(file, comparator).hasSameContentAs(expected, charset);
+    assertSame(comparator.charset, charset);
+  }
+
+  @Test public void shouldFailIfFilesHaveDifferentContentUsingCharset() {
+    file.exists(true);
+    final FileContentComparatorStub comparator = new FileContentComparatorStub();
+    comparator.lineDiffs(new LineDiff(6, "abc", "xyz"));
+    final String message =
+      concat("file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:",
+          LINE_SEPARATOR, "line:<6>, expected:<'xyz'> but was:<'abc'>");
+    expectAssertionError(message).on(new CodeToTest() {
+      public void run() {
+        FileStub expected = new FileStub("c:\\temp\\expected.txt");
+        expected.exists(true);
+        new FileAssert(file, comparator).hasSameContentAs(expected, Charset.forName("UTF-8"));
+      }
+    });
+  }
+
+  @Test public void shouldThrowErrorIfCharsetIsNull() {
+    expectIllegalArgumentException("Charset to decode files should not be null").on(new CodeToTest() {
+      public void run() {
+        new FileAssert(file).hasSameContentAs(new FileStub("c:\\temp\\expected.txt"), null);
+      }
+    });
+  }
+
   @Test public void shouldFailIfIOExceptionThrownWhenComparingFiles() {
     file.exists(true);
     FileContentComparatorStub comparator = new FileContentComparatorStub();
@@ -468,6 +503,7 @@ public class FileAssertTest {
   static class FileContentComparatorStub extends FileContentComparator {
     private LineDiff[] diffs = new LineDiff[0];
     private IOException e;
+    private Charset charset;
 
     void lineDiffs(LineDiff...diffs) {
       this.diffs = diffs;
@@ -481,6 +517,11 @@ public class FileAssertTest {
       if (e != null) throw e;
       return diffs;
     }
+
+    @Override LineDiff[] compareContents(File actual, File expected, Charset charset) throws IOException {
+      this.charset = charset;
+      return compareContents(actual, expected);
+    }
   }
 
   @Test public void shouldFailIfActualIsNullWhenCheckingIfIsAbsolute() {
@@ -15,10 +15,14 @@
  */
 package org.fest.assertions;
 
+import static org.fest.assertions.FileContentComparator.MAX_LINE_DIFFS;
 import static org.fest.assertions.Resources.file;
 import static org.fest.util.Strings.concat;
 import static org.testng.Assert.assertEquals;
 
+import java.io.*;
+import java.nio.charset.Charset;
+
 import org.fest.assertions.FileContentComparator.LineDiff;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
@@ -76,12 +80,72 @@ public class FileContentComparatorTest {
         { "fileAssertTest2.txt", "fileAssertTest3.txt",
           diffs(diff(1, "abcde fghij abcde fghij", "abcde fghij abcde fghij z")) },
         { "fileAssertTest1.txt", "fileAssertTest2.txt",
-          diffs(diff(0, "this file is 22 bytes.", "abcde fghij"), diff(0, "EOF", "abcde fghij")) },
+          diffs(diff(0, "this file is 22 bytes.", "abcde fghij"), diff(1, "EOF", "abcde fghij abcde fghij")) },
         { "fileAssertTest2.txt", "fileAssertTest1.txt",
-          diffs(diff(0, "abcde fghij", "this file is 22 bytes."), diff(0, "abcde fghij", "EOF")) }
+          diffs(diff(0, "abcde fghij", "this file is 22 bytes."), diff(1, "abcde fghij abcde fghij", "EOF")) }
     };
   }
 
+  @Test public void shouldReturnDiffsForFilesWithSameSize() throws Exception {
+    File actual = temporaryFile("abc\ndef\nghi\n");
+    File expected = temporaryFile("abc\nxyz\nghi\n");
+    verifyIfEqual(comparator.compareContents(actual, expected), diffs(diff(1, "def", "xyz")));
+  }
+
+  @Test public void shouldReturnNoDiffsForEqualFilesBiggerThanOneChunk() throws Exception {
+    byte[] content = bytes(3 * 1024 * 1024 + 5);
+    assertEquals(comparator.compareContents(temporaryFile(content), temporaryFile(content)).length, 0);
+  }
+
+  @Test public void shouldReturnDiffsForFilesBiggerThanOneChunkDifferingInLastByte() throws Exception {
+    byte[] content = bytes(2 * 1024 * 1024 + 3);
+    File actual = temporaryFile(content);
+    content[content.length - 1] = 'z';
+    File expected = temporaryFile(content);
+    assertEquals(comparator.compareContents(actual, expected).length, 1);
+  }
+
+  @Test public void shouldReturnOnlyFirstDiffs() throws Exception {
+    StringBuilder actual = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < MAX_LINE_DIFFS * 2; i++) {
+      actual.append("a").append(i).append("\n");
+      expected.append("b").append(i).append("\n");
+    }
+    LineDiff[] diffs = comparator.compareContents(temporaryFile(actual.toString()), temporaryFile(expected.toString()));
+    assertEquals(diffs.length, MAX_LINE_DIFFS);
+    verifyIfEqual(MAX_LINE_DIFFS - 1, diffs[MAX_LINE_DIFFS - 1], diff(MAX_LINE_DIFFS - 1, "a49", "b49"));
+  }
+
+  @Test public void shouldDecodeLinesUsingGivenCharset() throws Exception {
+    File actual = temporaryFile("caf\u00e9\n".getBytes("UTF-8"));
+    File expected = temporaryFile("cafe\n".getBytes("UTF-8"));
+    LineDiff[] diffs = comparator.compareContents(actual, expected, Charset.forName("UTF-8"));
+    verifyIfEqual(diffs, diffs(diff(0, "caf\u00e9", "cafe")));
+  }
+
+  private static byte[] bytes(int size) {
+    byte[] bytes = new byte[size];
+    for (int i = 0; i < size; i++) bytes[i] = (byte)(i % 64 == 63 ? '\n' : 'a' + i % 26);
+    return bytes;
+  }
+
+  private static File temporaryFile(String content) throws IOException {
+    return temporaryFile(content.getBytes("US-ASCII"));
+  }
+
+  private static File temporaryFile(byte[] content) throws IOException {
+    File file = File.createTempFile("fileContentComparatorTest", ".txt");
+    file.deleteOnExit();
+    OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(content);
+    } finally {
+      out.close();
+    }
+    return file;
+  }
+
   private LineDiff[] diffs(LineDiff...diffs) {
     return diffs;
   }
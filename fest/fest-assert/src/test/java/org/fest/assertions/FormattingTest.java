@@ -15,6 +15,7 @@
  */
 package org.fest.assertions;
 
+import static org.fest.util.Collections.list;
 import static org.testng.Assert.assertEquals;
 
 import org.testng.annotations.Test;
@@ -95,4 +96,26 @@ public class FormattingTest {
     Object o = new short[] { (short)5, (short)8 };
     assertEquals(Formatting.inBrackets(o), "<[5, 8]>");
   }
+
+  @Test public void shouldFormatCollectionWithMaximumNumberOfElements() {
+    assertEquals(Formatting.inBrackets(list("Luke", "Leia"), 2), "<['Luke', 'Leia']>");
+  }
+
+  @Test public void shouldFormatOnlyFirstElementsOfCollection() {
+    assertEquals(Formatting.inBrackets(list("Luke", "Leia", "Han", "Yoda"), 2), "<['Luke', 'Leia', ...(2 more)]>");
+  }
+
+  @Test public void shouldFormatOnlyFirstElementsOfArray() {
+    Object o = new int[] { 6, 8, 10 };
+    assertEquals(Formatting.inBrackets(o, 2), "<[6, 8, ...(1 more)]>");
+  }
+
+  @Test public void shouldFormatArrayWithMaximumNumberOfElements() {
+    Object o = new String[] { "Luke", "Leia" };
+    assertEquals(Formatting.inBrackets(o, 2), "<['Luke', 'Leia']>");
+  }
+
+  @Test public void shouldFormatObjectThatIsNotGroupIgnoringMaximumNumberOfElements() {
+    assertEquals(Formatting.inBrackets((Object)"Luke", 0), "<'Luke'>");
+  }
 }
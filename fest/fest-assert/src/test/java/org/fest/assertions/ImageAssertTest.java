@@ -21,6 +21,8 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 
+import javax.imageio.ImageIO;
+
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
@@ -30,6 +32,7 @@ import static java.awt.Color.*;
 
 import static org.fest.assertions.CommonFailures.*;
 import static org.fest.assertions.Resources.file;
+import static org.fest.assertions.Threshold.threshold;
 import static org.fest.test.ExpectedFailure.expectAssertionError;
 import static org.fest.util.Strings.concat;
 
@@ -488,6 +491,54 @@ public class ImageAssertTest {
     return image(5, 5, BLUE);
   }
 
+  @Test public void shouldPassIfImageColorsAreEqualUsingThreshold() {
+    BufferedImage a = fivePixelBlueImage();
+    BufferedImage e = image(5, 5, new Color(0, 0, 250));
+    e.setRGB(3, 3, YELLOW.getRGB());
+    new ImageAssert(a).isEqualTo(e, threshold(5).maxDifferingPixels(1));
+  }
+
+  @Test public void shouldThrowErrorIfThresholdIsNull() {
+    expectIllegalArgumentException("The threshold should not be null").on(new CodeToTest() {
+      public void run() {
+        new ImageAssert(fivePixelBlueImage()).isEqualTo(fivePixelBlueImage(), null);
+      }
+    });
+  }
+
+  @Test public void shouldFailShowingDifferingRegionsIfImageColorsAreNotEqualUsingThreshold() {
+    String message = concat(
+        "[A Test] images do not have the same color(s), expected at most:<1> differing pixel(s) but was:<2> ",
+        "using a tolerance per channel of:<5>, differing region(s):<[[x=1, y=2, width=2, height=1]]>");
+    expectAssertionError(message).on(new CodeToTest() {
+      public void run() {
+        BufferedImage a = fivePixelBlueImage();
+        BufferedImage e = fivePixelBlueImage();
+        e.setRGB(1, 2, YELLOW.getRGB());
+        e.setRGB(2, 2, YELLOW.getRGB());
+        new ImageAssert(a).as("A Test").isEqualTo(e, threshold(5).maxDifferingPixels(1));
+      }
+    });
+  }
+
+  @Test public void shouldSaveDiffImageIfImageColorsAreNotEqual() throws IOException {
+    File diffImageFile = File.createTempFile("diff", ".png");
+    diffImageFile.deleteOnExit();
+    BufferedImage e = fivePixelBlueImage();
+    e.setRGB(4, 0, YELLOW.getRGB());
+    String message = null;
+    try {
+      new ImageAssert(fivePixelBlueImage()).savingDiffImageTo(diffImageFile).isEqualTo(e);
+    } catch (AssertionError error) {
+      message = error.getMessage();
+    }
+    assertEquals(message, concat("images do not have the same color(s) (differences saved to '",
+        diffImageFile.getAbsolutePath(), "')"));
+    BufferedImage diff = ImageIO.read(diffImageFile);
+    assertEquals(diff.getRGB(4, 0), RED.getRGB());
+    assertFalse(diff.getRGB(0, 0) == RED.getRGB());
+  }
+
   private BufferedImage fivePixelYellowImage() {
     return image(5, 5, YELLOW);
   }
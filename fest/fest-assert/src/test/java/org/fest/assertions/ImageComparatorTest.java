@@ -0,0 +1,151 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static java.awt.image.BufferedImage.*;
+
+import static org.fest.assertions.ImageComparator.*;
+import static org.fest.assertions.Threshold.threshold;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for <code>{@link ImageComparator}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageComparatorTest {
+
+  private static final Threshold EXACT = threshold(0);
+
+  @Test(dataProvider = "imageTypes")
+  public void shouldReadSameColorsAsGetRGB(int imageType) {
+    BufferedImage image = randomImage(40, 30, imageType);
+    BufferedImage copy = argbCopyOf(image);
+    assertTrue(isEqual(image, copy, EXACT));
+    assertTrue(isEqual(copy, image, EXACT));
+  }
+
+  @Test(dataProvider = "imageTypes")
+  public void shouldReadSameColorsAsGetRGBFromSubimage(int imageType) {
+    BufferedImage image = randomImage(40, 30, imageType).getSubimage(7, 5, 20, 12);
+    assertTrue(isEqual(image, argbCopyOf(image), EXACT));
+  }
+
+  @Test(dataProvider = "imageTypes")
+  public void shouldFindDifferentPixel(int imageType) {
+    BufferedImage image = randomImage(40, 30, imageType);
+    BufferedImage copy = argbCopyOf(image);
+    copy.setRGB(13, 17, ~copy.getRGB(13, 17) | 0xFF000000);
+    assertFalse(isEqual(image, copy, EXACT));
+    assertEquals(compare(image, copy, EXACT).differingPixels(), 1);
+  }
+
+  @DataProvider(name = "imageTypes") public Object[][] imageTypes() {
+    return new Object[][] {
+        { TYPE_INT_RGB }, { TYPE_INT_ARGB }, { TYPE_3BYTE_BGR }, { TYPE_4BYTE_ABGR }, { TYPE_INT_BGR }, { TYPE_BYTE_GRAY }
+    };
+  }
+
+  @Test public void shouldIgnoreDifferencesWithinTolerance() {
+    BufferedImage a = image(10, 10, 0xFF102030);
+    BufferedImage e = image(10, 10, 0xFF102030);
+    e.setRGB(2, 2, 0xFF131D30);
+    e.setRGB(4, 4, 0xFF102034);
+    assertTrue(isEqual(a, e, threshold(4)));
+    assertFalse(isEqual(a, e, threshold(3)));
+    assertTrue(isEqual(a, e, threshold(3).maxDifferingPixels(1)));
+    assertEquals(compare(a, e, threshold(3)).differingPixels(), 1);
+    assertEquals(compare(a, e, threshold(2)).differingPixels(), 2);
+  }
+
+  @Test public void shouldCompareBigImagesInStripes() {
+    BufferedImage a = image(1024, 1024, 0xFF000000);
+    BufferedImage e = image(1024, 1024, 0xFF000000);
+    e.setRGB(0, 0, 0xFFFFFFFF);
+    e.setRGB(500, 511, 0xFFFFFFFF);
+    e.setRGB(501, 512, 0xFFFFFFFF);
+    e.setRGB(1023, 1023, 0xFFFFFFFF);
+    ImageDifference difference = compare(a, e, EXACT);
+    assertEquals(difference.differingPixels(), 4);
+    List<Rectangle> regions = difference.regions();
+    assertEquals(regions.size(), 3);
+    assertEquals(regions.get(0), new Rectangle(0, 0, 1, 1));
+    assertEquals(regions.get(1), new Rectangle(500, 511, 2, 2));
+    assertEquals(regions.get(2), new Rectangle(1023, 1023, 1, 1));
+  }
+
+  @Test public void shouldStopComparingOnceMaxDifferingPixelsIsExceeded() {
+    BufferedImage a = image(1024, 1024, 0xFF000000);
+    BufferedImage e = image(1024, 1024, 0xFFFFFFFF);
+    assertFalse(isEqual(a, e, threshold(0).maxDifferingPixels(10)));
+  }
+
+  @Test public void shouldMergeDifferencesInNeighborTilesIntoSameRegion() {
+    BufferedImage a = image(64, 64, 0xFF000000);
+    BufferedImage e = image(64, 64, 0xFF000000);
+    for (int i = 10; i < 40; i++) e.setRGB(i, i, 0xFFFFFFFF);
+    e.setRGB(60, 2, 0xFFFFFFFF);
+    List<Rectangle> regions = compare(a, e, EXACT).regions();
+    assertEquals(regions.size(), 2);
+    assertEquals(regions.get(0), new Rectangle(10, 10, 30, 30));
+    assertEquals(regions.get(1), new Rectangle(60, 2, 1, 1));
+  }
+
+  @Test public void shouldPaintDifferentPixelsRedInDiffImage() {
+    BufferedImage a = image(4, 4, 0xFF0000FF);
+    BufferedImage e = image(4, 4, 0xFF0000FF);
+    e.setRGB(1, 2, 0xFF00FF00);
+    BufferedImage diff = diffImage(a, e, EXACT);
+    assertEquals(diff.getRGB(1, 2), 0xFFFF0000);
+    assertEquals(diff.getRGB(0, 0), 0x400000FF);
+  }
+
+  private static BufferedImage randomImage(int width, int height, int imageType) {
+    BufferedImage image = new BufferedImage(width, height, imageType);
+    Random random = new Random(width * height + imageType);
+    for (int y = 0; y < height; y++)
+      for (int x = 0; x < width; x++)
+        image.setRGB(x, y, random.nextInt());
+    return image;
+  }
+
+  private static BufferedImage argbCopyOf(BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    BufferedImage copy = new BufferedImage(width, height, TYPE_INT_ARGB);
+    for (int y = 0; y < height; y++)
+      for (int x = 0; x < width; x++)
+        copy.setRGB(x, y, image.getRGB(x, y));
+    return copy;
+  }
+
+  private static BufferedImage image(int width, int height, int argb) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_ARGB);
+    for (int y = 0; y < height; y++)
+      for (int x = 0; x < width; x++)
+        image.setRGB(x, y, argb);
+    return image;
+  }
+}
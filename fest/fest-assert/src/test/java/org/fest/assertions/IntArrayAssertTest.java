@@ -384,6 +384,31 @@ public class IntArrayAssertTest {
     new IntArrayAssert(8).containsOnly(8);
   }
 
+  @Test public void shouldFailIfLargeArrayHasUnexpectedElementsShowingOnlyFirstElements() {
+    int[] actual = new int[1000];
+    for (int i = 0; i < actual.length; i++) actual[i] = i;
+    String message = null;
+    try {
+      new IntArrayAssert(actual).containsOnly(999, 0);
+    } catch (AssertionError e) {
+      message = e.getMessage();
+    }
+    assertNotNull(message);
+    assertTrue(message.startsWith("unexpected element(s):<[1, 2, 3, "));
+    assertTrue(message.contains(", 50, ...(948 more)]> in array:<[0, 1, 2, "));
+    assertTrue(message.endsWith(", 49, ...(950 more)]>"));
+  }
+
+  @Test public void shouldPassIfLargeArrayContainsOnlyGivenValues() {
+    int[] actual = new int[100000];
+    int[] values = new int[actual.length];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = i % 1000;
+      values[values.length - 1 - i] = i % 1000;
+    }
+    new IntArrayAssert(actual).containsOnly(values).contains(values).excludes(1000, -1);
+  }
+
   @Test public void shouldFailIfArrayIsEmptyWhenLookingForSpecificElements() {
     expectAssertionError("array:<[]> does not contain element(s):<[90, 82]>").on(new CodeToTest() {
       public void run() {
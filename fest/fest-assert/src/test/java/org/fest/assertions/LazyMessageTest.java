@@ -0,0 +1,106 @@
+/*
+ * Created on Jul 24, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.fest.assertions.LazyMessage.*;
+import static org.fest.util.Collections.list;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for <code>{@link LazyMessage}</code> and <code>{@link LazyAssertionError}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class LazyMessageTest {
+
+  @Test public void shouldBuildMessageFromParts() {
+    LazyMessage message = lazyMessage("collection:", bracketed(list("Luke", "Leia")), " has size ", 2);
+    assertEquals(message.value(), "collection:<['Luke', 'Leia']> has size 2");
+  }
+
+  @Test public void shouldFormatOnlyFirstElementsOfGroups() {
+    int[] array = new int[Formatting.MAX_ELEMENTS_IN_MESSAGE + 2];
+    assertTrue(bracketed(array).value().endsWith(", 0, ...(2 more)]>"));
+  }
+
+  @Test public void shouldFormatAllElementsOfComparedGroups() {
+    List<Integer> actual = new ArrayList<Integer>();
+    List<Integer> expected = new ArrayList<Integer>();
+    for (int i = 0; i < Formatting.MAX_ELEMENTS_IN_MESSAGE + 10; i++) {
+      actual.add(i);
+      expected.add(i == Formatting.MAX_ELEMENTS_IN_MESSAGE + 5 ? -1 : i);
+    }
+    try {
+      new CollectionAssert(actual).isEqualTo(expected);
+      fail();
+    } catch (AssertionError e) {
+      assertFalse(e.getMessage().contains("more)"), e.getMessage());
+      assertTrue(e.getMessage().contains(", -1, "), e.getMessage());
+    }
+  }
+
+  @Test public void shouldNotFormatPartsUntilValueIsRequested() {
+    ToStringCounter counter = new ToStringCounter();
+    LazyMessage message = lazyMessage("value:", bracketed(counter));
+    assertEquals(counter.count, 0);
+    message.value();
+    message.value();
+    assertEquals(counter.count, 1);
+  }
+
+  @Test public void shouldNotFormatActualValueIfFailureMessageIsNotRequested() {
+    ToStringCounter counter = new ToStringCounter();
+    List<Object> actual = list((Object)counter);
+    AssertionError error = null;
+    try {
+      new CollectionAssert(actual).isEmpty();
+    } catch (AssertionError e) {
+      error = e;
+    }
+    assertNotNull(error);
+    assertEquals(counter.count, 0);
+    assertEquals(error.getMessage(), "expecting empty collection, but was:<[ToStringCounter]>");
+    assertEquals(counter.count, 1);
+  }
+
+  @Test public void shouldSerializeErrorWithBuiltMessage() throws Exception {
+    LazyAssertionError error = new LazyAssertionError(lazyMessage("value:", bracketed("Luke")));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(error);
+    out.close();
+    ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    AssertionError deserialized = (AssertionError)in.readObject();
+    assertEquals(deserialized.getMessage(), "value:<'Luke'>");
+    assertEquals(deserialized.getStackTrace().length, error.getStackTrace().length);
+  }
+
+  private static class ToStringCounter {
+    int count;
+
+    @Override public String toString() {
+      count++;
+      return "ToStringCounter";
+    }
+  }
+}
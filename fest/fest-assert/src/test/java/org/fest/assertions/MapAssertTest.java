@@ -252,6 +252,15 @@ public class MapAssertTest {
     });
   }
 
+  @Test public void shouldFailIfGivenValueIsAssociatedWithOtherKey() {
+    expectAssertionError("the map:<{'key1'=1, 'key2'=2}> does not contain the entry:<['key1'=2]>").on(new CodeToTest() {
+      public void run() {
+        Map<Object, Object> map = map(entry("key1", 1), entry("key2", 2));
+        new MapAssert(map).includes(entry("key1", 2));
+      }
+    });
+  }
+
   @Test public void shouldPassIfGivenEntriesAreNotInMap() {
     Map<Object, Object> map = map(entry("key1", 1), entry("key2", 2));
     new MapAssert(map).excludes(entry("key6", 6), entry("key8", 8));
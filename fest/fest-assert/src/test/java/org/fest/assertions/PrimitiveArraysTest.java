@@ -0,0 +1,94 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import static org.fest.assertions.PrimitiveArrays.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for <code>{@link PrimitiveArrays}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class PrimitiveArraysTest {
+
+  @Test public void shouldEncodeDoublesLikeDoubleEquals() {
+    EncodedArray encoded = encode(new double[] { Double.NaN, Double.NaN, 0.0, -0.0 });
+    assertEquals(encoded.get(0), encoded.get(1));
+    assertFalse(encoded.get(2) == encoded.get(3));
+  }
+
+  @Test public void shouldEncodeFloatsLikeFloatEquals() {
+    EncodedArray encoded = encode(new float[] { Float.NaN, Float.NaN, 0.0f, -0.0f });
+    assertEquals(encoded.get(0), encoded.get(1));
+    assertFalse(encoded.get(2) == encoded.get(3));
+  }
+
+  @Test public void shouldReturnIndicesOfValuesNotFound() {
+    long[] array = { 6, 8, 2 };
+    assertIndices(indicesNotFound(encode(array), encode(new long[] { 8, 3, 6, 3 })), 1, 3);
+  }
+
+  @Test public void shouldReturnIndicesOfValuesNotFoundUsingCountingTable() {
+    byte[] array = { -128, 8, -1, 127 };
+    byte[] values = { -1, 0, 127, -128, 1, -1 };
+    assertIndices(indicesNotFound(encode(array), encode(values)), 1, 4);
+    assertIndices(indicesFound(encode(array), encode(values)), 0, 2, 3, 5);
+  }
+
+  @Test public void shouldReturnIndicesOfValuesNotFoundInManyValues() {
+    long[] array = new long[1000];
+    for (int i = 0; i < array.length; i++) array[i] = array.length - i;
+    long[] values = { 5, 0, 1000, 1001, 8, 9, 10, 11, 12, -1 };
+    assertIndices(indicesNotFound(encode(array), encode(values)), 1, 3, 9);
+    assertIndices(indicesFound(encode(array), encode(values)), 0, 2, 4, 5, 6, 7, 8);
+  }
+
+  @Test public void shouldRemoveFirstOccurrencesAndKeepOrderOfRemainingElements() {
+    long[] array = { 6, 8, 6, 2, 6 };
+    int[][] mismatches = removeFirstOccurrences(encode(array), encode(new long[] { 6, 3, 2, 6 }), 50);
+    assertIndices(mismatches[0], 1);
+    assertIndices(mismatches[1], 1, 4);
+  }
+
+  @Test public void shouldRemoveFirstOccurrencesUsingCountingTable() {
+    short[] array = { -6, 8, -6, 2, -6 };
+    int[][] mismatches = removeFirstOccurrences(encode(array), encode(new short[] { -6, 3, 2, -6 }), 50);
+    assertIndices(mismatches[0], 1);
+    assertIndices(mismatches[1], 1, 4);
+  }
+
+  @Test public void shouldRemoveAllElements() {
+    int[][] mismatches = removeFirstOccurrences(encode(new long[] { 1, 2, 2 }), encode(new long[] { 2, 1, 2 }), 50);
+    assertEquals(mismatches[0].length, 0);
+    assertEquals(mismatches[1].length, 0);
+  }
+
+  @Test public void shouldOnlyRecordIndicesOfRemainingElementsUpToGivenMaximum() {
+    int[][] mismatches = removeFirstOccurrences(encode(new int[] { 1, 2, 3, 4, 5 }), encode(new int[] { 2 }), 2);
+    assertIndices(mismatches[1], 0, 2);
+    assertEquals(mismatches[2][0], 4);
+  }
+
+  private static void assertIndices(int[] actual, int...expected) {
+    assertTrue(Arrays.equals(actual, expected), Arrays.toString(actual));
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.test.CodeToTest;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.CommonFailures.expectIllegalArgumentException;
+import static org.fest.test.ExpectedFailure.expectAssertionError;
+import static org.fest.util.Collections.list;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for <code>{@link SoftAssertions}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class SoftAssertionsTest {
+
+  private SoftAssertions softly;
+
+  @BeforeMethod public void setUp() {
+    softly = new SoftAssertions();
+  }
+
+  @Test public void shouldNotRecordFailuresIfAssertionsPass() {
+    boolean passed = softly.check(new Runnable() {
+      public void run() {
+        assertThat("Yoda").isEqualTo("Yoda");
+        assertThat(8).isGreaterThan(6);
+      }
+    });
+    assertTrue(passed);
+    assertEquals(softly.failureCount(), 0);
+    softly.assertAll();
+  }
+
+  @Test public void shouldRecordFailuresInsteadOfThrowingThem() {
+    for (int i = 0; i < 3; i++) {
+      final int value = i;
+      boolean passed = softly.check(new Runnable() {
+        public void run() {
+          assertThat(value).isEqualTo(1);
+        }
+      });
+      assertEquals(passed, value == 1);
+    }
+    assertEquals(softly.failureMessages(), list("expected:<1> but was:<0>", "expected:<1> but was:<2>"));
+  }
+
+  @Test public void shouldRecordFailuresOfObjectComparisons() {
+    softly.check(new Runnable() {
+      public void run() {
+        assertThat("Luke").as("name").isEqualTo("Yoda");
+      }
+    });
+    assertEquals(softly.failureMessages(), list("[name] expected:<'Yoda'> but was:<'Luke'>"));
+  }
+
+  @Test public void shouldEndCheckAfterFirstFailure() {
+    final Collection<String> names = null;
+    softly.check(new Runnable() {
+      public void run() {
+        assertThat(names).isNotNull();
+        assertThat(names).hasSize(2);
+      }
+    });
+    assertEquals(softly.failureMessages(), list("expecting a non-null collection, but it was null"));
+  }
+
+  @Test public void shouldReportAllFailuresWithTheirLocation() {
+    for (int i = 0; i < 2; i++) {
+      final int value = i;
+      softly.check(new Runnable() {
+        public void run() {
+          assertThat(value).isNegative();
+        }
+      });
+    }
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      List<String> lines = list(e.getMessage().split("\\r?\\n"));
+      assertEquals(lines.size(), 3);
+      assertEquals(lines.get(0), "2 soft assertion(s) failed:");
+      assertTrue(lines.get(1).startsWith("1) actual value:<0> should be less than:<0> (checked at "));
+      assertTrue(lines.get(2).startsWith("2) actual value:<1> should be less than:<0> (checked at "));
+      assertTrue(lines.get(1).endsWith("SoftAssertionsTest.java:" + locationOf(lines.get(2)) + ")"));
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test public void shouldLocateFailuresByTheCallToCheck() {
+    int checkLine = 0;
+    for (int i = 0; i < 2; i++) {
+      final int value = i;
+      checkLine = currentLine() + 1;
+      softly.check(new Runnable() {
+        public void run() {
+          if (value == 0) assertThat(value).isPositive();
+          assertThat(value).isNegative();
+        }
+      });
+    }
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      List<String> lines = list(e.getMessage().split("\\r?\\n"));
+      assertEquals(lines.size(), 3);
+      assertEquals(lineOf(lines.get(1)), checkLine);
+      assertEquals(lineOf(lines.get(2)), checkLine);
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test public void shouldKeepCauseOfFailure() {
+    final Exception cause = new Exception();
+    softly.check(new Runnable() {
+      public void run() {
+        Fail.fail("Failed", cause);
+      }
+    });
+    assertEquals(softly.failureMessages(), list("Failed"));
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      assertTrue(e.getMessage().endsWith(" caused by: java.lang.Exception"));
+      assertSame(e.getCause(), cause);
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test public void shouldReturnFalseIfEndOfCheckIsSwallowed() {
+    boolean passed = softly.check(new Runnable() {
+      public void run() {
+        try {
+          assertThat(1).isNegative();
+        } catch (Throwable t) {}
+      }
+    });
+    assertFalse(passed);
+    assertEquals(softly.failureCount(), 1);
+  }
+
+  private static int currentLine() {
+    return new Throwable().getStackTrace()[1].getLineNumber();
+  }
+
+  private static int lineOf(String line) {
+    String location = locationOf(line);
+    return Integer.parseInt(location.substring(0, location.indexOf(')')));
+  }
+
+  private static String locationOf(String line) {
+    return line.substring(line.lastIndexOf(':') + 1, line.length() - 1);
+  }
+
+  @Test public void shouldThrowFailuresOutsideChecks() {
+    softly.check(new Runnable() {
+      public void run() {}
+    });
+    expectAssertionError("expected:<1> but was:<0>").on(new CodeToTest() {
+      public void run() {
+        assertThat(0).isEqualTo(1);
+      }
+    });
+  }
+
+  @Test public void shouldRecordFailuresInNestedChecks() {
+    final SoftAssertions other = new SoftAssertions();
+    softly.check(new Runnable() {
+      public void run() {
+        other.check(new Runnable() {
+          public void run() {
+            assertThat(true).isFalse();
+          }
+        });
+        assertThat(0).isEqualTo(1);
+      }
+    });
+    assertEquals(other.failureMessages(), list("expected:<false> but was:<true>"));
+    assertEquals(softly.failureMessages(), list("expected:<1> but was:<0>"));
+  }
+
+  @Test public void shouldNotCatchOtherExceptions() {
+    expectIllegalArgumentException("The given type to check against should not be null").on(new CodeToTest() {
+      public void run() {
+        softly.check(new Runnable() {
+          public void run() {
+            assertThat(new Object()).isInstanceOf(null);
+          }
+        });
+      }
+    });
+    assertEquals(softly.failureCount(), 0);
+  }
+
+  @Test public void shouldThrowErrorIfAssertionsToCheckAreNull() {
+    expectIllegalArgumentException("The assertions to check should not be null").on(new CodeToTest() {
+      public void run() {
+        softly.check(null);
+      }
+    });
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Jul 22, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.testng.annotations.Test;
+
+import org.fest.test.CodeToTest;
+
+import static org.fest.assertions.CommonFailures.expectIllegalArgumentException;
+import static org.fest.assertions.Threshold.threshold;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for <code>{@link Threshold}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ThresholdTest {
+
+  @Test public void shouldNotAllowDifferingPixelsByDefault() {
+    Threshold threshold = threshold(8);
+    assertEquals(threshold.channelTolerance(), 8);
+    assertEquals(threshold.maxDifferingPixels(), 0);
+  }
+
+  @Test public void shouldCreateNewThresholdWithMaxDifferingPixels() {
+    Threshold threshold = threshold(8).maxDifferingPixels(20);
+    assertEquals(threshold.channelTolerance(), 8);
+    assertEquals(threshold.maxDifferingPixels(), 20);
+  }
+
+  @Test public void shouldThrowErrorIfChannelToleranceIsNegative() {
+    expectIllegalArgumentException("The tolerance per channel should be between 0 and 255, but was:<-1>").on(
+        new CodeToTest() {
+          public void run() {
+            threshold(-1);
+          }
+        });
+  }
+
+  @Test public void shouldThrowErrorIfChannelToleranceIsGreaterThan255() {
+    expectIllegalArgumentException("The tolerance per channel should be between 0 and 255, but was:<256>").on(
+        new CodeToTest() {
+          public void run() {
+            threshold(256);
+          }
+        });
+  }
+
+  @Test public void shouldThrowErrorIfMaxDifferingPixelsIsNegative() {
+    expectIllegalArgumentException("The maximum number of differing pixels should not be negative, but was:<-1>").on(
+        new CodeToTest() {
+          public void run() {
+            threshold(0).maxDifferingPixels(-1);
+          }
+        });
+  }
+
+  @Test public void shouldImplementToString() {
+    assertEquals(threshold(2).maxDifferingPixels(6).toString(), "Threshold[channelTolerance=2, maxDifferingPixels=6]");
+  }
+}
@@ -17,6 +17,11 @@ package org.fest.swing.script;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Logger;
 
 import abbot.finder.AWTHierarchy;
@@ -27,12 +32,20 @@ import abbot.util.AWTFixtureHelper;
 
 import org.fest.swing.core.ScreenLock;
 
+import static java.lang.Math.min;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 import static org.fest.util.Arrays.isEmpty;
 import static org.fest.util.Files.fileNamesIn;
 import static org.fest.util.Strings.*;
 
 /**
  * Understands how to run one or more <a href="http://abbot.sourceforge.net" target="_blank">Abbot<a/> scripts.
+ * <p>
+ * Scripts are parsed in parallel, ahead of their execution, by a pool of background threads: a script can be executed
+ * as soon as it is parsed, while the scripts after it are still being parsed. Each run parses its scripts again, since
+ * Abbot keeps the components found during the execution of a script in the script itself.
+ * </p>
  * 
  * @author Alex Ruiz
  */
@@ -42,6 +55,14 @@ public final class ScriptRunner {
 
   private static Logger logger = Logger.getLogger(ScriptRunner.class.getName());
 
+  private static final ThreadFactory PARSER_THREADS = new ThreadFactory() {
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, "costello-script-parser");
+      t.setDaemon(true);
+      return t;
+    }
+  };
+
   private final List<String> scriptNames = new ArrayList<String>();
   private final List<String> successfulScripts = new ArrayList<String>();
 
@@ -105,18 +126,41 @@ public final class ScriptRunner {
   }
 
   /**
-   * Executes the script files specified during construction.
+   * Executes the script files specified during construction. The screen is locked until all the scripts are executed
+   * or one of them fails.
+   * @throws ScriptFailure if a script cannot be parsed or if its execution fails.
    */
   public void runScripts() {
     successfulScripts.clear();
-    for (String scriptName : scriptNames) runScript(scriptName);
+    int scriptCount = scriptNames.size();
+    ExecutorService parser = newFixedThreadPool(min(scriptCount, Runtime.getRuntime().availableProcessors()),
+        PARSER_THREADS);
+    try {
+      List<Future<Script>> scripts = new ArrayList<Future<Script>>(scriptCount);
+      for (String scriptName : scriptNames) scripts.add(parser.submit(parsing(scriptName)));
+      ScreenLock.instance().acquire(this);
+      try {
+        for (int i = 0; i < scriptCount; i++) runScript(scriptNames.get(i), scripts.get(i));
+      } finally {
+        ScreenLock.instance().release(this);
+      }
+    } finally {
+      parser.shutdownNow();
+    }
   }
 
-  private void runScript(String scriptName) {
-    ScreenLock.instance().acquire(this);
+  private Callable<Script> parsing(final String scriptName) {
+    return new Callable<Script>() {
+      public Script call() {
+        return new Script(scriptName, DUMMY_HIERARCHY);
+      }
+    };
+  }
+
+  private void runScript(String scriptName, Future<Script> parsed) {
+    Script script = parsedScript(scriptName, parsed);
     StepRunner runner = new StepRunner(new AWTFixtureHelper());
     AWTHierarchy.setDefault(runner.getHierarchy());
-    Script script = new Script(scriptName, DUMMY_HIERARCHY);
     logger.info(concat("Running ", quote(script)));
     try {
       runner.run(script);
@@ -125,7 +169,17 @@ public final class ScriptRunner {
       throw new ScriptFailure(scriptName, t);
     } finally {
       logger.info(concat(quote(scriptName), " finished"));
-      ScreenLock.instance().release(this);
+    }
+  }
+
+  private Script parsedScript(String scriptName, Future<Script> parsed) {
+    try {
+      return parsed.get();
+    } catch (ExecutionException e) {
+      throw new ScriptFailure(scriptName, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ScriptFailure(scriptName, e);
     }
   }
 
@@ -77,7 +77,7 @@ public class GUITestRunner extends Runner {
   }
 
   private void addFailedGUITestListenerTo(RunNotifier notifier) {
-    if (!failedGUITestListenersIn(notifier).isEmpty()) return;
+    if (byType(FailedGUITestListener.class).view(listenersIn(notifier)).iterator().hasNext()) return;
     notifier.addListener(new FailedGUITestListener());
   }
 
@@ -233,13 +233,8 @@ public class BasicRobot implements Robot {
     activateWindowOfFocusTarget(target, currentOwner);
     giveFocusTo(target);
     try {
-      if (wait) {
-        TimeoutWatch watch = startWatchWithTimeoutOf(settings().timeoutToBeVisible());
-        while (!focusMonitor.hasFocus()) {
-          if (watch.isTimeOut()) throw actionFailure(concat("Focus change to ", format(target), " failed"));
-          pause();
-        }
-      }
+      if (wait && !focusMonitor.waitForFocus(settings().timeoutToBeVisible()))
+        throw actionFailure(concat("Focus change to ", format(target), " failed"));
     } finally {
       target.removeFocusListener(focusMonitor);
     }
@@ -18,6 +18,9 @@ import java.awt.Component;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 
+import org.fest.swing.timing.Signal;
+
+import static java.lang.System.currentTimeMillis;
 import static org.fest.swing.core.FocusOwnerFinder.focusOwner;
 
 /**
@@ -27,6 +30,7 @@ import static org.fest.swing.core.FocusOwnerFinder.focusOwner;
  */
 final class FocusMonitor extends FocusAdapter {
 
+  private final Signal focusGained = new Signal();
   private volatile boolean focused = false;
 
   static FocusMonitor attachTo(Component c) {
@@ -41,6 +45,7 @@ final class FocusMonitor extends FocusAdapter {
 
   @Override public void focusGained(FocusEvent e) {
     focused = true;
+    focusGained.signal();
   }
 
   @Override public void focusLost(FocusEvent e) {
@@ -48,4 +53,20 @@ final class FocusMonitor extends FocusAdapter {
   }
 
   boolean hasFocus() { return focused; }
+
+  /**
+   * Blocks the current thread until the monitored <code>{@link Component}</code> has keyboard focus or the given
+   * timeout expires.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return <code>true</code> if the monitored component has keyboard focus, <code>false</code> if the timeout expired.
+   */
+  boolean waitForFocus(long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    while (!focused) {
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0) return false;
+      focusGained.await(remaining);
+    }
+    return true;
+  }
 }
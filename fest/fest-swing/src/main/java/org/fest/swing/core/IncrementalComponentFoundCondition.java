@@ -0,0 +1,238 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.fest.assertions.BasicDescription;
+import org.fest.assertions.Description;
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.timing.Condition;
+
+import static java.awt.AWTEvent.*;
+import static java.awt.event.ComponentEvent.*;
+import static java.awt.event.ContainerEvent.*;
+import static java.awt.event.WindowEvent.*;
+import static java.lang.Math.*;
+import static javax.swing.SwingUtilities.isDescendingFrom;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands a condition that is satisfied if a GUI component that matches certain search criteria can be found.
+ * Unlike <code>{@link ComponentFoundCondition}</code>, this condition does not traverse the whole component hierarchy
+ * every time it is evaluated: after a first search, it listens to the AWT events that report windows being opened and
+ * components being shown, added, hidden or removed, and on the next evaluation it only verifies the components that
+ * changed since the previous one. The whole hierarchy is searched again only when:
+ * <ol>
+ * <li>one of the changed components matches the search criteria (to verify that it is the only matching one,)</li>
+ * <li>a component was hidden or removed while more than one component matched the search criteria, or</li>
+ * <li>a full search is due. Full searches are repeated at increasing intervals (up to a tenth of the timeout of the
+ * wait, within a one-second limit) to detect changes that are not reported by events, like a component's name being
+ * changed.</li>
+ * </ol>
+ * Events wake up <code>{@link org.fest.swing.timing.Pause#pause(Condition)}</code> right away, instead of at the next
+ * polling interval.
+ *
+ * @author Alex Ruiz
+ */
+public final class IncrementalComponentFoundCondition extends Condition {
+
+  private static final long EVENT_MASK = WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK | CONTAINER_EVENT_MASK;
+
+  static final long FIRST_FULL_SEARCH_INTERVAL = 50;
+  static final long MAX_FULL_SEARCH_INTERVAL = 1000;
+
+  private final ComponentFinder finder;
+  private final ComponentMatcher matcher;
+  private final Container root;
+  private final Toolkit toolkit;
+  private final long maxFullSearchInterval;
+
+  private final Object lock = new Object();
+  private final List<Component> changed = new ArrayList<Component>(); // guarded by lock
+  private boolean shrank; // guarded by lock
+
+  private final AWTEventListener listener = new AWTEventListener() {
+    public void eventDispatched(AWTEvent e) {
+      onEvent(e);
+    }
+  };
+
+  private boolean listening;
+  private long fullSearchInterval;
+  private long nextFullSearch;
+  private int matchCount;
+  private Component found;
+
+  /**
+   * Creates a new <code>{@link IncrementalComponentFoundCondition}</code>.
+   * @param description the description of this condition.
+   * @param finder performs the component search.
+   * @param matcher specifies the condition that the component we are looking for needs to match.
+   * @param root the root used as the starting point of the search, or <code>null</code> to search all the
+   * components in the hierarchy of the given finder.
+   * @param timeout the timeout of the wait using this condition, in milliseconds.
+   */
+  public IncrementalComponentFoundCondition(String description, ComponentFinder finder, ComponentMatcher matcher,
+      Container root, long timeout) {
+    this(new BasicDescription(description), finder, matcher, root, timeout);
+  }
+
+  /**
+   * Creates a new <code>{@link IncrementalComponentFoundCondition}</code>.
+   * @param description the description of this condition.
+   * @param finder performs the component search.
+   * @param matcher specifies the condition that the component we are looking for needs to match.
+   * @param root the root used as the starting point of the search, or <code>null</code> to search all the
+   * components in the hierarchy of the given finder.
+   * @param timeout the timeout of the wait using this condition, in milliseconds.
+   */
+  public IncrementalComponentFoundCondition(Description description, ComponentFinder finder, ComponentMatcher matcher,
+      Container root, long timeout) {
+    this(description, finder, matcher, root, timeout, Toolkit.getDefaultToolkit(), FIRST_FULL_SEARCH_INTERVAL);
+  }
+
+  IncrementalComponentFoundCondition(Description description, ComponentFinder finder, ComponentMatcher matcher,
+      Container root, long timeout, Toolkit toolkit, long firstFullSearchInterval) {
+    super(description);
+    this.finder = finder;
+    this.matcher = matcher;
+    this.root = root;
+    this.toolkit = toolkit;
+    maxFullSearchInterval = max(firstFullSearchInterval, min(MAX_FULL_SEARCH_INTERVAL, timeout / 10));
+    fullSearchInterval = firstFullSearchInterval;
+  }
+
+  private void onEvent(AWTEvent e) {
+    int id = e.getID();
+    Component changedComponent = null;
+    boolean removed = false;
+    switch (id) {
+      case WINDOW_OPENED:
+      case COMPONENT_SHOWN:
+        changedComponent = (Component)e.getSource();
+        break;
+      case COMPONENT_ADDED:
+        changedComponent = ((ContainerEvent)e).getChild();
+        break;
+      case WINDOW_CLOSED:
+      case COMPONENT_HIDDEN:
+      case COMPONENT_REMOVED:
+        removed = true;
+        break;
+      default:
+        return;
+    }
+    synchronized (lock) {
+      if (changedComponent != null) changed.add(changedComponent);
+      if (removed) shrank = true;
+    }
+    signal();
+  }
+
+  /**
+   * Returns <code>true</code> if a component that matches the search criteria in this condition's
+   * <code>{@link ComponentMatcher}</code> can be found. Otherwise, this method returns <code>false</code>.
+   * @return <code>true</code> if a matching component can be found, <code>false</code> otherwise.
+   */
+  public boolean test() {
+    if (!listening) {
+      // start listening before searching, to not miss any change made during the search
+      toolkit.addAWTEventListener(listener, EVENT_MASK);
+      listening = true;
+      return fullSearch();
+    }
+    List<Component> changedSinceLastTest;
+    boolean shrankSinceLastTest;
+    synchronized (lock) {
+      changedSinceLastTest = new ArrayList<Component>(changed);
+      changed.clear();
+      shrankSinceLastTest = shrank;
+      shrank = false;
+    }
+    if (System.currentTimeMillis() >= nextFullSearch) return fullSearch();
+    if (shrankSinceLastTest && matchCount > 1) return fullSearch();
+    if (!changedSinceLastTest.isEmpty() && anyMatching(changedSinceLastTest)) return fullSearch();
+    return false;
+  }
+
+  private boolean fullSearch() {
+    Collection<Component> allFound = finder.findAll(root, matcher);
+    matchCount = allFound.size();
+    nextFullSearch = System.currentTimeMillis() + fullSearchInterval;
+    fullSearchInterval = min(fullSearchInterval * 2, maxFullSearchInterval);
+    if (matchCount != 1) return false;
+    found = allFound.iterator().next();
+    return true;
+  }
+
+  @RunsInEDT
+  private boolean anyMatching(final List<Component> changedComponents) {
+    return execute(new GuiQuery<Boolean>() {
+      protected Boolean executeInEDT() {
+        for (Component c : changedComponents)
+          if (isInSearchScope(c) && anyMatchingIn(c)) return true;
+        return false;
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private boolean isInSearchScope(Component c) {
+    return root == null || isDescendingFrom(c, root);
+  }
+
+  @RunsInCurrentThread
+  private boolean anyMatchingIn(Component subtreeRoot) {
+    LinkedList<Component> pending = new LinkedList<Component>();
+    pending.add(subtreeRoot);
+    while (!pending.isEmpty()) {
+      Component c = pending.removeFirst();
+      if (matcher.matches(c)) return true;
+      if (!(c instanceof Container)) continue;
+      for (Component child : ((Container)c).getComponents()) pending.add(child);
+    }
+    return false;
+  }
+
+  /**
+   * Returns the component found (if any.)
+   * @return the component found.
+   */
+  public Component found() { return found; }
+
+  /**
+   * Stops listening to AWT events.
+   */
+  @Override protected void done() {
+    toolkit.removeAWTEventListener(listener);
+    listening = false;
+    synchronized (lock) {
+      changed.clear();
+    }
+  }
+}
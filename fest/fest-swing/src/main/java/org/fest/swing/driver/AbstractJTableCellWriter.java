@@ -24,7 +24,6 @@ import javax.swing.table.TableCellEditor;
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellWriter;
-import org.fest.swing.core.ComponentFoundCondition;
 import org.fest.swing.core.ComponentMatcher;
 import org.fest.swing.core.Robot;
 import org.fest.swing.core.TypeMatcher;
@@ -251,7 +250,9 @@ public abstract class AbstractJTableCellWriter implements JTableCellWriter {
   }
 
   /**
-   * Waits until the editor of the given table cell is showing on the screen.
+   * Waits until the editor of the given table cell is showing on the screen. Instead of repeatedly searching the
+   * <code>JTable</code>'s hierarchy, this method waits for the <code>JTable</code> to report a new cell editor or
+   * editor component, and then looks for a matching component in the editor component's hierarchy.
    * @param <T> the generic type of the cell editor.
    * @param matcher the condition that the cell editor to look for needs to satisfy.
    * @param table the target <code>JTable</code>.
@@ -264,7 +265,7 @@ public abstract class AbstractJTableCellWriter implements JTableCellWriter {
   @RunsInEDT
   protected final <T extends Component> T waitForEditorActivation(ComponentMatcher matcher, JTable table, int row,
       int column, Class<T> supportedType) {
-    ComponentFoundCondition condition = new ComponentFoundCondition("", robot.finder(), matcher, table);
+    JTableCellEditorFoundCondition condition = new JTableCellEditorFoundCondition(matcher, table);
     try {
       pause(condition, EDITOR_LOOKUP_TIMEOUT);
     } catch (WaitTimedOutError e) {
@@ -286,6 +287,16 @@ public abstract class AbstractJTableCellWriter implements JTableCellWriter {
   }
 
 
+  /*
+   * Enters the given value in a cell next to the last edited one, reusing the state the table was left in (focus and
+   * lead selection) instead of clicking the cell. Used by JTableDriver.enterValues. Writers that do not support this
+   * return false, and the caller falls back to enterValue.
+   */
+  @RunsInEDT
+  boolean enterValueInAdjacentCell(JTable table, int fromRow, int fromColumn, int row, int column, String value) {
+    return false;
+  }
+
   /**
    * Returns the cell editor being currently used. This method will return <code>null</code> if no table cell is being
    * currently edited.
@@ -0,0 +1,43 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.BoundedRangeModel;
+import javax.swing.SpinnerModel;
+
+/**
+ * Understands the ways a driver can move the value of a GUI component that has a bounded or sequenced value (e.g.
+ * <code>JScrollBar</code>, <code>JSlider</code> or <code>JSpinner</code>) by more than one step.
+ *
+ * @author Alex Ruiz
+ */
+public enum AdjustmentStrategy {
+
+  /**
+   * Moves the value the way the driver simulates a user does, one step at a time or moving the mouse across the
+   * component. This is the default strategy.
+   */
+  USER_INPUT,
+
+  /**
+   * Moves the value by updating the component's model (e.g. <code>{@link BoundedRangeModel}</code> or
+   * <code>{@link SpinnerModel}</code>) directly, in a single action executed in the event dispatch thread. Change
+   * listeners are notified once, instead of once per step. When the component supports it, only the last step is
+   * performed with user input. The final value of the component is verified. This strategy is considerably faster when
+   * moving the value by a large number of steps (e.g. in stress tests,) and it is intended for tests that set up a
+   * value as a precondition, instead of testing how a component handles user input.
+   */
+  MODEL
+}
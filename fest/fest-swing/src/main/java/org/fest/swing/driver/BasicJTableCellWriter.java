@@ -22,6 +22,7 @@ import javax.swing.JComboBox;
 import javax.swing.JTable;
 import javax.swing.text.JTextComponent;
 
+import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellWriter;
 import org.fest.swing.core.Robot;
 import org.fest.swing.exception.ActionFailedException;
@@ -116,6 +117,12 @@ public class BasicJTableCellWriter extends AbstractJTableCellWriter {
     cellWriterFor(table, row, column).cancelCellEditing(table, row, column);
   }
 
+  @Override @RunsInEDT
+  boolean enterValueInAdjacentCell(JTable table, int fromRow, int fromColumn, int row, int column, String value) {
+    if (cellWriterFor(table, row, column) != textComponentWriter) return false;
+    return textComponentWriter.enterValueInAdjacentCell(table, fromRow, fromColumn, row, column, value);
+  }
+
   private JTableCellWriter cellWriterFor(JTable table, int row, int column) {
     Component editor = editorForCell(table, row, column);
     if (editor instanceof JCheckBox) return checkBoxWriter;
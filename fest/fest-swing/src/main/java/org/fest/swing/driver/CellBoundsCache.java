@@ -0,0 +1,188 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Rectangle;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.JTree;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Understands a cache of the bounds of the paths of a <code>{@link JTree}</code> or the items of a
+ * <code>{@link JList}</code>, per component. Getting such bounds from Swing can be expensive in large components
+ * having rows of variable height.
+ * <p>
+ * The cached bounds of a component are discarded when:
+ * <ul>
+ * <li>the component is resized</li>
+ * <li>any property of the component changes, except for the ones that only reflect selection state (e.g.
+ * "leadSelectionPath")</li>
+ * <li>the component's model (<code>{@link TreeModel}</code> or <code>{@link ListModel}</code>) notifies any
+ * change</li>
+ * <li>paths are expanded or collapsed in a <code>JTree</code></li>
+ * </ul>
+ * These are the same notifications Swing relies on to update its own layout caches. Components are weakly referenced
+ * by this cache, and so are the cached bounds by the listeners registered in models, since a model may outlive the
+ * components using it.
+ * </p>
+ * <p>
+ * <code>{@link javax.swing.JTable}</code> cells are not cached: changing the height of a single row does not notify
+ * any listener, and checking the layout of the rows on each lookup costs as much as getting the bounds of a cell.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class CellBoundsCache {
+
+  private static final String MODEL_PROPERTY = "model";
+
+  private static final Set<String> IGNORED_PROPERTIES = new HashSet<String>();
+
+  static {
+    IGNORED_PROPERTIES.add("anchorSelectionPath");
+    IGNORED_PROPERTIES.add("leadSelectionPath");
+    IGNORED_PROPERTIES.add("selectionModel");
+  }
+
+  @GuardedBy("this")
+  private final Map<JComponent, Bounds> caches = new WeakHashMap<JComponent, Bounds>();
+
+  /**
+   * Returns a copy of the cached bounds of the given cell.
+   * @param c the component containing the cell.
+   * @param cell the cell (e.g. a <code>{@link javax.swing.tree.TreePath}</code> or the index of a list item.)
+   * @return the cached bounds, or <code>null</code> if there are no bounds cached for the given cell.
+   */
+  synchronized Rectangle get(JComponent c, Object cell) {
+    Bounds bounds = caches.get(c);
+    if (bounds == null) return null;
+    return copyOf(bounds.get(cell));
+  }
+
+  /**
+   * Caches a copy of the given bounds. <code>null</code> bounds are not cached.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT, since it registers listeners in the component and its model.
+   * </p>
+   * @param c the component containing the cell. It should be a <code>JTree</code> or a <code>JList</code>.
+   * @param cell the cell (e.g. a <code>{@link javax.swing.tree.TreePath}</code> or the index of a list item.)
+   * @param cellBounds the bounds to cache.
+   */
+  synchronized void put(JComponent c, Object cell, Rectangle cellBounds) {
+    if (cellBounds == null) return;
+    Bounds bounds = caches.get(c);
+    if (bounds == null) {
+      bounds = new Bounds();
+      bounds.listenTo(c);
+      caches.put(c, bounds);
+    }
+    bounds.put(cell, copyOf(cellBounds));
+  }
+
+  /**
+   * Discards all the cached bounds.
+   */
+  synchronized void clear() {
+    for (Bounds bounds : caches.values()) bounds.clear();
+  }
+
+  private static Rectangle copyOf(Rectangle r) {
+    if (r == null) return null;
+    return new Rectangle(r);
+  }
+
+  /*
+   * Does not keep a reference to the component, otherwise the component would never be removed from the WeakHashMap.
+   */
+  private class Bounds implements ComponentListener, PropertyChangeListener, TreeModelListener, TreeExpansionListener,
+      ListDataListener {
+
+    private final Map<Object, Rectangle> bounds = new HashMap<Object, Rectangle>();
+    private final WeakModelListener modelListener = new WeakModelListener(this);
+
+    Rectangle get(Object cell) { return bounds.get(cell); }
+
+    void put(Object cell, Rectangle cellBounds) { bounds.put(cell, cellBounds); }
+
+    void clear() { bounds.clear(); }
+
+    void listenTo(JComponent c) {
+      c.addComponentListener(this);
+      c.addPropertyChangeListener(this);
+      if (c instanceof JTree) {
+        JTree tree = (JTree)c;
+        tree.addTreeExpansionListener(this);
+        modelListener.listenTo(tree.getModel());
+      }
+      if (c instanceof JList) modelListener.listenTo(((JList)c).getModel());
+    }
+
+    public void propertyChange(PropertyChangeEvent e) {
+      String propertyName = e.getPropertyName();
+      if (IGNORED_PROPERTIES.contains(propertyName)) return;
+      if (MODEL_PROPERTY.equals(propertyName)) {
+        modelListener.stopListeningTo(e.getOldValue());
+        modelListener.listenTo(e.getNewValue());
+      }
+      invalidate();
+    }
+
+    public void componentResized(ComponentEvent e) { invalidate(); }
+    public void componentMoved(ComponentEvent e) {}
+    public void componentShown(ComponentEvent e) {}
+    public void componentHidden(ComponentEvent e) {}
+
+    public void treeNodesChanged(TreeModelEvent e) { invalidate(); }
+    public void treeNodesInserted(TreeModelEvent e) { invalidate(); }
+    public void treeNodesRemoved(TreeModelEvent e) { invalidate(); }
+    public void treeStructureChanged(TreeModelEvent e) { invalidate(); }
+
+    public void treeExpanded(TreeExpansionEvent e) { invalidate(); }
+    public void treeCollapsed(TreeExpansionEvent e) { invalidate(); }
+
+    public void contentsChanged(ListDataEvent e) { invalidate(); }
+    public void intervalAdded(ListDataEvent e) { invalidate(); }
+    public void intervalRemoved(ListDataEvent e) { invalidate(); }
+
+    private void invalidate() {
+      synchronized (CellBoundsCache.this) {
+        clear();
+      }
+    }
+  }
+}
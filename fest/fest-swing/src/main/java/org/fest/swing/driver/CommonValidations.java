@@ -31,5 +31,13 @@ final class CommonValidations {
     if (cellWriter == null) throw new NullPointerException("Cell writer should not be null");
   }
 
+  static void validateSelectionStrategy(Object selectionStrategy) {
+    if (selectionStrategy == null) throw new NullPointerException("Selection strategy should not be null");
+  }
+
+  static void validateAdjustmentStrategy(Object adjustmentStrategy) {
+    if (adjustmentStrategy == null) throw new NullPointerException("Adjustment strategy should not be null");
+  }
+
   private CommonValidations() {}
 }
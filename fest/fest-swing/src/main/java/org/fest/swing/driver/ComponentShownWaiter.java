@@ -21,11 +21,9 @@ import java.awt.event.ComponentEvent;
 
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.exception.WaitTimedOutError;
-import org.fest.swing.util.TimeoutWatch;
+import org.fest.swing.timing.Signal;
 
 import static org.fest.swing.query.ComponentVisibleQuery.isVisible;
-import static org.fest.swing.timing.Pause.pause;
-import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
 
 /**
  * Understands waiting for a <code>{@link Component}</code> to be shown.
@@ -35,10 +33,9 @@ import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
 public final class ComponentShownWaiter extends ComponentAdapter {
 
   private static final int DEFAULT_TIMEOUT = 5000;
-  private static final int DEFAULT_SLEEP_TIME = 10;
-  
-  private Component toWaitFor;
-  private volatile boolean shown;
+
+  private final Component toWaitFor;
+  private final Signal shown = new Signal();
   
   /**
    * Waits until the given component is shown on the screen, using a timeout of 5 seconds.
@@ -66,14 +63,9 @@ public final class ComponentShownWaiter extends ComponentAdapter {
 
   private void startWaiting(long timeout) {
     if (alreadyVisible()) return;
-    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!shown) {
-      pause(DEFAULT_SLEEP_TIME);
-      if (watch.isTimeOut()) {
-        done();
-        throw new WaitTimedOutError("Timed out waiting for component to be visible");
-      }
-    }
+    if (shown.await(timeout)) return;
+    done();
+    throw new WaitTimedOutError("Timed out waiting for component to be visible");
   }
 
   private boolean alreadyVisible() {
@@ -88,12 +80,11 @@ public final class ComponentShownWaiter extends ComponentAdapter {
    */
   @RunsInEDT
   @Override public void componentShown(ComponentEvent e) {
-    shown = true;
     done();
+    shown.signal();
   }
 
   private void done() {
     toWaitFor.removeComponentListener(this);
-    toWaitFor = null;
   }
 }
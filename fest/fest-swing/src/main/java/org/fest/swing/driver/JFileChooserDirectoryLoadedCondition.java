@@ -0,0 +1,153 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.Method;
+
+import javax.swing.JFileChooser;
+import javax.swing.plaf.FileChooserUI;
+import javax.swing.plaf.basic.BasicDirectoryModel;
+import javax.swing.plaf.basic.BasicFileChooserUI;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.timing.Condition;
+
+import static javax.swing.JFileChooser.DIRECTORY_CHANGED_PROPERTY;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.format.Formatting.format;
+import static org.fest.util.Strings.concat;
+
+/**
+ * Understands a condition that is satisfied when a <code>{@link JFileChooser}</code> has finished loading the contents
+ * of its current directory, after such directory was changed. Loading is performed by the
+ * <code>{@link BasicDirectoryModel}</code> of the <code>JFileChooser</code>'s UI in a background thread, which
+ * reports its progress through its "busy" property.
+ * <p>
+ * Usage:
+ * <ol>
+ * <li>call <code>{@link #startListening()}</code></li>
+ * <li>do whatever may change the current directory of the <code>JFileChooser</code> (e.g. set the current directory
+ * or select a file)</li>
+ * <li>wait for this condition to be satisfied using <code>{@link org.fest.swing.timing.Pause}</code></li>
+ * </ol>
+ * </p>
+ * <p>
+ * This condition is satisfied right away if the current directory did not change, or if the "busy" property of the
+ * directory model cannot be listened to (e.g. the <code>JFileChooser</code>'s UI does not extend
+ * <code>{@link BasicFileChooserUI}</code>, or in Java 5.)
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class JFileChooserDirectoryLoadedCondition extends Condition {
+
+  private static final String BUSY_PROPERTY = "busy";
+
+  private final JFileChooser fileChooser;
+
+  private volatile boolean listeningToModel;
+  private volatile boolean directoryChanged;
+  private volatile boolean loaded;
+
+  private BasicDirectoryModel model;
+
+  private final PropertyChangeListener directoryListener = new PropertyChangeListener() {
+    public void propertyChange(PropertyChangeEvent e) {
+      directoryChanged = true;
+    }
+  };
+
+  private final PropertyChangeListener busyListener = new PropertyChangeListener() {
+    public void propertyChange(PropertyChangeEvent e) {
+      if (!BUSY_PROPERTY.equals(e.getPropertyName())) return;
+      loaded = Boolean.FALSE.equals(e.getNewValue());
+      if (loaded) signal();
+    }
+  };
+
+  /**
+   * Creates a new <code>{@link JFileChooserDirectoryLoadedCondition}</code>.
+   * @param fileChooser the target <code>JFileChooser</code>.
+   */
+  JFileChooserDirectoryLoadedCondition(JFileChooser fileChooser) {
+    super(concat("directory of ", format(fileChooser), " to be loaded"));
+    this.fileChooser = fileChooser;
+  }
+
+  /**
+   * Starts listening to changes in the current directory of the <code>JFileChooser</code>, and to the progress of
+   * its directory model. This method is executed in the event dispatch thread.
+   */
+  @RunsInEDT
+  void startListening() {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        model = directoryModelOf(fileChooser);
+        listeningToModel = model != null && invoke("addPropertyChangeListener", model, busyListener);
+        fileChooser.addPropertyChangeListener(DIRECTORY_CHANGED_PROPERTY, directoryListener);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static BasicDirectoryModel directoryModelOf(JFileChooser fileChooser) {
+    FileChooserUI ui = fileChooser.getUI();
+    if (!(ui instanceof BasicFileChooserUI)) return null;
+    return ((BasicFileChooserUI)ui).getModel();
+  }
+
+  /*
+   * BasicDirectoryModel supports property change listeners since Java 6.
+   */
+  @RunsInCurrentThread
+  private static boolean invoke(String methodName, BasicDirectoryModel model, PropertyChangeListener listener) {
+    try {
+      Method method = BasicDirectoryModel.class.getMethod(methodName, PropertyChangeListener.class);
+      method.invoke(model, listener);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns <code>true</code> if the current directory of the <code>JFileChooser</code> did not change, or if its
+   * contents have been loaded.
+   * @return <code>true</code> if the contents of the current directory of the <code>JFileChooser</code> are loaded;
+   * <code>false</code> otherwise.
+   */
+  public boolean test() {
+    if (!listeningToModel || !directoryChanged) return true;
+    return loaded;
+  }
+
+  /**
+   * Stops listening to the <code>JFileChooser</code> and its directory model.
+   */
+  @Override protected void done() {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        fileChooser.removePropertyChangeListener(DIRECTORY_CHANGED_PROPERTY, directoryListener);
+        if (listeningToModel) invoke("removePropertyChangeListener", model, busyListener);
+        listeningToModel = false;
+      }
+    });
+  }
+}
@@ -15,21 +15,33 @@
  */
 package org.fest.swing.driver;
 
+import java.awt.Component;
 import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
+import javax.swing.AbstractButton;
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
 import javax.swing.JTextField;
 
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.exception.ComponentLookupException;
+import org.fest.swing.exception.WaitTimedOutError;
+
+import static javax.swing.SwingUtilities.isDescendingFrom;
 
 import static org.fest.swing.core.matcher.JButtonMatcher.withText;
 import static org.fest.swing.driver.JFileChooserApproveButtonTextQuery.approveButtonTextFrom;
 import static org.fest.swing.driver.JFileChooserCancelButtonTextQuery.cancelButtonText;
 import static org.fest.swing.driver.JFileChooserSelectFileTask.*;
 import static org.fest.swing.driver.JFileChooserSetCurrentDirectoryTask.validateAndSetCurrentDirectory;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.timing.Pause.pause;
 import static org.fest.util.Arrays.isEmpty;
 import static org.fest.util.Strings.*;
 
@@ -37,6 +49,11 @@ import static org.fest.util.Strings.*;
  * Understands simulation of user input on a <code>{@link JFileChooser}</code>. Unlike
  * <code>JFileChooserFixture</code>, this driver only focuses on behavior present only in
  * <code>{@link JFileChooser}</code>s. This class is intended for internal use only.
+ * <p>
+ * The file name text field and the "Approve" and "Cancel" buttons of a <code>JFileChooser</code> are looked up once
+ * and then reused while they are still in the <code>JFileChooser</code> (and, for buttons, still show the expected
+ * text.)
+ * </p>
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
@@ -45,6 +62,10 @@ public class JFileChooserDriver extends JComponentDriver {
 
   private static final String APPROVE_BUTTON = "Approve";
   private static final String CANCEL_BUTTON = "Cancel";
+  private static final String FILE_NAME_TEXT_BOX = "File name";
+
+  private final Map<JFileChooser, Map<String, WeakReference<Component>>> components =
+    new WeakHashMap<JFileChooser, Map<String, WeakReference<Component>>>();
 
   /**
    * Creates a new </code>{@link JFileChooserDriver}</code>.
@@ -65,11 +86,17 @@ public class JFileChooserDriver extends JComponentDriver {
    * select is not a directory.
    * @throws IllegalArgumentException if the <code>JFileChooser</code> cannot select directories and the file to select 
    * is a directory.
+   * @throws WaitTimedOutError if selecting the file changes the current directory of the <code>JFileChooser</code> and
+   * the contents of the new directory are not loaded before the robot's idle timeout expires.
    */
   @RunsInEDT
-  public void selectFile(JFileChooser fileChooser, File file) {
+  public void selectFile(final JFileChooser fileChooser, final File file) {
     if (file == null) throw new NullPointerException("The file to select should not be null");
-    validateAndSelectFile(fileChooser, file);
+    new DirectoryChangeTemplate(fileChooser) {
+      void changeDirectory() {
+        validateAndSelectFile(fileChooser, file);
+      }
+    }.run();
   }
 
   /**
@@ -86,13 +113,19 @@ public class JFileChooserDriver extends JComponentDriver {
    * the files to select is not a directory.
    * @throws IllegalArgumentException if this fixture's <code>JFileChooser</code> cannot select directories and any of 
    * the files to select is a directory.
+   * @throws WaitTimedOutError if selecting the files changes the current directory of the <code>JFileChooser</code>
+   * and the contents of the new directory are not loaded before the robot's idle timeout expires.
    */
-  public void selectFiles(JFileChooser fileChooser, File[] files) {
+  public void selectFiles(final JFileChooser fileChooser, final File[] files) {
     if (files == null) throw new NullPointerException("The files to select should not be null");
     if (isEmpty(files)) throw new IllegalArgumentException("The array of files to select should not be empty");
     for (File file : files)
       if (file == null) throw new NullPointerException("The array of files to select should not contain null elements");
-    validateAndSelectFiles(fileChooser, files);
+    new DirectoryChangeTemplate(fileChooser) {
+      void changeDirectory() {
+        validateAndSelectFiles(fileChooser, files);
+      }
+    }.run();
   }
 
   /**
@@ -101,10 +134,43 @@ public class JFileChooserDriver extends JComponentDriver {
    * @param dir the directory to set as current.
    * @throws IllegalStateException if the <code>JFileChooser</code> is disabled.
    * @throws IllegalStateException if the <code>JFileChooser</code> is not showing on the screen.
+   * @throws WaitTimedOutError if the contents of the given directory are not loaded before the robot's idle timeout
+   * expires.
    */
   @RunsInEDT
-  public void setCurrentDirectory(JFileChooser fileChooser, File dir) {
-    validateAndSetCurrentDirectory(fileChooser, dir);
+  public void setCurrentDirectory(final JFileChooser fileChooser, final File dir) {
+    new DirectoryChangeTemplate(fileChooser) {
+      void changeDirectory() {
+        validateAndSetCurrentDirectory(fileChooser, dir);
+      }
+    }.run();
+  }
+
+  /*
+   * Instead of pausing for a fixed amount of time, waits until the JFileChooser finishes loading the contents of its
+   * new current directory (if it changed.)
+   */
+  private abstract class DirectoryChangeTemplate {
+    private final JFileChooser fileChooser;
+
+    DirectoryChangeTemplate(JFileChooser fileChooser) {
+      this.fileChooser = fileChooser;
+    }
+
+    abstract void changeDirectory();
+
+    @RunsInEDT
+    final void run() {
+      JFileChooserDirectoryLoadedCondition directoryLoaded = new JFileChooserDirectoryLoadedCondition(fileChooser);
+      directoryLoaded.startListening();
+      try {
+        changeDirectory();
+      } catch (RuntimeException e) {
+        directoryLoaded.done();
+        throw e;
+      }
+      pause(directoryLoaded, robot.settings().idleTimeout());
+    }
   }
 
   /**
@@ -115,7 +181,9 @@ public class JFileChooserDriver extends JComponentDriver {
    */
   @RunsInEDT
   public JTextField fileNameTextBox(JFileChooser fileChooser) {
-    return robot.finder().findByType(fileChooser, JTextField.class);
+    JTextField cached = cached(fileChooser, FILE_NAME_TEXT_BOX, JTextField.class, null);
+    if (cached != null) return cached;
+    return cache(fileChooser, FILE_NAME_TEXT_BOX, robot.finder().findByType(fileChooser, JTextField.class));
   }
 
   /**
@@ -166,9 +234,51 @@ public class JFileChooserDriver extends JComponentDriver {
 
   @RunsInEDT
   private JButton findButton(JFileChooser fileChooser, String logicalName, String text) {
+    JButton cached = cached(fileChooser, logicalName, JButton.class, text);
+    if (cached != null) return cached;
     JButton button = robot.finder().find(fileChooser, withText(text).andShowing());
     if (button == null) throw cannotFindButton(logicalName, text);
-    return button;
+    return cache(fileChooser, logicalName, button);
+  }
+
+  /*
+   * Returns a component previously found in the given JFileChooser, if it is still in the JFileChooser (its UI may have
+   * been replaced) and, for buttons, if it still shows the expected text.
+   */
+  @RunsInEDT
+  private <T extends Component> T cached(JFileChooser fileChooser, String logicalName, Class<T> type, String text) {
+    WeakReference<Component> reference = null;
+    synchronized (components) {
+      Map<String, WeakReference<Component>> found = components.get(fileChooser);
+      if (found != null) reference = found.get(logicalName);
+    }
+    if (reference == null) return null;
+    Component c = reference.get();
+    if (c == null || !isStillValid(fileChooser, c, text)) return null;
+    return type.cast(c);
+  }
+
+  @RunsInEDT
+  private static boolean isStillValid(final JFileChooser fileChooser, final Component c, final String text) {
+    return execute(new GuiQuery<Boolean>() {
+      protected Boolean executeInEDT() {
+        if (!isDescendingFrom(c, fileChooser)) return false;
+        if (text == null) return true;
+        return c.isShowing() && text.equals(((AbstractButton)c).getText());
+      }
+    });
+  }
+
+  private <T extends Component> T cache(JFileChooser fileChooser, String logicalName, T c) {
+    synchronized (components) {
+      Map<String, WeakReference<Component>> found = components.get(fileChooser);
+      if (found == null) {
+        found = new HashMap<String, WeakReference<Component>>();
+        components.put(fileChooser, found);
+      }
+      found.put(logicalName, new WeakReference<Component>(c));
+    }
+    return c;
   }
 
   private ComponentLookupException cannotFindButton(String name, String text) {
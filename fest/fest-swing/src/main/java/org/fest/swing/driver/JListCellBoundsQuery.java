@@ -28,16 +28,26 @@ import static org.fest.swing.driver.JListItemIndexValidator.validateIndex;
  * <b>Note:</b> Methods in this class are <b>not</b> executed in the event dispatch thread (EDT.) Clients are
  * responsible for invoking them in the EDT.
  * </p>
+ * <p>
+ * Bounds are cached per <code>{@link JList}</code> until the list is resized or its model or any of its properties
+ * affecting the layout of items change.
+ * </p>
  * @see JList#getCellBounds(int, int)
  * 
  * @author Alex Ruiz
  */
 final class JListCellBoundsQuery {
 
+  private static final CellBoundsCache CELL_BOUNDS_CACHE = new CellBoundsCache();
+
   @RunsInCurrentThread
   static Rectangle cellBounds(JList list, int index) {
     validateIndex(list, index);
-    return list.getCellBounds(index, index);
+    Rectangle cellBounds = CELL_BOUNDS_CACHE.get(list, index);
+    if (cellBounds != null) return cellBounds;
+    cellBounds = list.getCellBounds(index, index);
+    CELL_BOUNDS_CACHE.put(list, index, cellBounds);
+    return cellBounds;
   }
 
   private JListCellBoundsQuery() {}
@@ -41,7 +41,7 @@ import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.Fail.fail;
 import static org.fest.swing.awt.AWT.visibleCenterOf;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
-import static org.fest.swing.driver.CommonValidations.validateCellReader;
+import static org.fest.swing.driver.CommonValidations.*;
 import static org.fest.swing.driver.JListContentQuery.contents;
 import static org.fest.swing.driver.JListItemValueQuery.itemValue;
 import static org.fest.swing.driver.JListMatchingItemQuery.*;
@@ -49,6 +49,7 @@ import static org.fest.swing.driver.JListScrollToItemTask.*;
 import static org.fest.swing.driver.JListSelectedIndexQuery.selectedIndexOf;
 import static org.fest.swing.driver.JListSelectionValueQuery.*;
 import static org.fest.swing.driver.JListSelectionValuesQuery.selectionValues;
+import static org.fest.swing.driver.SelectionStrategy.*;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Strings.*;
 
@@ -67,6 +68,7 @@ public class JListDriver extends JComponentDriver {
   private static final String SELECTED_INDEX_PROPERTY = "selectedIndex";
 
   private JListCellReader cellReader;
+  private SelectionStrategy selectionStrategy = USER_INPUT;
 
   /**
    * Creates a new </code>{@link JListDriver}</code>.
@@ -98,10 +100,16 @@ public class JListDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JList</code> is disabled.
    * @throws IllegalStateException if the <code>JList</code> is not showing on the screen.
    * @throws LocationUnavailableException if an element matching the any of the given values cannot be found.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   public void selectItems(final JList list, final String[] values) {
     if (values == null) throw new NullPointerException("Array of values should not be null");
     if (Arrays.isEmpty(values)) throw new IllegalArgumentException("Array of values should not be empty");
+    if (selectionStrategy == MODEL) {
+      JListModelSelectionTask.selectItems(list, values, cellReader);
+      robot.waitForIdle();
+      return;
+    }
     new MultipleSelectionTemplate(robot) {
       int elementCount() { 
         return values.length; 
@@ -156,10 +164,16 @@ public class JListDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JList</code> is not showing on the screen.
    * @throws IndexOutOfBoundsException if any of the indices is negative or greater than the index of the last item in
    * the <code>JList</code>.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   public void selectItems(final JList list, final int[] indices) {
     if (indices == null) throw new NullPointerException("The array of indices should not be null");
     if (isEmptyArray(indices)) throw new IllegalArgumentException("The array of indices should not be empty");
+    if (selectionStrategy == MODEL) {
+      JListModelSelectionTask.selectItems(list, indices);
+      robot.waitForIdle();
+      return;
+    }
     new MultipleSelectionTemplate(robot) {
       int elementCount() { return indices.length; }
       void selectElement(int index) { selectItem(list, indices[index]); }
@@ -177,6 +191,7 @@ public class JListDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JList</code> is not showing on the screen.
    * @throws IndexOutOfBoundsException if the any index is negative or greater than the index of the last item in the
    * <code>JList</code>.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   @RunsInEDT
   public void selectItems(JList list, From from, To to) {
@@ -184,7 +199,10 @@ public class JListDriver extends JComponentDriver {
   }
 
   /**
-   * Selects the items in the specified range.
+   * Selects the items in the specified range. Using the strategy <code>{@link SelectionStrategy#USER_INPUT}</code>,
+   * the first item is clicked and then the last one is clicked while holding down the "Shift" key. Using
+   * <code>{@link SelectionStrategy#MODEL}</code>, the same selection is set in the <code>JList</code>'s
+   * <code>{@link javax.swing.ListSelectionModel}</code> in a single action executed in the event dispatch thread.
    * @param list the target <code>JList</code>.
    * @param start the starting point of the selection.
    * @param end the last item to select (inclusive.)
@@ -192,9 +210,15 @@ public class JListDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JList</code> is not showing on the screen.
    * @throws IndexOutOfBoundsException if the any index is negative or greater than the index of the last item in the
    * <code>JList</code>.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   @RunsInEDT
   public void selectItems(JList list, int start, int end) {
+    if (selectionStrategy == MODEL) {
+      JListModelSelectionTask.selectItemRange(list, start, end);
+      robot.waitForIdle();
+      return;
+    }
     selectItem(list, start);
     robot.pressKey(VK_SHIFT);
     clickItem(list, end, LEFT_BUTTON, 1);
@@ -491,4 +515,15 @@ public class JListDriver extends JComponentDriver {
     validateCellReader(newCellReader);
     cellReader = newCellReader;
   }
+
+  /**
+   * Updates the strategy to use when selecting multiple items in a <code>{@link JList}</code>. The default strategy is
+   * <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param newSelectionStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newSelectionStrategy</code> is <code>null</code>.
+   */
+  public void selectionStrategy(SelectionStrategy newSelectionStrategy) {
+    validateSelectionStrategy(newSelectionStrategy);
+    selectionStrategy = newSelectionStrategy;
+  }
 }
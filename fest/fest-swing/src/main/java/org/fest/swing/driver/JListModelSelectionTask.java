@@ -0,0 +1,146 @@
+/*
+ * Created on Jul 20, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.JList;
+import javax.swing.ListSelectionModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JListCellReader;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.exception.LocationUnavailableException;
+
+import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.driver.JListItemIndexValidator.validateIndex;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Strings.*;
+
+/**
+ * Understands a task that selects multiple items in a <code>{@link JList}</code> by updating its
+ * <code>{@link ListSelectionModel}</code> directly. The resulting selection is the same as the one obtained by
+ * clicking each of the items while holding down the "Control" key. This task is executed in the event dispatch thread.
+ *
+ * @see SelectionStrategy#MODEL
+ *
+ * @author Alex Ruiz
+ */
+final class JListModelSelectionTask {
+
+  @RunsInEDT
+  static void selectItems(final JList list, final int[] indices) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(list);
+        for (int index : indices) validateIndex(list, index);
+        select(list, indices);
+      }
+    });
+  }
+
+  @RunsInEDT
+  static void selectItems(final JList list, final String[] values, final JListCellReader cellReader) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(list);
+        select(list, matchingItemIndices(list, values, cellReader));
+      }
+    });
+  }
+
+  @RunsInEDT
+  static void selectItemRange(final JList list, final int start, final int end) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(list);
+        validateIndex(list, start);
+        validateIndex(list, end);
+        selectRange(list, start, end);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static int[] matchingItemIndices(JList list, String[] values, JListCellReader cellReader) {
+    Map<String, Integer> indices = new HashMap<String, Integer>();
+    for (String value : values) indices.put(value, null);
+    int pending = indices.size();
+    int size = list.getModel().getSize();
+    for (int i = 0; i < size && pending > 0; i++) {
+      String value = cellReader.valueAt(list, i);
+      if (!indices.containsKey(value) || indices.get(value) != null) continue;
+      indices.put(value, i);
+      pending--;
+    }
+    int[] matching = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      Integer index = indices.get(values[i]);
+      if (index == null)
+        throw new LocationUnavailableException(concat("Unable to find an element matching the value ", quote(values[i])));
+      matching[i] = index;
+    }
+    return matching;
+  }
+
+  /*
+   * Mimics clicking each item while holding down the "Control" key: the first click replaces the current selection,
+   * subsequent ones toggle the selection state of the clicked item. Like JListDriver.selectItem, items that are already
+   * the selected index are not "clicked."
+   */
+  @RunsInCurrentThread
+  private static void select(JList list, int[] indices) {
+    ListSelectionModel selectionModel = list.getSelectionModel();
+    selectionModel.setValueIsAdjusting(true);
+    try {
+      for (int i = 0; i < indices.length; i++) {
+        int index = indices[i];
+        if (list.getSelectedIndex() == index) continue;
+        if (i == 0) {
+          selectionModel.setSelectionInterval(index, index);
+          continue;
+        }
+        if (selectionModel.isSelectedIndex(index)) selectionModel.removeSelectionInterval(index, index);
+        else selectionModel.addSelectionInterval(index, index);
+      }
+    } finally {
+      selectionModel.setValueIsAdjusting(false);
+    }
+    list.ensureIndexIsVisible(indices[indices.length - 1]);
+  }
+
+  /*
+   * Mimics clicking the first item and then clicking the last one while holding down the "Shift" key, like
+   * JListDriver.selectItems(JList, int, int): the click on the first item is skipped if it is already the selected
+   * index. The "Shift" click selects the interval between the anchor and the clicked item, as BasicListUI does.
+   */
+  @RunsInCurrentThread
+  private static void selectRange(JList list, int start, int end) {
+    ListSelectionModel selectionModel = list.getSelectionModel();
+    selectionModel.setValueIsAdjusting(true);
+    try {
+      if (list.getSelectedIndex() != start) selectionModel.setSelectionInterval(start, start);
+      int anchor = selectionModel.getAnchorSelectionIndex();
+      selectionModel.setSelectionInterval(anchor >= 0 ? anchor : 0, end);
+    } finally {
+      selectionModel.setValueIsAdjusting(false);
+    }
+    list.ensureIndexIsVisible(end);
+  }
+
+  private JListModelSelectionTask() {}
+}
@@ -16,6 +16,7 @@ package org.fest.swing.driver;
 
 import java.awt.Point;
 
+import javax.swing.BoundedRangeModel;
 import javax.swing.JScrollBar;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
@@ -25,11 +26,17 @@ import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.util.GenericRange;
 import org.fest.swing.util.Pair;
 
+import static java.lang.Math.*;
+
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.AdjustmentStrategy.*;
+import static org.fest.swing.driver.CommonValidations.validateAdjustmentStrategy;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
 import static org.fest.swing.driver.JScrollBarSetValueTask.setValue;
 import static org.fest.swing.driver.JScrollBarValueQuery.valueOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.exception.ActionFailedException.actionFailure;
+import static org.fest.swing.format.Formatting.format;
 import static org.fest.util.Strings.concat;
 
 /**
@@ -46,6 +53,8 @@ public class JScrollBarDriver extends JComponentDriver {
 
   private final JScrollBarLocation location = new JScrollBarLocation();
 
+  private AdjustmentStrategy adjustmentStrategy = USER_INPUT;
+
   /**
    * Creates a new </code>{@link JScrollBarDriver}</code>.
    * @param robot the robot to use to simulate user input.
@@ -191,6 +200,10 @@ public class JScrollBarDriver extends JComponentDriver {
 
   @RunsInEDT
   private void scroll(JScrollBar scrollBar, Pair<Point, Integer> scrollInfo) {
+    if (adjustmentStrategy == MODEL) {
+      setValueInModel(scrollBar, scrollInfo.ii);
+      return;
+    }
     // For now, do it programmatically, faking the mouse movement and clicking
     robot.moveMouse(scrollBar, scrollInfo.i);
     setValueProperty(scrollBar, scrollInfo.ii);
@@ -289,6 +302,10 @@ public class JScrollBarDriver extends JComponentDriver {
   }
 
   private void scroll(JScrollBar scrollBar, int position, GenericRange<Point> points) {
+    if (adjustmentStrategy == MODEL) {
+      setValueInModel(scrollBar, position);
+      return;
+    }
     simulateScrolling(scrollBar, points);
     setValueProperty(scrollBar, position);
   }
@@ -305,6 +322,33 @@ public class JScrollBarDriver extends JComponentDriver {
     robot.waitForIdle();
   }
 
+  /*
+   * Used by the strategy AdjustmentStrategy.MODEL: the value is set without moving the mouse, and verified once the
+   * listeners of the JScrollBar are done with it.
+   */
+  @RunsInEDT
+  private void setValueInModel(JScrollBar scrollBar, int value) {
+    int expected = setValueAndReturnExpected(scrollBar, value);
+    robot.waitForIdle();
+    int actual = valueOf(scrollBar);
+    if (actual == expected) return;
+    throw actionFailure(concat(
+        "Expected the value of ", format(scrollBar), " to be <", expected, "> but was <", actual, ">"));
+  }
+
+  @RunsInEDT
+  private static int setValueAndReturnExpected(final JScrollBar scrollBar, final int value) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        BoundedRangeModel model = scrollBar.getModel();
+        // BoundedRangeModel keeps the value within the range, taking the extent into account
+        int expected = max(model.getMinimum(), min(value, model.getMaximum() - model.getExtent()));
+        model.setValue(value);
+        return expected;
+      }
+    });
+  }
+
   /**
    * Asserts that the value of the <code>{@link JScrollBar}</code> is equal to the given one.
    * @param scrollBar the target <code>JScrollBar</code>.
@@ -315,4 +359,17 @@ public class JScrollBarDriver extends JComponentDriver {
   public void requireValue(JScrollBar scrollBar, int value) {
     assertThat(valueOf(scrollBar)).as(propertyName(scrollBar, VALUE_PROPERTY)).isEqualTo(value);
   }
+
+  /**
+   * Updates the strategy to use when scrolling a <code>{@link JScrollBar}</code>. Using the strategy
+   * <code>{@link AdjustmentStrategy#MODEL}</code>, this driver does not move the mouse over the
+   * <code>JScrollBar</code>, and verifies its final value. The default strategy is
+   * <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param newAdjustmentStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newAdjustmentStrategy</code> is <code>null</code>.
+   */
+  public void adjustmentStrategy(AdjustmentStrategy newAdjustmentStrategy) {
+    validateAdjustmentStrategy(newAdjustmentStrategy);
+    adjustmentStrategy = newAdjustmentStrategy;
+  }
 }
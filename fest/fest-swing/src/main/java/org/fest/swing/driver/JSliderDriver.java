@@ -16,6 +16,7 @@ package org.fest.swing.driver;
 
 import java.awt.Point;
 
+import javax.swing.BoundedRangeModel;
 import javax.swing.JSlider;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
@@ -25,9 +26,15 @@ import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.util.GenericRange;
 import org.fest.swing.util.Pair;
 
+import static java.lang.Math.*;
+
+import static org.fest.swing.driver.AdjustmentStrategy.*;
+import static org.fest.swing.driver.CommonValidations.validateAdjustmentStrategy;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
 import static org.fest.swing.driver.JSliderSetValueTask.setValue;
 import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.exception.ActionFailedException.actionFailure;
+import static org.fest.swing.format.Formatting.format;
 import static org.fest.util.Strings.concat;
 
 /**
@@ -42,6 +49,8 @@ public class JSliderDriver extends JComponentDriver {
 
   private final JSliderLocation location;
 
+  private AdjustmentStrategy adjustmentStrategy = USER_INPUT;
+
   /**
    * Creates a new </code>{@link JSliderDriver}</code>.
    * @param robot the robot to use to simulate user input.
@@ -120,6 +129,10 @@ public class JSliderDriver extends JComponentDriver {
 
   @RunsInEDT
   private void slide(JSlider slider, int value, GenericRange<Point> fromAndTo) {
+    if (adjustmentStrategy == MODEL) {
+      setValueInModel(slider, value);
+      return;
+    }
     moveMouseIgnoringAnyError(slider, fromAndTo.from);
     moveMouseIgnoringAnyError(slider, fromAndTo.to);
     setValue(slider, value);
@@ -147,10 +160,58 @@ public class JSliderDriver extends JComponentDriver {
         concat("Value <", value, "> is not within the JSlider bounds of <", min, "> and <", max, ">"));
   }
 
+  /*
+   * Used by the strategy AdjustmentStrategy.MODEL: the value is set without moving the mouse, and verified once the
+   * listeners of the JSlider are done with it.
+   */
+  @RunsInEDT
+  private void setValueInModel(JSlider slider, int value) {
+    int expected = setValueAndReturnExpected(slider, value);
+    robot.waitForIdle();
+    int actual = valueOf(slider);
+    if (actual == expected) return;
+    throw actionFailure(concat(
+        "Expected the value of ", format(slider), " to be <", expected, "> but was <", actual, ">"));
+  }
+
+  @RunsInEDT
+  private static int setValueAndReturnExpected(final JSlider slider, final int value) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        BoundedRangeModel model = slider.getModel();
+        // BoundedRangeModel keeps the value within the range, taking the extent into account
+        int expected = max(model.getMinimum(), min(value, model.getMaximum() - model.getExtent()));
+        model.setValue(value);
+        return expected;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static int valueOf(final JSlider slider) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return slider.getValue();
+      }
+    });
+  }
+
   @RunsInCurrentThread
   private static GenericRange<Point> slideInfo(JSlider slider, JSliderLocation location, int value) {
     Point from = location.pointAt(slider, slider.getValue());
     Point to = location.pointAt(slider, value);
     return new GenericRange<Point>(from, to);
   }
+
+  /**
+   * Updates the strategy to use when sliding the knob of a <code>{@link JSlider}</code>. Using the strategy
+   * <code>{@link AdjustmentStrategy#MODEL}</code>, this driver does not move the mouse over the <code>JSlider</code>,
+   * and verifies its final value. The default strategy is <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param newAdjustmentStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newAdjustmentStrategy</code> is <code>null</code>.
+   */
+  public void adjustmentStrategy(AdjustmentStrategy newAdjustmentStrategy) {
+    validateAdjustmentStrategy(newAdjustmentStrategy);
+    adjustmentStrategy = newAdjustmentStrategy;
+  }
 }
@@ -25,22 +25,28 @@ import javax.swing.text.JTextComponent;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.NameMatcher;
 import org.fest.swing.core.Robot;
 import org.fest.swing.core.TypeMatcher;
 import org.fest.swing.edt.GuiTask;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.UnexpectedException;
+import org.fest.swing.util.Pair;
 
 import static javax.swing.text.DefaultEditorKit.selectAllAction;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.AdjustmentStrategy.*;
+import static org.fest.swing.driver.CommonValidations.validateAdjustmentStrategy;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.driver.JSpinnerModelAdjustmentTask.moveToLastStep;
 import static org.fest.swing.driver.JSpinnerSetValueTask.setValue;
 import static org.fest.swing.driver.JSpinnerValueQuery.valueOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.format.Formatting.format;
+import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Strings.*;
 
 /**
@@ -55,7 +61,12 @@ public class JSpinnerDriver extends JComponentDriver {
 
   private static final TypeMatcher EDITOR_MATCHER = new TypeMatcher(JTextComponent.class, true);
   private static final String VALUE_PROPERTY = "value";
-  
+
+  private static final NameMatcher NEXT_BUTTON_MATCHER = new NameMatcher("Spinner.nextButton", true);
+  private static final NameMatcher PREVIOUS_BUTTON_MATCHER = new NameMatcher("Spinner.previousButton", true);
+
+  private AdjustmentStrategy adjustmentStrategy = USER_INPUT;
+
   /**
    * Creates a new </code>{@link JSpinnerDriver}</code>.
    * @param robot the robot to use to simulate user input.
@@ -71,10 +82,17 @@ public class JSpinnerDriver extends JComponentDriver {
    * @throws IllegalArgumentException if <code>times</code> is less than or equal to zero.
    * @throws IllegalStateException if the <code>JSpinner</code> is disabled.
    * @throws IllegalStateException if the <code>JSpinner</code> is not showing on the screen.
+   * @throws ActionFailedException if, using the strategy <code>{@link AdjustmentStrategy#MODEL}</code>, the final
+   * value of the <code>JSpinner</code> is not the expected one.
+   * @see #adjustmentStrategy(AdjustmentStrategy)
    */
   @RunsInEDT
   public void increment(JSpinner spinner, int times) {
     validate(times, "increment the value");
+    if (adjustmentStrategy == MODEL) {
+      adjustValue(spinner, times);
+      return;
+    }
     validateAndIncrementValue(spinner, times);
     robot.waitForIdle();
   }
@@ -128,10 +146,17 @@ public class JSpinnerDriver extends JComponentDriver {
    * @throws IllegalArgumentException if <code>times</code> is less than or equal to zero.
    * @throws IllegalStateException if the <code>JSpinner</code> is disabled.
    * @throws IllegalStateException if the <code>JSpinner</code> is not showing on the screen.
+   * @throws ActionFailedException if, using the strategy <code>{@link AdjustmentStrategy#MODEL}</code>, the final
+   * value of the <code>JSpinner</code> is not the expected one.
+   * @see #adjustmentStrategy(AdjustmentStrategy)
    */
   @RunsInEDT
   public void decrement(JSpinner spinner, int times) {
     validate(times, "decrement the value");
+    if (adjustmentStrategy == MODEL) {
+      adjustValue(spinner, times * -1);
+      return;
+    }
     validateAndDecrementValue(spinner, times);
     robot.waitForIdle();
   }
@@ -142,6 +167,44 @@ public class JSpinnerDriver extends JComponentDriver {
         "The number of times to ", action, " should be greater than zero, but was <", times, ">"));
   }
 
+  /*
+   * All the steps but the last one are performed in a single change to the JSpinner's model. The last one is performed
+   * by clicking the JSpinner's "next" or "previous" button, if it can be found (except for SpinnerDateModels, where the
+   * model is changed for all the steps.)
+   */
+  @RunsInEDT
+  private void adjustValue(JSpinner spinner, int steps) {
+    Pair<Boolean, Object> adjustInfo = moveToLastStep(spinner, steps);
+    robot.waitForIdle();
+    if (adjustInfo.i) {
+      performLastStep(spinner, steps > 0 ? NEXT_BUTTON_MATCHER : PREVIOUS_BUTTON_MATCHER, adjustInfo.ii);
+      robot.waitForIdle();
+    }
+    verifyValue(spinner, adjustInfo.ii);
+  }
+
+  @RunsInEDT
+  private void performLastStep(JSpinner spinner, NameMatcher buttonMatcher, Object value) {
+    List<Component> found = new ArrayList<Component>(robot.finder().findAll(spinner, buttonMatcher));
+    if (found.size() == 1) {
+      robot.click(found.get(0));
+      return;
+    }
+    setValue(spinner, value);
+  }
+
+  @RunsInEDT
+  private static void verifyValue(final JSpinner spinner, final Object expected) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        Object actual = spinner.getValue();
+        if (areEqual(actual, expected)) return;
+        throw actionFailure(concat(
+            "Expected the value of ", format(spinner), " to be ", quote(expected), " but was ", quote(actual)));
+      }
+    });
+  }
+
   @RunsInEDT
   private static void validateAndDecrementValue(final JSpinner spinner, final int times) {
     execute(new GuiTask() {
@@ -293,4 +356,15 @@ public class JSpinnerDriver extends JComponentDriver {
   public void requireValue(JSpinner spinner, Object value) {
     assertThat(valueOf(spinner)).as(propertyName(spinner, VALUE_PROPERTY)).isEqualTo(value);
   }
+
+  /**
+   * Updates the strategy to use when incrementing or decrementing the value of a <code>{@link JSpinner}</code>
+   * multiple times. The default strategy is <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param newAdjustmentStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newAdjustmentStrategy</code> is <code>null</code>.
+   */
+  public void adjustmentStrategy(AdjustmentStrategy newAdjustmentStrategy) {
+    validateAdjustmentStrategy(newAdjustmentStrategy);
+    adjustmentStrategy = newAdjustmentStrategy;
+  }
 }
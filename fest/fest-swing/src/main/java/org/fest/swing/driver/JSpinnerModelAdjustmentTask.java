@@ -0,0 +1,131 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JSpinner;
+import javax.swing.SpinnerDateModel;
+import javax.swing.SpinnerListModel;
+import javax.swing.SpinnerModel;
+import javax.swing.SpinnerNumberModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.util.Pair;
+
+import static java.lang.Math.abs;
+
+import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands a task that increments or decrements the value of a <code>{@link JSpinner}</code> multiple times by
+ * updating its <code>{@link SpinnerModel}</code> directly. The value that results from all but the last step is
+ * computed on a copy of the model, and then set in the <code>JSpinner</code> in a single change. For a
+ * <code>{@link SpinnerDateModel}</code>, the value that results from all the steps is set. This task is executed in
+ * the event dispatch thread.
+ *
+ * @see AdjustmentStrategy#MODEL
+ *
+ * @author Alex Ruiz
+ */
+final class JSpinnerModelAdjustmentTask {
+
+  /**
+   * Moves the value of the given <code>{@link JSpinner}</code> to the one preceding the last step, or to the one after
+   * the last step if the <code>JSpinner</code> has a <code>{@link SpinnerDateModel}</code>.
+   * @param spinner the target <code>JSpinner</code>.
+   * @param steps the number of steps to move the value, positive to increment it and negative to decrement it.
+   * @return a pair indicating whether the last step still needs to be performed, and the value the
+   * <code>JSpinner</code> should have after all the steps.
+   * @throws IllegalStateException if the <code>JSpinner</code> is disabled.
+   * @throws IllegalStateException if the <code>JSpinner</code> is not showing on the screen.
+   */
+  @RunsInEDT
+  static Pair<Boolean, Object> moveToLastStep(final JSpinner spinner, final int steps) {
+    return execute(new GuiQuery<Pair<Boolean, Object>>() {
+      protected Pair<Boolean, Object> executeInEDT() {
+        validateIsEnabledAndShowing(spinner);
+        return moveToLastStep(spinner.getModel(), steps);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static Pair<Boolean, Object> moveToLastStep(SpinnerModel model, int steps) {
+    SpinnerModel copy = copyOf(model);
+    if (copy == null) return moveStepByStep(model, steps);
+    Object previous = model.getValue();
+    Object current = previous;
+    for (int i = abs(steps); i > 0; i--) {
+      Object next = steps > 0 ? copy.getNextValue() : copy.getPreviousValue();
+      if (next == null) break;
+      previous = current;
+      current = next;
+      copy.setValue(next);
+    }
+    if (previous == current) return new Pair<Boolean, Object>(false, current);
+    if (model instanceof SpinnerDateModel) return moveToValue(model, current);
+    model.setValue(previous);
+    return new Pair<Boolean, Object>(true, current);
+  }
+
+  /*
+   * Clicking the "next" or "previous" button of a JSpinner with a SpinnerDateModel changes the calendar field of the
+   * model to the one under the caret of the editor, so the value after the click cannot be computed on a copy: the
+   * last step is performed on the model as well.
+   */
+  @RunsInCurrentThread
+  private static Pair<Boolean, Object> moveToValue(SpinnerModel model, Object value) {
+    model.setValue(value);
+    return new Pair<Boolean, Object>(false, value);
+  }
+
+  /*
+   * Models of unknown type (including subclasses of the standard ones) may compute their next or previous values in
+   * ways we cannot reproduce on a copy: they are moved one step at a time, as JSpinnerDriver does by default.
+   */
+  @RunsInCurrentThread
+  private static Pair<Boolean, Object> moveStepByStep(SpinnerModel model, int steps) {
+    for (int i = abs(steps); i > 0; i--) {
+      Object next = steps > 0 ? model.getNextValue() : model.getPreviousValue();
+      if (next == null) break;
+      model.setValue(next);
+    }
+    return new Pair<Boolean, Object>(false, model.getValue());
+  }
+
+  @RunsInCurrentThread
+  private static SpinnerModel copyOf(SpinnerModel model) {
+    Class<?> type = model.getClass();
+    if (type == SpinnerNumberModel.class) {
+      SpinnerNumberModel m = (SpinnerNumberModel)model;
+      return new SpinnerNumberModel(m.getNumber(), m.getMinimum(), m.getMaximum(), m.getStepSize());
+    }
+    if (type == SpinnerDateModel.class) {
+      SpinnerDateModel m = (SpinnerDateModel)model;
+      return new SpinnerDateModel(m.getDate(), m.getStart(), m.getEnd(), m.getCalendarField());
+    }
+    if (type == SpinnerListModel.class) {
+      SpinnerListModel m = (SpinnerListModel)model;
+      SpinnerListModel copy = new SpinnerListModel(m.getList());
+      copy.setValue(m.getValue());
+      return copy;
+    }
+    return null;
+  }
+
+  private JSpinnerModelAdjustmentTask() {}
+}
@@ -17,8 +17,6 @@ package org.fest.swing.driver;
 
 import java.awt.Component;
 import java.awt.Point;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.swing.JTabbedPane;
 
@@ -27,7 +25,6 @@ import org.fest.swing.core.Robot;
 import org.fest.swing.data.Index;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.exception.LocationUnavailableException;
-import org.fest.swing.util.Pair;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
@@ -85,26 +82,31 @@ public class JTabbedPaneDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void selectTab(JTabbedPane tabbedPane, String title) {
-    Pair<Integer, Point> tabToSelectInfo = tabToSelectInfo(location, tabbedPane, title);
-    Point target = tabToSelectInfo.ii;
+    Point target = pointAtTabOrSelectIt(location, tabbedPane, title);
     if (target != null) {
       click(tabbedPane, target);
       return;
     }
-    setTabDirectly(tabbedPane, tabToSelectInfo.i);
+    robot.waitForIdle();
   }
 
+  /*
+   * Finds the tab with the given title, validates and, if the tab is not visible, selects it directly in a single trip
+   * to the EDT. Returns the point to click if the tab is visible, null otherwise.
+   */
   @RunsInEDT
-  private static Pair<Integer, Point> tabToSelectInfo(final JTabbedPaneLocation location, final JTabbedPane tabbedPane, final String title) {
-    return execute(new GuiQuery<Pair<Integer, Point>>() {
-      protected Pair<Integer, Point> executeInEDT() {
+  private static Point pointAtTabOrSelectIt(final JTabbedPaneLocation location, final JTabbedPane tabbedPane,
+      final String title) {
+    return execute(new GuiQuery<Point>() {
+      protected Point executeInEDT() {
         validateIsEnabledAndShowing(tabbedPane);
         int index = location.indexOf(tabbedPane, title);
-        Point point = null;
         try {
-          point = location.pointAt(tabbedPane, index);
-        } catch (LocationUnavailableException e) {}
-        return new Pair<Integer, Point>(index, point);
+          return location.pointAt(tabbedPane, index);
+        } catch (LocationUnavailableException e) {
+          tabbedPane.setSelectedIndex(index);
+          return null;
+        }
       }
     });
   }
@@ -193,20 +195,7 @@ public class JTabbedPaneDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void requireTabTitles(JTabbedPane tabbedPane, String[] titles) {
-    String[] actualTitles = allTabTitlesIn(tabbedPane);
+    String[] actualTitles = tabTitlesOf(tabbedPane);
     assertThat(actualTitles).as(propertyName(tabbedPane, "tabTitles")).isEqualTo(titles);
   }
-
-  @RunsInEDT
-  private static String[] allTabTitlesIn(final JTabbedPane tabbedPane) {
-    return execute(new GuiQuery<String[]>() {
-      protected String[] executeInEDT() {
-        List<String> allTitles = new ArrayList<String>();
-        int tabCount = tabbedPane.getTabCount();
-        for (int i = 0; i < tabCount; i++)
-          allTitles.add(tabbedPane.getTitleAt(i));
-        return allTitles.toArray(new String[allTitles.size()]);
-      }
-    });
-  }
 }
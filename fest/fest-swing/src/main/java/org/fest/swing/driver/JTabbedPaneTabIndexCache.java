@@ -0,0 +1,138 @@
+/*
+ * Created on Jul 27, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import javax.swing.JTabbedPane;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Understands a cache of the indices of the tabs in a <code>{@link JTabbedPane}</code> having a given title, per
+ * <code>JTabbedPane</code>.
+ * <p>
+ * The titles of all the tabs in a <code>JTabbedPane</code> are read once, and discarded as soon as tabs are added or
+ * removed, or a tab title changes (notified through the "indexForTitle" property.) Since not all versions of Swing
+ * notify title changes, cached indices are only returned if the tab at such index still has the given title.
+ * <code>JTabbedPane</code>s are weakly referenced by this cache. Its listeners are registered only in the
+ * <code>JTabbedPane</code> whose titles are cached, so both are garbage-collected together.
+ * </p>
+ * <p>
+ * Only titles that match themselves literally are looked up in this cache. Titles containing regular expression
+ * characters may match more than one title, and have to be matched against all the tabs.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class JTabbedPaneTabIndexCache {
+
+  private static final String INDEX_FOR_TITLE_PROPERTY = "indexForTitle";
+  private static final Pattern REGEX_CHARACTERS = Pattern.compile("[\\\\\\^\\$\\.\\|\\?\\*\\+\\(\\)\\[\\]\\{\\}]");
+
+  @GuardedBy("this")
+  private final Map<JTabbedPane, Titles> caches = new WeakHashMap<JTabbedPane, Titles>();
+
+  /**
+   * Indicates whether the given title can be looked up in this cache.
+   * @param title the title to look up.
+   * @return <code>true</code> if the given title only matches itself; <code>false</code> otherwise.
+   */
+  static boolean isCacheable(String title) {
+    return title != null && !REGEX_CHARACTERS.matcher(title).find();
+  }
+
+  /**
+   * Returns the index of the first tab having the given title. The titles of the tabs in the given
+   * <code>{@link JTabbedPane}</code> are read and cached if they were not cached yet.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT.
+   * </p>
+   * @param tabbedPane the target <code>JTabbedPane</code>.
+   * @param title the title of the tab. It should be a title accepted by <code>{@link #isCacheable(String)}</code>.
+   * @return the index of the first tab having the given title, or -1 if none of the tabs has the given title.
+   */
+  @RunsInCurrentThread
+  synchronized int indexOf(JTabbedPane tabbedPane, String title) {
+    Titles titles = caches.get(tabbedPane);
+    if (titles == null) {
+      titles = new Titles();
+      tabbedPane.addContainerListener(titles);
+      tabbedPane.addPropertyChangeListener(INDEX_FOR_TITLE_PROPERTY, titles);
+      caches.put(tabbedPane, titles);
+    }
+    int tabCount = tabbedPane.getTabCount();
+    if (titles.isEmpty() || titles.tabCount != tabCount) titles.read(tabbedPane);
+    Integer index = titles.get(title);
+    if (index == null) return -1;
+    if (index < tabCount && areEqual(title, tabbedPane.getTitleAt(index))) return index;
+    titles.read(tabbedPane);
+    index = titles.get(title);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * Discards all the cached indices.
+   */
+  synchronized void clear() {
+    for (Titles titles : caches.values()) titles.clear();
+  }
+
+  /*
+   * Does not keep a reference to the JTabbedPane, otherwise the JTabbedPane would never be removed from the
+   * WeakHashMap.
+   */
+  private class Titles implements ContainerListener, PropertyChangeListener {
+    private final Map<String, Integer> indices = new HashMap<String, Integer>();
+    int tabCount;
+
+    @RunsInCurrentThread
+    void read(JTabbedPane tabbedPane) {
+      indices.clear();
+      tabCount = tabbedPane.getTabCount();
+      for (int i = tabCount - 1; i >= 0; i--) indices.put(tabbedPane.getTitleAt(i), i);
+    }
+
+    Integer get(String title) { return indices.get(title); }
+
+    boolean isEmpty() { return indices.isEmpty(); }
+
+    void clear() { indices.clear(); }
+
+    public void componentAdded(ContainerEvent e) { invalidate(); }
+    public void componentRemoved(ContainerEvent e) { invalidate(); }
+    public void propertyChange(PropertyChangeEvent e) { invalidate(); }
+
+    private void invalidate() {
+      synchronized (JTabbedPaneTabIndexCache.this) {
+        clear();
+      }
+    }
+  }
+}
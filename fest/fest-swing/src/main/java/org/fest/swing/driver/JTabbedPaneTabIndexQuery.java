@@ -19,6 +19,7 @@ import javax.swing.JTabbedPane;
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.edt.GuiQuery;
 
+import static org.fest.swing.driver.JTabbedPaneTabIndexCache.isCacheable;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.util.Strings.match;
 
@@ -26,6 +27,10 @@ import static org.fest.swing.util.Strings.match;
  * Understands an action that returns the index of a tab (in a <code>{@link JTabbedPane}</code>) whose title matches the
  * given text. This action returns -1 if a matching tab could not be found.
  * <p>
+ * Indices of tabs with titles that do not contain regular expression characters are cached per
+ * <code>JTabbedPane</code>, to avoid matching the given text against the titles of all the tabs on every call.
+ * </p>
+ * <p>
  * <b>Note:</b> Methods in this class are <b>not</b> executed in the event dispatch thread (EDT.) Clients are
  * responsible for invoking them in the EDT.
  * </p>
@@ -35,10 +40,13 @@ import static org.fest.swing.util.Strings.match;
  */
 final class JTabbedPaneTabIndexQuery {
 
+  private static final JTabbedPaneTabIndexCache CACHE = new JTabbedPaneTabIndexCache();
+
   @RunsInCurrentThread
   static int indexOfTab(final JTabbedPane tabbedPane, final String title) {
     return execute(new GuiQuery<Integer>() {
       protected Integer executeInEDT() {
+        if (isCacheable(title)) return CACHE.indexOf(tabbedPane, title);
         int tabCount = tabbedPane.getTabCount();
         for (int i = 0; i < tabCount; i++)
           if (match(title, tabbedPane.getTitleAt(i))) return i;
@@ -0,0 +1,179 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.LinkedList;
+
+import javax.swing.JTable;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.ComponentMatcher;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.timing.Condition;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Strings.concat;
+
+/**
+ * Understands a condition that is satisfied when the component used as editor by a <code>{@link JTable}</code>
+ * (or a component in the editor's hierarchy) matches certain search criteria. Instead of searching the
+ * <code>JTable</code>'s hierarchy every time it is evaluated, this condition listens to changes in the
+ * <code>JTable</code>'s "tableCellEditor" property and to components being added to or removed from the
+ * <code>JTable</code>, and only looks at the editor component when any of those changes happen. Such changes wake up
+ * <code>{@link org.fest.swing.timing.Pause#pause(Condition)}</code> right away, instead of at the next polling
+ * interval.
+ * <p>
+ * As a safeguard against changes that are not reported through such events (e.g. the editor component being made
+ * visible after it was added to the <code>JTable</code>,) the editor component is also looked at periodically.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class JTableCellEditorFoundCondition extends Condition {
+
+  private static final String CELL_EDITOR_PROPERTY = "tableCellEditor";
+
+  static final long CHECK_INTERVAL = 100;
+
+  private final ComponentMatcher matcher;
+  private final JTable table;
+
+  private volatile boolean changed;
+
+  private final PropertyChangeListener cellEditorListener = new PropertyChangeListener() {
+    public void propertyChange(PropertyChangeEvent e) {
+      onChange();
+    }
+  };
+
+  private final ContainerListener editorComponentListener = new ContainerListener() {
+    public void componentAdded(ContainerEvent e) {
+      onChange();
+    }
+
+    public void componentRemoved(ContainerEvent e) {
+      onChange();
+    }
+  };
+
+  private boolean listening;
+  private long nextCheck;
+  private Component found;
+
+  /**
+   * Creates a new <code>{@link JTableCellEditorFoundCondition}</code>.
+   * @param matcher specifies the condition that the editor component needs to match.
+   * @param table the <code>JTable</code> whose editor we are waiting for.
+   */
+  JTableCellEditorFoundCondition(ComponentMatcher matcher, JTable table) {
+    super(concat("cell editor matching ", matcher));
+    this.matcher = matcher;
+    this.table = table;
+  }
+
+  private void onChange() {
+    changed = true;
+    signal();
+  }
+
+  /**
+   * Returns <code>true</code> if the component used as editor by the <code>JTable</code> (or a component in its
+   * hierarchy) matches the search criteria in this condition's <code>{@link ComponentMatcher}</code>.
+   * @return <code>true</code> if a matching editor component can be found, <code>false</code> otherwise.
+   */
+  public boolean test() {
+    if (!listening) {
+      listening = true;
+      return check(startListeningAndFindEditor());
+    }
+    if (!changed && System.currentTimeMillis() < nextCheck) return false;
+    changed = false;
+    return check(findEditor());
+  }
+
+  private boolean check(Component editor) {
+    nextCheck = System.currentTimeMillis() + CHECK_INTERVAL;
+    found = editor;
+    return editor != null;
+  }
+
+  @RunsInEDT
+  private Component startListeningAndFindEditor() {
+    return execute(new GuiQuery<Component>() {
+      protected Component executeInEDT() {
+        // start listening before looking at the editor, to not miss any change made while doing it
+        table.addPropertyChangeListener(CELL_EDITOR_PROPERTY, cellEditorListener);
+        table.addContainerListener(editorComponentListener);
+        return matchingEditor();
+      }
+    });
+  }
+
+  @RunsInEDT
+  private Component findEditor() {
+    return execute(new GuiQuery<Component>() {
+      protected Component executeInEDT() {
+        return matchingEditor();
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private Component matchingEditor() {
+    Component editor = table.getEditorComponent();
+    if (editor == null) return null;
+    Component matching = null;
+    LinkedList<Component> pending = new LinkedList<Component>();
+    pending.add(editor);
+    while (!pending.isEmpty()) {
+      Component c = pending.removeFirst();
+      if (matcher.matches(c)) {
+        if (matching != null) return null; // the editor should be the only matching component
+        matching = c;
+      }
+      if (!(c instanceof Container)) continue;
+      for (Component child : ((Container)c).getComponents()) pending.add(child);
+    }
+    return matching;
+  }
+
+  /**
+   * Returns the editor component found (if any.)
+   * @return the editor component found.
+   */
+  Component found() { return found; }
+
+  /**
+   * Stops listening to changes in the <code>JTable</code>.
+   */
+  @Override protected void done() {
+    if (!listening) return;
+    listening = false;
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        table.removePropertyChangeListener(CELL_EDITOR_PROPERTY, cellEditorListener);
+        table.removeContainerListener(editorComponentListener);
+      }
+    });
+  }
+}
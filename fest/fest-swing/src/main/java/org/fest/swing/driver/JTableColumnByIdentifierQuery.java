@@ -16,6 +16,7 @@ package org.fest.swing.driver;
 
 import javax.swing.JTable;
 import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
 
@@ -26,6 +27,9 @@ import org.fest.swing.annotation.RunsInCurrentThread;
  * <b>Note:</b> Methods in this class are <b>not</b> executed in the event dispatch thread (EDT.) Clients are
  * responsible for invoking them in the EDT.
  * </p>
+ * <p>
+ * Found indices are cached per <code>{@link TableColumnModel}</code> until columns are added, removed or moved.
+ * </p>
  * @see JTable#getColumn(Object)
  * @see TableColumn#getModelIndex()
  * 
@@ -33,11 +37,18 @@ import org.fest.swing.annotation.RunsInCurrentThread;
  */
 final class JTableColumnByIdentifierQuery {
 
+  private static final JTableColumnIndexCache CACHE = new JTableColumnIndexCache();
+
   @RunsInCurrentThread
   static int columnIndexByIdentifier(final JTable table, final Object identifier) {
+    TableColumnModel columnModel = table.getColumnModel();
+    Integer cached = CACHE.get(columnModel, identifier);
+    if (cached != null) return cached;
     try {
       TableColumn column = table.getColumn(identifier);
-      return table.convertColumnIndexToView(column.getModelIndex());
+      int index = table.convertColumnIndexToView(column.getModelIndex());
+      CACHE.put(columnModel, identifier, index);
+      return index;
     } catch (IllegalArgumentException e) {
       return -1;
     }
@@ -0,0 +1,122 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JTable;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.table.TableColumnModel;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Understands a cache of the indices of the columns in a <code>{@link JTable}</code> having a given identifier, per
+ * <code>{@link TableColumnModel}</code>.
+ * <p>
+ * The cached indices of a <code>TableColumnModel</code> are discarded as soon as columns are added, removed or moved.
+ * Since changing the identifier of a column is not notified by its <code>TableColumnModel</code>, cached indices are
+ * only returned if the column at such index still has the given identifier. Column models are weakly referenced by
+ * this cache. Its listener is registered only in the column model whose indices are cached, so both are
+ * garbage-collected together.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class JTableColumnIndexCache {
+
+  @GuardedBy("this")
+  private final Map<TableColumnModel, Indices> caches = new WeakHashMap<TableColumnModel, Indices>();
+
+  /**
+   * Returns the cached index of the column having the given identifier.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT.
+   * </p>
+   * @param columnModel the target <code>TableColumnModel</code>.
+   * @param identifier the identifier of the column.
+   * @return the cached index, or <code>null</code> if there is no index cached or if the column at the cached index
+   * does not have the given identifier anymore.
+   */
+  synchronized Integer get(TableColumnModel columnModel, Object identifier) {
+    Indices indices = caches.get(columnModel);
+    if (indices == null) return null;
+    Integer index = indices.get(identifier);
+    if (index == null) return null;
+    if (index < columnModel.getColumnCount() && areEqual(identifier, columnModel.getColumn(index).getIdentifier()))
+      return index;
+    indices.clear();
+    return null;
+  }
+
+  /**
+   * Caches the index of the column having the given identifier.
+   * @param columnModel the target <code>TableColumnModel</code>.
+   * @param identifier the identifier of the column.
+   * @param index the index to cache.
+   */
+  synchronized void put(TableColumnModel columnModel, Object identifier, int index) {
+    Indices indices = caches.get(columnModel);
+    if (indices == null) {
+      indices = new Indices();
+      columnModel.addColumnModelListener(indices);
+      caches.put(columnModel, indices);
+    }
+    indices.put(identifier, index);
+  }
+
+  /**
+   * Discards all the cached indices.
+   */
+  synchronized void clear() {
+    for (Indices indices : caches.values()) indices.clear();
+  }
+
+  /*
+   * Does not keep a reference to the TableColumnModel, otherwise the model would never be removed from the
+   * WeakHashMap.
+   */
+  private class Indices implements TableColumnModelListener {
+    private final Map<Object, Integer> indices = new HashMap<Object, Integer>();
+
+    Integer get(Object identifier) { return indices.get(identifier); }
+
+    void put(Object identifier, int index) { indices.put(identifier, index); }
+
+    void clear() { indices.clear(); }
+
+    public void columnAdded(TableColumnModelEvent e) { invalidate(); }
+    public void columnRemoved(TableColumnModelEvent e) { invalidate(); }
+    public void columnMoved(TableColumnModelEvent e) { invalidate(); }
+    public void columnMarginChanged(ChangeEvent e) {}
+    public void columnSelectionChanged(ListSelectionEvent e) {}
+
+    private void invalidate() {
+      synchronized (JTableColumnIndexCache.this) {
+        clear();
+      }
+    }
+  }
+}
@@ -18,6 +18,10 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
 import javax.swing.JPopupMenu;
 import javax.swing.JTable;
@@ -39,6 +43,9 @@ import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.util.Arrays;
 import org.fest.swing.util.Pair;
 
+import static java.lang.String.valueOf;
+import static java.util.Arrays.sort;
+
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.Fail.fail;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
@@ -54,6 +61,7 @@ import static org.fest.swing.driver.JTableHasSelectionQuery.hasSelection;
 import static org.fest.swing.driver.JTableHeaderQuery.tableHeader;
 import static org.fest.swing.driver.JTableMatchingCellQuery.cellWithValue;
 import static org.fest.swing.driver.JTableSingleRowCellSelectedQuery.isCellSelected;
+import static org.fest.swing.driver.SelectionStrategy.*;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.util.Arrays.equal;
@@ -75,9 +83,12 @@ public class JTableDriver extends JComponentDriver {
   private static final String SELECTION_PROPERTY = "selection";
   private static final String VALUE_PROPERTY = "value";
 
+  private static final JTableMatchingCellCache MATCHING_CELLS = new JTableMatchingCellCache();
+
   private final JTableLocation location = new JTableLocation();
   private JTableCellReader cellReader;
   private JTableCellWriter cellWriter;
+  private SelectionStrategy selectionStrategy = USER_INPUT;
 
   /**
    * Creates a new </code>{@link JTableDriver}</code>.
@@ -85,7 +96,7 @@ public class JTableDriver extends JComponentDriver {
    */
   public JTableDriver(Robot robot) {
     super(robot);
-    cellReader(new BasicJTableCellReader());
+    cellReader = new BasicJTableCellReader();
     cellWriter(new BasicJTableCellWriter(robot));
   }
 
@@ -152,7 +163,9 @@ public class JTableDriver extends JComponentDriver {
   }
 
   /**
-   * Returns a cell from the given <code>{@link JTable}</code> whose value matches the given one.
+   * Returns a cell from the given <code>{@link JTable}</code> whose value matches the given one. Found cells are
+   * cached until the <code>JTable</code>'s model notifies any change or its columns are added, removed or moved, so
+   * looking up the same value again does not require scanning the whole <code>JTable</code>.
    * @param table the target <code>JTable</code>.
    * @param value the value of the cell to look for.
    * @return a cell from the given <code>JTable</code> whose value matches the given one.
@@ -160,7 +173,7 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public TableCell cell(JTable table, String value) {
-    return cellWithValue(table, value, cellReader);
+    return cellWithValue(table, value, cellReader, MATCHING_CELLS);
   }
 
 
@@ -298,9 +311,15 @@ public class JTableDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JTable</code> is not showing on the screen.
    * @throws NullPointerException if any element in <code>cells</code> is <code>null</code>.
    * @throws IndexOutOfBoundsException if any of the indices of any of the <code>cells</code> are out of bounds.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   public void selectCells(final JTable table, final TableCell[] cells) {
     validateCellsToSelect(cells);
+    if (selectionStrategy == MODEL) {
+      JTableModelSelectionTask.selectCells(table, cells, location);
+      robot.waitForIdle();
+      return;
+    }
     new MultipleSelectionTemplate(robot) {
       int elementCount() {
         return cells.length;
@@ -549,6 +568,82 @@ public class JTableDriver extends JComponentDriver {
     cellWriter.enterValue(table, cell.row, cell.column, value);
   }
 
+  /**
+   * Enters the given values in the given cells of the <code>{@link JTable}</code>, using this driver's
+   * <code>{@link JTableCellWriter}</code>. Cells are edited in row-major order. When the writer supports it (e.g.
+   * <code>{@link BasicJTableCellWriter}</code> with text component editors,) a cell next to the one edited last is
+   * reached with the "Tab" (next column) or "Enter" (next row) key instead of being clicked. A failure to enter a
+   * value does not stop the remaining cells from being edited: all failures are reported together once every cell has
+   * been processed.
+   * @param table the target <code>JTable</code>.
+   * @param values the values to enter, keyed by the cells to enter them in.
+   * @throws NullPointerException if the given map is <code>null</code> or contains a <code>null</code> cell.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws NullPointerException if any of the values to enter is <code>null</code>. No cell is edited in this case.
+   * @throws IllegalStateException if the <code>JTable</code> is disabled.
+   * @throws IllegalStateException if the <code>JTable</code> is not showing on the screen.
+   * @throws IndexOutOfBoundsException if any of the indices of any of the cells are out of bounds.
+   * @throws ActionFailedException if this driver's <code>JTableCellWriter</code> is unable to enter the value of one
+   * or more cells. The message of this exception lists each of those cells with the reason of the failure.
+   * @see #cellWriter(JTableCellWriter)
+   */
+  @RunsInEDT
+  public void enterValues(JTable table, Map<TableCell, String> values) {
+    validateValuesToEnter(values);
+    TableCell[] cells = values.keySet().toArray(new TableCell[values.size()]);
+    validateCellsToEnterValuesIn(table, cells);
+    sort(cells, ROW_MAJOR_ORDER);
+    List<String> failures = new ArrayList<String>();
+    TableCell previous = null;
+    for (TableCell cell : cells) {
+      try {
+        enterValue(table, previous, cell, values.get(cell));
+        previous = cell;
+      } catch (RuntimeException e) {
+        failures.add(concat(cell, ": ", e.getMessage()));
+        previous = null;
+      }
+    }
+    if (failures.isEmpty()) return;
+    throw actionFailure(concat("Unable to enter values in ", valueOf(failures.size()), " cell(s): ", failures));
+  }
+
+  private void validateValuesToEnter(Map<TableCell, String> values) {
+    if (values == null) throw new NullPointerException("Map of values to enter should not be null");
+    if (values.isEmpty()) throw new IllegalArgumentException("Map of values to enter should not be empty");
+    for (Map.Entry<TableCell, String> entry : values.entrySet()) {
+      if (entry.getValue() != null) continue;
+      throw new NullPointerException(concat("The value to enter in cell ", entry.getKey(), " should not be null"));
+    }
+  }
+
+  @RunsInEDT
+  private static void validateCellsToEnterValuesIn(final JTable table, final TableCell[] cells) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(table);
+        for (TableCell cell : cells) validateCellIndices(table, cell);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private void enterValue(JTable table, TableCell previous, TableCell cell, String value) {
+    if (previous != null && cellWriter instanceof AbstractJTableCellWriter) {
+      AbstractJTableCellWriter writer = (AbstractJTableCellWriter)cellWriter;
+      if (writer.enterValueInAdjacentCell(table, previous.row, previous.column, cell.row, cell.column, value)) return;
+    }
+    cellWriter.enterValue(table, cell.row, cell.column, value);
+  }
+
+  private static final Comparator<TableCell> ROW_MAJOR_ORDER = new Comparator<TableCell>() {
+    public int compare(TableCell c1, TableCell c2) {
+      if (c1.row != c2.row) return c1.row < c2.row ? -1 : 1;
+      if (c1.column != c2.column) return c1.column < c2.column ? -1 : 1;
+      return 0;
+    }
+  };
+
   /**
    * Asserts that the given table cell is editable.
    * @param table the target <code>JTable</code>.
@@ -705,6 +800,17 @@ public class JTableDriver extends JComponentDriver {
     cellWriter = newCellWriter;
   }
 
+  /**
+   * Updates the strategy to use when selecting multiple cells in a <code>{@link JTable}</code>. The default strategy
+   * is <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param newSelectionStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newSelectionStrategy</code> is <code>null</code>.
+   */
+  public void selectionStrategy(SelectionStrategy newSelectionStrategy) {
+    validateSelectionStrategy(newSelectionStrategy);
+    selectionStrategy = newSelectionStrategy;
+  }
+
   /**
    * Returns the number of rows that can be shown in the given <code>{@link JTable}</code>, given unlimited space.
    * @param table the target <code>JTable</code>.
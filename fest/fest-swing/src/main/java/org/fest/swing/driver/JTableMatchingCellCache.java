@@ -0,0 +1,155 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JTable;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.data.TableCell;
+
+/**
+ * Understands a cache of the first cells in a <code>{@link JTable}</code> having a given value, as read by a given
+ * <code>{@link JTableCellReader}</code>, per <code>JTable</code>.
+ * <p>
+ * The cached cells of a <code>JTable</code> are discarded as soon as its <code>{@link TableModel}</code> notifies any
+ * change, when columns are added, removed or moved in its <code>{@link TableColumnModel}</code>, or when its model or
+ * column model is replaced. Tables and cell readers are weakly referenced by this cache, and so are the cached cells by
+ * the listeners registered in models, since a model may outlive the tables using it.
+ * </p>
+ * <p>
+ * Listeners are registered only the first time a cell of a <code>JTable</code> is cached, so a single instance of this
+ * cache is meant to be shared by all the drivers looking up cells in the same <code>JTable</code>.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class JTableMatchingCellCache {
+
+  private static final String MODEL_PROPERTY = "model";
+  private static final String COLUMN_MODEL_PROPERTY = "columnModel";
+
+  @GuardedBy("this")
+  private final Map<JTable, Cells> caches = new WeakHashMap<JTable, Cells>();
+
+  /**
+   * Returns the cached cell having the given value.
+   * @param table the target <code>JTable</code>.
+   * @param cellReader the cell reader that read the value of the cell.
+   * @param value the value of the cell to look for.
+   * @return the cached cell, or <code>null</code> if there is no cell cached.
+   */
+  synchronized TableCell get(JTable table, JTableCellReader cellReader, String value) {
+    Cells cells = caches.get(table);
+    if (cells == null) return null;
+    return cells.get(cellReader, value);
+  }
+
+  /**
+   * Caches the given cell.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT, since it registers listeners in the <code>JTable</code> and its models.
+   * </p>
+   * @param table the target <code>JTable</code>.
+   * @param cellReader the cell reader that read the value of the cell.
+   * @param value the value of the cell to cache.
+   * @param cell the cell to cache.
+   */
+  synchronized void put(JTable table, JTableCellReader cellReader, String value, TableCell cell) {
+    Cells cells = caches.get(table);
+    if (cells == null) {
+      cells = new Cells();
+      cells.listenTo(table.getModel());
+      cells.listenTo(table.getColumnModel());
+      table.addPropertyChangeListener(MODEL_PROPERTY, cells);
+      table.addPropertyChangeListener(COLUMN_MODEL_PROPERTY, cells);
+      caches.put(table, cells);
+    }
+    cells.put(cellReader, value, cell);
+  }
+
+  /**
+   * Discards all the cached cells.
+   */
+  synchronized void clear() {
+    for (Cells cells : caches.values()) cells.clear();
+  }
+
+  /*
+   * Does not keep a reference to the JTable, otherwise the JTable would never be removed from the WeakHashMap.
+   */
+  private class Cells implements PropertyChangeListener, TableModelListener, TableColumnModelListener {
+    private final Map<JTableCellReader, Map<String, TableCell>> cells =
+      new WeakHashMap<JTableCellReader, Map<String, TableCell>>();
+    private final WeakModelListener modelListener = new WeakModelListener(this);
+
+    void listenTo(Object model) { modelListener.listenTo(model); }
+
+    TableCell get(JTableCellReader cellReader, String value) {
+      Map<String, TableCell> cellsRead = cells.get(cellReader);
+      if (cellsRead == null) return null;
+      return cellsRead.get(value);
+    }
+
+    void put(JTableCellReader cellReader, String value, TableCell cell) {
+      Map<String, TableCell> cellsRead = cells.get(cellReader);
+      if (cellsRead == null) {
+        cellsRead = new HashMap<String, TableCell>();
+        cells.put(cellReader, cellsRead);
+      }
+      cellsRead.put(value, cell);
+    }
+
+    void clear() { cells.clear(); }
+
+    public void propertyChange(PropertyChangeEvent e) {
+      modelListener.stopListeningTo(e.getOldValue());
+      modelListener.listenTo(e.getNewValue());
+      invalidate();
+    }
+
+    public void tableChanged(TableModelEvent e) { invalidate(); }
+
+    public void columnAdded(TableColumnModelEvent e) { invalidate(); }
+    public void columnRemoved(TableColumnModelEvent e) { invalidate(); }
+    public void columnMoved(TableColumnModelEvent e) { invalidate(); }
+    public void columnMarginChanged(ChangeEvent e) {}
+    public void columnSelectionChanged(ListSelectionEvent e) {}
+
+    private void invalidate() {
+      synchronized (JTableMatchingCellCache.this) {
+        clear();
+      }
+    }
+  }
+}
@@ -31,21 +31,35 @@ import static org.fest.util.Strings.*;
 
 /**
  * Understands an action, executed in the event dispatch thread, that returns the first cell in a 
- * <code>{@link JTable}</code> whose value matches the given one.
+ * <code>{@link JTable}</code> whose value matches the given one. The <code>JTable</code> is only scanned if the given
+ * <code>{@link JTableMatchingCellCache}</code> does not have a cell for the given value and
+ * <code>{@link JTableCellReader}</code>, or if the value of the cached cell, read with such reader, does not match
+ * anymore.
  *
  * @author Alex Ruiz
  */
 final class JTableMatchingCellQuery {
 
   @RunsInEDT
-  static TableCell cellWithValue(final JTable table, final String value, final JTableCellReader cellReader) {
+  static TableCell cellWithValue(final JTable table, final String value, final JTableCellReader cellReader,
+      final JTableMatchingCellCache cache) {
     return execute(new GuiQuery<TableCell>() {
       protected TableCell executeInEDT() {
-        return findMatchingCell(table, value, cellReader);
+        TableCell cached = cache.get(table, cellReader, value);
+        if (cached != null && stillHasValue(table, cached, value, cellReader)) return cached;
+        TableCell found = findMatchingCell(table, value, cellReader);
+        cache.put(table, cellReader, value, found);
+        return found;
       }
     });
   }
 
+  @RunsInCurrentThread
+  private static boolean stillHasValue(JTable table, TableCell cell, String value, JTableCellReader cellReader) {
+    if (cell.row >= table.getRowCount() || cell.column >= table.getColumnCount()) return false;
+    return cellHasValue(table, cell.row, cell.column, value, cellReader);
+  }
+
   @RunsInCurrentThread
   private static TableCell findMatchingCell(JTable table, String value, JTableCellReader cellReader) {
     int rCount = table.getRowCount();
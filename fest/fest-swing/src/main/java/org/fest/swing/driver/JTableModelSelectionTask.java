@@ -0,0 +1,78 @@
+/*
+ * Created on Jul 20, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.driver.JTableCellValidator.validateCellIndices;
+import static org.fest.swing.driver.JTableSingleRowCellSelectedQuery.isCellSelected;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands a task that selects multiple cells in a <code>{@link JTable}</code> by updating its row and column
+ * <code>{@link ListSelectionModel}</code>s directly, through
+ * <code>{@link JTable#changeSelection(int, int, boolean, boolean)}</code>. The resulting selection is the same as the
+ * one obtained by clicking each of the cells while holding down the "Control" key. This task is executed in the event
+ * dispatch thread.
+ *
+ * @see SelectionStrategy#MODEL
+ *
+ * @author Alex Ruiz
+ */
+final class JTableModelSelectionTask {
+
+  @RunsInEDT
+  static void selectCells(final JTable table, final TableCell[] cells, final JTableLocation location) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(table);
+        for (TableCell cell : cells) validateCellIndices(table, cell);
+        select(table, cells);
+        table.scrollRectToVisible(location.cellBounds(table, cells[cells.length - 1]));
+      }
+    });
+  }
+
+  /*
+   * Like JTableDriver.selectCell, cells that are already selected are not "clicked." The first click replaces the
+   * current selection, subsequent ones toggle the selection state of the clicked cell.
+   */
+  @RunsInCurrentThread
+  private static void select(JTable table, TableCell[] cells) {
+    ListSelectionModel rowSelectionModel = table.getSelectionModel();
+    ListSelectionModel columnSelectionModel = table.getColumnModel().getSelectionModel();
+    rowSelectionModel.setValueIsAdjusting(true);
+    columnSelectionModel.setValueIsAdjusting(true);
+    try {
+      for (int i = 0; i < cells.length; i++) {
+        TableCell cell = cells[i];
+        if (isCellSelected(table, cell.row, cell.column)) continue;
+        table.changeSelection(cell.row, cell.column, i > 0, false);
+      }
+    } finally {
+      rowSelectionModel.setValueIsAdjusting(false);
+      columnSelectionModel.setValueIsAdjusting(false);
+    }
+  }
+
+  private JTableModelSelectionTask() {}
+}
@@ -20,14 +20,17 @@ import java.awt.Point;
 import javax.swing.JTable;
 import javax.swing.text.JTextComponent;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellWriter;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.exception.ActionFailedException;
 
-import static java.awt.event.KeyEvent.VK_F2;
+import static java.awt.event.KeyEvent.*;
 
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 
 /**
  * Understands an implementation of <code>{@link JTableCellWriter}</code> that knows how to use
@@ -53,6 +56,64 @@ public class JTableTextComponentEditorCellWriter extends AbstractJTableCellWrite
     stopCellEditing(table, row, column);
   }
 
+  /*
+   * Moves from the last edited cell to the given one with the same keys a user would press ("Tab" for the next column,
+   * "Enter" for the next row) and activates its editor with the "F2" key, instead of clicking the cell. Returns false,
+   * without entering the value, if the given cell is not adjacent to the last edited one or if the table is not ready
+   * to move to it, so the caller can fall back to enterValue.
+   */
+  @Override @RunsInEDT
+  boolean enterValueInAdjacentCell(JTable table, int fromRow, int fromColumn, int row, int column, String value) {
+    int key = keyToMoveTo(fromRow, fromColumn, row, column);
+    if (key == VK_UNDEFINED) return false;
+    if (!canMoveTo(table, fromRow, fromColumn, row, column)) return false;
+    robot.pressAndReleaseKeys(key);
+    if (!isLeadCell(table, row, column)) return false;
+    robot.pressAndReleaseKeys(VK_F2);
+    JTextComponent editor = null;
+    try {
+      editor = waitForEditorActivation(table, row, column);
+    } catch (ActionFailedException e) {
+      return false;
+    }
+    cellEditor(cellEditor(table, row, column));
+    driver.replaceText(editor, value);
+    stopCellEditing(table, row, column);
+    return true;
+  }
+
+  private static int keyToMoveTo(int fromRow, int fromColumn, int row, int column) {
+    if (row == fromRow && column == fromColumn + 1) return VK_TAB;
+    if (column == fromColumn && row == fromRow + 1) return VK_ENTER;
+    return VK_UNDEFINED;
+  }
+
+  @RunsInEDT
+  private static boolean canMoveTo(final JTable table, final int fromRow, final int fromColumn, final int row,
+      final int column) {
+    return execute(new GuiQuery<Boolean>() {
+      protected Boolean executeInEDT() {
+        validate(table, row, column);
+        return !table.isEditing() && table.isFocusOwner() && isLead(table, fromRow, fromColumn);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static boolean isLeadCell(final JTable table, final int row, final int column) {
+    return execute(new GuiQuery<Boolean>() {
+      protected Boolean executeInEDT() {
+        return isLead(table, row, column);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static boolean isLead(JTable table, int row, int column) {
+    if (table.getSelectionModel().getLeadSelectionIndex() != row) return false;
+    return table.getColumnModel().getSelectionModel().getLeadSelectionIndex() == column;
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   public void startCellEditing(JTable table, int row, int column) {
@@ -16,16 +16,28 @@
 package org.fest.swing.driver;
 
 import javax.swing.JTree;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 
 import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
 import org.fest.swing.timing.Condition;
 
 import static org.fest.swing.driver.JTreeChildOfPathCountQuery.childCount;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Strings.concat;
 
 /**
  * Understands a condition that verifies that the children of a node in a <code>{@link JTree}</code> are displayed.
+ * <p>
+ * This condition listens to expansion events of the <code>{@link JTree}</code> and to changes in its
+ * <code>{@link TreeModel}</code>, so it is re-evaluated as soon as lazily-loaded children are added, instead of waiting
+ * for the next polling interval.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -33,9 +45,14 @@ class JTreeChildrenShowUpCondition extends Condition {
 
   private JTree tree;
   private TreePath path;
+  private TreeModel model;
+  private final Listener listener = new Listener();
 
+  @RunsInEDT
   static JTreeChildrenShowUpCondition untilChildrenShowUp(JTree tree, TreePath path) {
-    return new JTreeChildrenShowUpCondition(tree, path);
+    JTreeChildrenShowUpCondition condition = new JTreeChildrenShowUpCondition(tree, path);
+    condition.startListening();
+    return condition;
   }
 
   private JTreeChildrenShowUpCondition(JTree tree, TreePath path) {
@@ -44,13 +61,42 @@ class JTreeChildrenShowUpCondition extends Condition {
     this.path = path;
   }
 
+  @RunsInEDT
+  private void startListening() {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        model = tree.getModel();
+        tree.addTreeExpansionListener(listener);
+        if (model != null) model.addTreeModelListener(listener);
+      }
+    });
+  }
+
   @RunsInEDT
   public boolean test() {
     return childCount(tree, path) != 0;
   }
 
   @Override protected void done() {
+    final JTree target = tree;
+    final TreeModel targetModel = model;
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        target.removeTreeExpansionListener(listener);
+        if (targetModel != null) targetModel.removeTreeModelListener(listener);
+      }
+    });
     tree = null;
     path = null;
+    model = null;
+  }
+
+  private class Listener implements TreeExpansionListener, TreeModelListener {
+    public void treeExpanded(TreeExpansionEvent e) { signal(); }
+    public void treeCollapsed(TreeExpansionEvent e) {}
+    public void treeNodesChanged(TreeModelEvent e) {}
+    public void treeNodesInserted(TreeModelEvent e) { signal(); }
+    public void treeNodesRemoved(TreeModelEvent e) {}
+    public void treeStructureChanged(TreeModelEvent e) { signal(); }
   }
 }
\ No newline at end of file
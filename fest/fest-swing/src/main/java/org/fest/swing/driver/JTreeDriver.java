@@ -17,7 +17,6 @@ package org.fest.swing.driver;
 
 import java.awt.Point;
 import java.awt.Rectangle;
-import java.util.List;
 
 import javax.swing.JPopupMenu;
 import javax.swing.JTree;
@@ -40,19 +39,19 @@ import org.fest.swing.util.Pair;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.Fail.fail;
+import static org.fest.swing.awt.AWT.centerOf;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
-import static org.fest.swing.driver.CommonValidations.validateCellReader;
+import static org.fest.swing.driver.CommonValidations.*;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
 import static org.fest.swing.driver.JTreeChildrenShowUpCondition.untilChildrenShowUp;
 import static org.fest.swing.driver.JTreeEditableQuery.isEditable;
-import static org.fest.swing.driver.JTreeExpandPathTask.expandPath;
 import static org.fest.swing.driver.JTreeMatchingPathQuery.*;
 import static org.fest.swing.driver.JTreeToggleExpandStateTask.toggleExpandState;
+import static org.fest.swing.driver.SelectionStrategy.*;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.util.Arrays.*;
-import static org.fest.util.Collections.list;
 import static org.fest.util.Strings.concat;
 
 /**
@@ -69,6 +68,7 @@ public class JTreeDriver extends JComponentDriver {
 
   private final JTreeLocation location;
   private final JTreePathFinder pathFinder;
+  private SelectionStrategy selectionStrategy = USER_INPUT;
 
   /**
    * Creates a new </code>{@link JTreeDriver}</code>.
@@ -143,11 +143,17 @@ public class JTreeDriver extends JComponentDriver {
    * @throws IndexOutOfBoundsException if any of the given rows is less than zero or equal than or greater than the 
    * number of visible rows in the <code>JTree</code>.
    * @throws LocationUnavailableException if a tree path for any of the given rows cannot be found.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   @RunsInEDT
   public void selectRows(final JTree tree, final int[] rows) {
     if (rows == null) throw new NullPointerException("The array of rows should not be null");
     if (isEmptyArray(rows)) throw new IllegalArgumentException("The array of rows should not be empty");
+    if (selectionStrategy == MODEL) {
+      JTreeModelSelectionTask.selectRows(tree, rows, location);
+      robot.waitForIdle();
+      return;
+    }
     new MultipleSelectionTemplate(robot) {
       int elementCount() {
         return rows.length;
@@ -181,11 +187,17 @@ public class JTreeDriver extends JComponentDriver {
    * @throws IllegalStateException if the <code>JTree</code> is disabled.
    * @throws IllegalStateException if the <code>JTree</code> is not showing on the screen.
    * @throws LocationUnavailableException if any the given path cannot be found.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   @RunsInEDT
   public void selectPaths(final JTree tree, final String[] paths) {
     if (paths == null) throw new NullPointerException("The array of paths should not be null");
     if (isEmpty(paths)) throw new IllegalArgumentException("The array of paths should not be empty");
+    if (selectionStrategy == MODEL) {
+      JTreeModelSelectionTask.selectPaths(tree, paths, pathFinder);
+      robot.waitForIdle();
+      return;
+    }
     new MultipleSelectionTemplate(robot) {
       int elementCount() {
         return paths.length;
@@ -223,17 +235,7 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   public JPopupMenu showPopupMenu(JTree tree, int row) {
-    return robot.showPopupMenu(tree, validateAndFindPointAtRow(tree, row, location));
-  }
-
-  @RunsInEDT
-  private static Point validateAndFindPointAtRow(final JTree tree, final int row, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        validateIsEnabledAndShowing(tree);
-        return location.pointAt(tree, row);
-      }
-    });
+    return robot.showPopupMenu(tree, centerOf(scrollToRow(tree, row)));
   }
 
   /**
@@ -250,19 +252,7 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   public JPopupMenu showPopupMenu(JTree tree, String path) {
-    TreePath matchingPath = findVisibleMatchingPath(tree, path, pathFinder);
-    matchingPath = addRootIfInvisible(tree, matchingPath);
-    makeVisible(tree, matchingPath, false);
-    return robot.showPopupMenu(tree, pointAtPath(tree, matchingPath, location));
-  }
-
-  @RunsInEDT
-  private static Point pointAtPath(final JTree tree, final TreePath path, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        return location.pointAt(tree, path);
-      }
-    });
+    return robot.showPopupMenu(tree, centerOf(scrollToMatchingPath(tree, path)));
   }
 
   /**
@@ -283,21 +273,19 @@ public class JTreeDriver extends JComponentDriver {
 
   @RunsInEDT
   private Point scrollAndSelectRow(JTree tree, int row) {
-    Point p = scrollToRowToSelect(tree, row, location); 
+    Point p = pointToSelect(scrollToRow(tree, row));
     robot.click(tree, p);
     return p;
   }
-  
+
+  /*
+   * Scrolls to the given row in a single action in the event dispatch thread, and waits for the JTree to be repainted.
+   */
   @RunsInEDT
-  private static Point scrollToRowToSelect(final JTree tree, final int row, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        validateIsEnabledAndShowing(tree);
-        Rectangle rowBounds = tree.getRowBounds(location.validIndex(tree, row));
-        tree.scrollRectToVisible(rowBounds);
-        return new Point(rowBounds.x + 1, rowBounds.y + rowBounds.height / 2);
-      }
-    });
+  private Rectangle scrollToRow(JTree tree, int row) {
+    Rectangle rowBounds = JTreeScrollToPathTask.scrollToRow(tree, row, location);
+    robot.waitForIdle();
+    return rowBounds;
   }
 
   /**
@@ -313,18 +301,7 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void drop(JTree tree, int row) {
-    drop(tree, scrollToRow(tree, row, location));
-  }
-  
-  @RunsInEDT
-  private static Point scrollToRow(final JTree tree, final int row, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        validateIsEnabledAndShowing(tree);
-        tree.scrollRectToVisible(tree.getRowBounds(row));
-        return location.pointAt(tree, row);
-      }
-    });
+    drop(tree, centerOf(scrollToRow(tree, row)));
   }
 
   /**
@@ -344,40 +321,30 @@ public class JTreeDriver extends JComponentDriver {
 
   @RunsInEDT
   private Point selectMatchingPath(JTree tree, String path) {
-    TreePath matchingPath = findVisibleMatchingPath(tree, path, pathFinder);
-    matchingPath = addRootIfInvisible(tree, matchingPath);
-    makeVisible(tree, matchingPath, false);
-    Point p = scrollToPathToSelect(tree, matchingPath, location);
+    Point p = pointToSelect(scrollToMatchingPath(tree, path));
     robot.click(tree, p);
     return p;
   }
-  
+
+  /*
+   * Finds the matching path, makes it visible and scrolls to it in a single action in the event dispatch thread. Only
+   * if any of the ancestors of the path has not loaded its children yet we need to wait for them to show up before
+   * scrolling.
+   */
   @RunsInEDT
-  private static TreePath addRootIfInvisible(final JTree tree, final TreePath path) {
-    return execute(new GuiQuery<TreePath>() {
-      protected TreePath executeInEDT() {
-        if (tree.isRootVisible()) return path;
-        Object root = tree.getModel().getRoot();
-        if (path.getPathCount() > 0) {
-          Object first = path.getPathComponent(0);
-          if (root == first) return path;
-        }
-        List<Object> newPath = list(path.getPath());
-        newPath.add(0, root);
-        return new TreePath(newPath.toArray());
-      }
-    });
+  private Rectangle scrollToMatchingPath(JTree tree, String path) {
+    Pair<TreePath, Rectangle> scrollInfo = JTreeScrollToPathTask.scrollToMatchingPath(tree, path, pathFinder, location);
+    Rectangle pathBounds = scrollInfo.ii;
+    if (pathBounds == null) {
+      makeVisible(tree, scrollInfo.i, false);
+      pathBounds = JTreeScrollToPathTask.scrollToPath(tree, scrollInfo.i, location);
+    }
+    robot.waitForIdle();
+    return pathBounds;
   }
-  
-  @RunsInEDT
-  private static Point scrollToPathToSelect(final JTree tree, final TreePath path, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        Rectangle pathBounds = tree.getPathBounds(path);
-        tree.scrollRectToVisible(pathBounds);
-        return new Point(pathBounds.x + 1, pathBounds.y + pathBounds.height / 2);
-      }
-    });
+
+  private static Point pointToSelect(Rectangle bounds) {
+    return new Point(bounds.x + 1, bounds.y + bounds.height / 2);
   }
 
   /**
@@ -392,26 +359,13 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void drop(JTree tree, String path) {
-    Point p = scrollToMatchingPath(tree, path, pathFinder, location);
-    drop(tree, p);
-  }
-
-  @RunsInEDT
-  private static Point scrollToMatchingPath(final JTree tree, final String path, 
-      final JTreePathFinder pathFinder, final JTreeLocation location) {
-    return execute(new GuiQuery<Point>() {
-      protected Point executeInEDT() {
-        validateIsEnabledAndShowing(tree);
-        TreePath matchingPath = pathFinder.findMatchingPath(tree, path);
-        tree.scrollRectToVisible(tree.getPathBounds(matchingPath));
-        return location.pointAt(tree, matchingPath);
-      }
-    });
+    drop(tree, centerOf(scrollToMatchingPath(tree, path)));
   }
 
   /**
-   * Matches, makes visible, and expands the path one component at a time, from uppermost ancestor on down, since
-   * children may be lazily loaded/created.
+   * Makes visible and expands the path, from uppermost ancestor on down. All the ancestors whose children are already
+   * loaded are expanded in a single action in the event dispatch thread. Since children may be lazily loaded/created,
+   * expansion is suspended at the first node without children until they show up.
    * @param tree the target <code>JTree</code>.
    * @param path the tree path to make visible.
    * @param expandWhenFound indicates if nodes should be expanded or not when found.
@@ -420,16 +374,12 @@ public class JTreeDriver extends JComponentDriver {
   @RunsInEDT
   private boolean makeVisible(JTree tree, TreePath path, boolean expandWhenFound) {
     boolean changed = false;
-    if (path.getPathCount() > 1) changed = makeParentVisible(tree, path);
-    if (!expandWhenFound) return changed;
-    expandPath(tree, path);
-    waitForChildrenToShowUp(tree, path);
-    return true;
-  }
-  
-  @RunsInEDT
-  private boolean makeParentVisible(JTree tree, TreePath path) {
-    boolean changed = makeVisible(tree, path.getParentPath(), true);
+    while (true) {
+      Pair<Boolean, TreePath> expandInfo = JTreeMakeVisibleTask.makeVisible(tree, path, expandWhenFound);
+      if (expandInfo.i) changed = true;
+      if (expandInfo.ii == null) break;
+      waitForChildrenToShowUp(tree, expandInfo.ii);
+    }
     if (changed) robot.waitForIdle();
     return changed;
   }
@@ -613,4 +563,15 @@ public class JTreeDriver extends JComponentDriver {
     validateCellReader(newCellReader);
     pathFinder.cellReader(newCellReader);
   }
+
+  /**
+   * Updates the strategy to use when selecting multiple rows or paths in a <code>{@link JTree}</code>. The default
+   * strategy is <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param newSelectionStrategy the new strategy to use.
+   * @throws NullPointerException if <code>newSelectionStrategy</code> is <code>null</code>.
+   */
+  public void selectionStrategy(SelectionStrategy newSelectionStrategy) {
+    validateSelectionStrategy(newSelectionStrategy);
+    selectionStrategy = newSelectionStrategy;
+  }
 }
@@ -39,6 +39,8 @@ import static org.fest.util.Strings.concat;
  */
 public final class JTreeLocation {
 
+  private static final CellBoundsCache PATH_BOUNDS_CACHE = new CellBoundsCache();
+
   /**
    * Converts the given row to an x, y coordinate.
    * <p>
@@ -106,9 +108,30 @@ public final class JTreeLocation {
    */
   @RunsInCurrentThread
   public Point pointAt(JTree tree, TreePath path) {
-    Rectangle pathBounds = tree.getPathBounds(path);
-    if (pathBounds != null)
-        return new Point(pathBounds.x + pathBounds.width / 2, pathBounds.y + pathBounds.height / 2);
-    throw new LocationUnavailableException(concat("The tree path ", format(path.getPath()), " is not visible"));
+    Rectangle pathBounds = pathBoundsOf(tree, path);
+    return new Point(pathBounds.x + pathBounds.width / 2, pathBounds.y + pathBounds.height / 2);
+  }
+
+  /**
+   * Returns the bounds of the given path. Bounds are cached per <code>{@link JTree}</code> until the tree is resized,
+   * any path is expanded or collapsed, or its model or any of its properties affecting the layout of nodes change.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT.
+   * </p>
+   * @param tree the target <code>JTree</code>.
+   * @param path the given path.
+   * @return the bounds of the given path.
+   * @throws LocationUnavailableException if any part of the path is not visible.
+   */
+  @RunsInCurrentThread
+  public Rectangle pathBoundsOf(JTree tree, TreePath path) {
+    Rectangle pathBounds = PATH_BOUNDS_CACHE.get(tree, path);
+    if (pathBounds != null) return pathBounds;
+    pathBounds = tree.getPathBounds(path);
+    if (pathBounds == null)
+      throw new LocationUnavailableException(concat("The tree path ", format(path.getPath()), " is not visible"));
+    PATH_BOUNDS_CACHE.put(tree, path, pathBounds);
+    return pathBounds;
   }
 }
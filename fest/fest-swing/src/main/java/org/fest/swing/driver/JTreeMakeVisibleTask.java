@@ -0,0 +1,86 @@
+/*
+ * Created on Jul 21, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JTree;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.util.Pair;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands an action, executed in the event dispatch thread, that makes a path in a <code>{@link JTree}</code>
+ * visible by expanding its ancestors, from the uppermost one on down.
+ * <p>
+ * All the ancestors whose children are already loaded are expanded in a single action. Since children may be lazily
+ * loaded/created, this action stops at the first expanded node that does not have any children yet, and returns it
+ * to the caller, which is expected to wait for such children to show up before invoking this action again.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class JTreeMakeVisibleTask {
+
+  /**
+   * Expands the ancestors of the given path.
+   * @param tree the target <code>JTree</code>.
+   * @param path the path to make visible.
+   * @param expandPath indicates whether the given path should be expanded as well.
+   * @return a pair indicating whether any node had to be expanded, and the first expanded node whose children have
+   * not shown up yet (or <code>null</code> if all the ancestors have been expanded.)
+   */
+  @RunsInEDT
+  static Pair<Boolean, TreePath> makeVisible(final JTree tree, final TreePath path, final boolean expandPath) {
+    return execute(new GuiQuery<Pair<Boolean, TreePath>>() {
+      protected Pair<Boolean, TreePath> executeInEDT() {
+        return expandAncestors(tree, path, expandPath);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  static Pair<Boolean, TreePath> expandAncestors(JTree tree, TreePath path, boolean expandPath) {
+    TreeModel model = tree.getModel();
+    boolean changed = false;
+    for (TreePath toExpand : pathsToExpand(path, expandPath)) {
+      if (!tree.isExpanded(toExpand)) {
+        tree.expandPath(toExpand);
+        changed = true;
+      }
+      if (model.getChildCount(toExpand.getLastPathComponent()) == 0)
+        return new Pair<Boolean, TreePath>(changed, toExpand);
+    }
+    return new Pair<Boolean, TreePath>(changed, null);
+  }
+
+  private static TreePath[] pathsToExpand(TreePath path, boolean expandPath) {
+    int count = path.getPathCount();
+    if (!expandPath) count--;
+    TreePath[] paths = new TreePath[count];
+    TreePath current = expandPath ? path : path.getParentPath();
+    for (int i = count - 1; i >= 0; i--) {
+      paths[i] = current;
+      current = current.getParentPath();
+    }
+    return paths;
+  }
+
+  private JTreeMakeVisibleTask() {}
+}
@@ -0,0 +1,91 @@
+/*
+ * Created on Jul 20, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.swing.JTree;
+import javax.swing.tree.TreePath;
+import javax.swing.tree.TreeSelectionModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.driver.JTreeMatchingPathQuery.addRootIfInvisible;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands a task that selects multiple rows or paths in a <code>{@link JTree}</code> by updating its
+ * <code>{@link TreeSelectionModel}</code> directly. The resulting selection is the same as the one obtained by
+ * clicking each of the rows or paths while holding down the "Control" key. This task is executed in the event dispatch
+ * thread.
+ *
+ * @see SelectionStrategy#MODEL
+ *
+ * @author Alex Ruiz
+ */
+final class JTreeModelSelectionTask {
+
+  @RunsInEDT
+  static void selectRows(final JTree tree, final int[] rows, final JTreeLocation location) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        TreePath[] paths = new TreePath[rows.length];
+        for (int i = 0; i < rows.length; i++) paths[i] = location.pathFor(tree, rows[i]);
+        select(tree, paths);
+      }
+    });
+  }
+
+  @RunsInEDT
+  static void selectPaths(final JTree tree, final String[] paths, final JTreePathFinder pathFinder) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        TreePath[] treePaths = new TreePath[paths.length];
+        for (int i = 0; i < paths.length; i++)
+          treePaths[i] = addRootIfInvisible(tree, pathFinder.findMatchingPath(tree, paths[i]));
+        select(tree, treePaths);
+      }
+    });
+  }
+
+  /*
+   * Mimics clicking each path while holding down the "Control" key: the first click replaces the current selection,
+   * subsequent ones toggle the selection state of the clicked path. The resulting selection is calculated first and
+   * then set at once, so selection listeners receive a single TreeSelectionEvent.
+   */
+  @RunsInCurrentThread
+  private static void select(JTree tree, TreePath[] paths) {
+    Set<TreePath> selection = new LinkedHashSet<TreePath>();
+    for (int i = 0; i < paths.length; i++) {
+      TreePath path = paths[i];
+      tree.makeVisible(path);
+      if (i == 0) {
+        selection.add(path);
+        continue;
+      }
+      if (!selection.remove(path)) selection.add(path);
+    }
+    tree.setSelectionPaths(selection.toArray(new TreePath[selection.size()]));
+    tree.scrollPathToVisible(paths[paths.length - 1]);
+  }
+
+  private JTreeModelSelectionTask() {}
+}
@@ -0,0 +1,123 @@
+/*
+ * Created on Jul 21, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JTree;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Understands a cache of the <code>{@link TreePath}</code>s matching a <code>String</code>, per
+ * <code>{@link JTree}</code>.
+ * <p>
+ * The cached paths of a <code>JTree</code> are discarded as soon as its <code>{@link TreeModel}</code> notifies any
+ * change, or when its model or its "rootVisible" property is changed. Trees are weakly referenced by this cache, and
+ * so are the cached paths by the listeners registered in models, since a model may outlive the trees using it.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class JTreePathCache {
+
+  private static final String MODEL_PROPERTY = "model";
+  private static final String ROOT_VISIBLE_PROPERTY = "rootVisible";
+
+  @GuardedBy("this")
+  private final Map<JTree, Paths> caches = new WeakHashMap<JTree, Paths>();
+
+  /**
+   * Returns the cached <code>{@link TreePath}</code> matching the given <code>String</code>.
+   * @param tree the target <code>JTree</code>.
+   * @param path the <code>String</code> representation of the path to look for.
+   * @return the cached <code>TreePath</code>, or <code>null</code> if there is no path cached.
+   */
+  synchronized TreePath get(JTree tree, String path) {
+    Paths paths = caches.get(tree);
+    if (paths == null) return null;
+    return paths.get(path);
+  }
+
+  /**
+   * Caches the given <code>{@link TreePath}</code>.
+   * @param tree the target <code>JTree</code>.
+   * @param path the <code>String</code> representation of the path to cache.
+   * @param treePath the path to cache.
+   */
+  synchronized void put(JTree tree, String path, TreePath treePath) {
+    Paths paths = caches.get(tree);
+    if (paths == null) {
+      paths = new Paths();
+      paths.listenTo(tree.getModel());
+      tree.addPropertyChangeListener(MODEL_PROPERTY, paths);
+      tree.addPropertyChangeListener(ROOT_VISIBLE_PROPERTY, paths);
+      caches.put(tree, paths);
+    }
+    paths.put(path, treePath);
+  }
+
+  /**
+   * Discards all the cached paths.
+   */
+  synchronized void clear() {
+    for (Paths paths : caches.values()) paths.clear();
+  }
+
+  /*
+   * Does not keep a reference to the JTree, otherwise the JTree would never be removed from the WeakHashMap.
+   */
+  private class Paths implements PropertyChangeListener, TreeModelListener {
+    private final Map<String, TreePath> paths = new HashMap<String, TreePath>();
+    private final WeakModelListener modelListener = new WeakModelListener(this);
+
+    void listenTo(TreeModel model) { modelListener.listenTo(model); }
+
+    TreePath get(String path) { return paths.get(path); }
+
+    void put(String path, TreePath treePath) { paths.put(path, treePath); }
+
+    void clear() { paths.clear(); }
+
+    public void propertyChange(PropertyChangeEvent e) {
+      if (MODEL_PROPERTY.equals(e.getPropertyName())) {
+        modelListener.stopListeningTo(e.getOldValue());
+        modelListener.listenTo(e.getNewValue());
+      }
+      invalidate();
+    }
+
+    public void treeNodesChanged(TreeModelEvent e) { invalidate(); }
+    public void treeNodesInserted(TreeModelEvent e) { invalidate(); }
+    public void treeNodesRemoved(TreeModelEvent e) { invalidate(); }
+    public void treeStructureChanged(TreeModelEvent e) { invalidate(); }
+
+    private void invalidate() {
+      synchronized (JTreePathCache.this) {
+        clear();
+      }
+    }
+  }
+}
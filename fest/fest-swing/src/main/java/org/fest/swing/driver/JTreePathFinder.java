@@ -30,6 +30,12 @@ import static org.fest.util.Strings.*;
 
 /**
  * Understands lookup of <code>{@link TreePath}</code>s which text matches the given one.
+ * <p>
+ * Matching paths are cached per <code>{@link JTree}</code>, in a cache shared by all the finders, until the tree's
+ * model notifies a change. Since the text of a node can change without its model notifying it (e.g. a mutable user
+ * object, or a different cell reader,) a cached path is only returned if the text of each of its nodes still matches
+ * the given one.
+ * </p>
  *
  * @author Alex Ruiz 
  */
@@ -38,16 +44,63 @@ class JTreePathFinder {
   // TODO TEST
   private static final String SEPARATOR = "/";
 
+  private static final JTreePathCache CACHE = new JTreePathCache();
+
   private JTreeCellReader cellReader;
   private String separator;
 
   JTreePathFinder() {
-    cellReader(new BasicJTreeCellReader());
-    separator(SEPARATOR);
+    cellReader = new BasicJTreeCellReader();
+    separator = SEPARATOR;
   }
   
   @RunsInCurrentThread
   TreePath findMatchingPath(JTree tree, String path) {
+    TreePath matchingPath = CACHE.get(tree, path);
+    if (matchingPath != null && isStillMatching(tree, matchingPath, path)) return matchingPath;
+    matchingPath = matchingPath(tree, path);
+    CACHE.put(tree, path, matchingPath);
+    return matchingPath;
+  }
+
+  /*
+   * Nodes can be added or renamed without the model notifying it (e.g. DefaultMutableTreeNode.add), so a cached path
+   * is only used if each of its nodes is still the only child of its parent matching the path: this is the same check
+   * an uncached lookup does, which fails if more than one node matches.
+   */
+  @RunsInCurrentThread
+  private boolean isStillMatching(JTree tree, TreePath treePath, String path) {
+    String[] pathStrings = splitPath(path);
+    Object[] nodes = treePath.getPath();
+    if (nodes.length != pathStrings.length) return false;
+    TreeModel model = tree.getModel();
+    Object parent = tree.isRootVisible() ? null : model.getRoot();
+    for (int i = 0; i < nodes.length; i++) {
+      Object node = nodes[i];
+      if (parent == null) {
+        if (node != model.getRoot() || !pathStrings[i].equals(value(tree, node))) return false;
+      } else if (!isOnlyMatchingChild(tree, parent, node, pathStrings[i])) return false;
+      parent = node;
+    }
+    return true;
+  }
+
+  @RunsInCurrentThread
+  private boolean isOnlyMatchingChild(JTree tree, Object parent, Object node, String pathString) {
+    TreeModel model = tree.getModel();
+    boolean found = false;
+    int childCount = model.getChildCount(parent);
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = model.getChild(parent, childIndex);
+      if (!pathString.equals(value(tree, child))) continue;
+      if (child != node) return false;
+      found = true;
+    }
+    return found;
+  }
+
+  @RunsInCurrentThread
+  private TreePath matchingPath(JTree tree, String path) {
     String[] pathStrings = splitPath(path);
     TreeModel model = tree.getModel();
     List<Object> newPathValues = new ArrayList<Object>(pathStrings.length + 1);
@@ -109,9 +162,11 @@ class JTreePathFinder {
 
   void separator(String newSeparator) {
     separator = newSeparator;
+    CACHE.clear();
   }
 
   void cellReader(JTreeCellReader newCellReader) {
     cellReader = newCellReader;
+    CACHE.clear();
   }
 }
@@ -0,0 +1,88 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Rectangle;
+
+import javax.swing.JTree;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.util.Pair;
+
+import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
+import static org.fest.swing.driver.JTreeMakeVisibleTask.expandAncestors;
+import static org.fest.swing.driver.JTreeMatchingPathQuery.addRootIfInvisible;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Understands actions, executed in the event dispatch thread, that perform scrolling to a row or path in a
+ * <code>{@link JTree}</code>. Each action validates the <code>JTree</code>, scrolls and returns the bounds of the row or
+ * path in a single trip to the event dispatch thread, so callers only need to wait for the <code>JTree</code> to be
+ * repainted before using such bounds.
+ *
+ * @author Alex Ruiz
+ */
+final class JTreeScrollToPathTask {
+
+  @RunsInEDT
+  // returns the matching path and its bounds, or only the matching path if any of its ancestors has not loaded its
+  // children yet.
+  static Pair<TreePath, Rectangle> scrollToMatchingPath(final JTree tree, final String path,
+      final JTreePathFinder pathFinder, final JTreeLocation location) {
+    return execute(new GuiQuery<Pair<TreePath, Rectangle>>() {
+      protected Pair<TreePath, Rectangle> executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        TreePath matchingPath = addRootIfInvisible(tree, pathFinder.findMatchingPath(tree, path));
+        boolean childrenPending = expandAncestors(tree, matchingPath, false).ii != null;
+        Rectangle pathBounds = childrenPending ? null : scrollToVisible(tree, matchingPath, location);
+        return new Pair<TreePath, Rectangle>(matchingPath, pathBounds);
+      }
+    });
+  }
+
+  @RunsInEDT
+  // returns the bounds of the path that the JTree was scrolled to.
+  static Rectangle scrollToPath(final JTree tree, final TreePath path, final JTreeLocation location) {
+    return execute(new GuiQuery<Rectangle>() {
+      protected Rectangle executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        return scrollToVisible(tree, path, location);
+      }
+    });
+  }
+
+  @RunsInEDT
+  // returns the bounds of the row that the JTree was scrolled to.
+  static Rectangle scrollToRow(final JTree tree, final int row, final JTreeLocation location) {
+    return execute(new GuiQuery<Rectangle>() {
+      protected Rectangle executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        return scrollToVisible(tree, location.pathFor(tree, row), location);
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static Rectangle scrollToVisible(JTree tree, TreePath path, JTreeLocation location) {
+    Rectangle pathBounds = location.pathBoundsOf(tree, path);
+    tree.scrollRectToVisible(pathBounds);
+    return pathBounds;
+  }
+
+  private JTreeScrollToPathTask() {}
+}
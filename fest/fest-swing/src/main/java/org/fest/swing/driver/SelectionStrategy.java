@@ -0,0 +1,41 @@
+/*
+ * Created on Jul 20, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.ListSelectionModel;
+import javax.swing.tree.TreeSelectionModel;
+
+/**
+ * Understands the ways a driver can select multiple elements (items, rows, cells or paths) in a GUI component.
+ *
+ * @author Alex Ruiz
+ */
+public enum SelectionStrategy {
+
+  /**
+   * Selects elements the way a user does: clicking each element while holding down the "Control" key ("Command" on
+   * Mac OS.) This is the default strategy.
+   */
+  USER_INPUT,
+
+  /**
+   * Selects all the elements in a single action, executed in the event dispatch thread, that updates the component's
+   * selection model (e.g. <code>{@link ListSelectionModel}</code> or <code>{@link TreeSelectionModel}</code>)
+   * directly. Selection listeners are still notified, but no mouse or keyboard events are generated. This strategy is
+   * considerably faster when selecting a large number of elements, and it is intended for tests that set up a
+   * selection as a precondition, instead of testing how a component handles user input.
+   */
+  MODEL
+}
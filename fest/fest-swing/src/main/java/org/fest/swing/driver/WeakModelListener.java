@@ -0,0 +1,189 @@
+/*
+ * Created on Oct 19, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.lang.ref.WeakReference;
+import java.util.EventObject;
+
+import javax.swing.ListModel;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+import javax.swing.tree.TreeModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Understands a listener that wraps a listener of Swing models (<code>{@link TableModel}</code>,
+ * <code>{@link TableColumnModel}</code>, <code>{@link TreeModel}</code> or <code>{@link ListModel}</code>) and:
+ * <ul>
+ * <li>dispatches any event from the models it listens to to the wrapped listener</li>
+ * <li>removes itself from the model notifying an event when the wrapped listener gets garbage-collected</li>
+ * </ul>
+ * Caches use it to listen to models that may outlive the components whose data they cache, without keeping the cached
+ * data of such components alive.
+ *
+ * @author Alex Ruiz
+ */
+final class WeakModelListener implements TableModelListener, TableColumnModelListener, TreeModelListener,
+    ListDataListener {
+
+  private final WeakReference<Object> listenerReference;
+
+  /**
+   * Creates a new <code>{@link WeakModelListener}</code>.
+   * @param listener the listener to wrap. It should implement the listener interface of any model passed to
+   * <code>{@link #listenTo(Object)}</code>.
+   */
+  WeakModelListener(Object listener) {
+    listenerReference = new WeakReference<Object>(listener);
+  }
+
+  /**
+   * Adds this listener to the given model, if the wrapped listener can handle its events.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT.
+   * </p>
+   * @param model the model to listen to. It can be <code>null</code>.
+   */
+  @RunsInCurrentThread
+  void listenTo(Object model) {
+    Object listener = listenerReference.get();
+    if (model instanceof TableModel && listener instanceof TableModelListener)
+      ((TableModel)model).addTableModelListener(this);
+    if (model instanceof TableColumnModel && listener instanceof TableColumnModelListener)
+      ((TableColumnModel)model).addColumnModelListener(this);
+    if (model instanceof TreeModel && listener instanceof TreeModelListener)
+      ((TreeModel)model).addTreeModelListener(this);
+    if (model instanceof ListModel && listener instanceof ListDataListener)
+      ((ListModel)model).addListDataListener(this);
+  }
+
+  /**
+   * Removes this listener from the given model.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> executed in the event dispatch thread (EDT.) Clients are responsible for
+   * invoking this method in the EDT.
+   * </p>
+   * @param model the model to stop listening to. It can be <code>null</code>.
+   */
+  @RunsInCurrentThread
+  void stopListeningTo(Object model) {
+    if (model instanceof TableModel) ((TableModel)model).removeTableModelListener(this);
+    if (model instanceof TableColumnModel) ((TableColumnModel)model).removeColumnModelListener(this);
+    if (model instanceof TreeModel) ((TreeModel)model).removeTreeModelListener(this);
+    if (model instanceof ListModel) ((ListModel)model).removeListDataListener(this);
+  }
+
+  /**
+   * Returns the wrapped listener.
+   * @return the wrapped listener, or <code>null</code> if it has been garbage-collected.
+   */
+  Object underlyingListener() {
+    return listenerReference.get();
+  }
+
+  public void tableChanged(TableModelEvent e) {
+    TableModelListener listener = (TableModelListener)listenerFor(e);
+    if (listener != null) listener.tableChanged(e);
+  }
+
+  public void columnAdded(TableColumnModelEvent e) {
+    TableColumnModelListener listener = (TableColumnModelListener)listenerFor(e);
+    if (listener != null) listener.columnAdded(e);
+  }
+
+  public void columnRemoved(TableColumnModelEvent e) {
+    TableColumnModelListener listener = (TableColumnModelListener)listenerFor(e);
+    if (listener != null) listener.columnRemoved(e);
+  }
+
+  public void columnMoved(TableColumnModelEvent e) {
+    TableColumnModelListener listener = (TableColumnModelListener)listenerFor(e);
+    if (listener != null) listener.columnMoved(e);
+  }
+
+  public void columnMarginChanged(ChangeEvent e) {
+    TableColumnModelListener listener = (TableColumnModelListener)listenerFor(e);
+    if (listener != null) listener.columnMarginChanged(e);
+  }
+
+  public void columnSelectionChanged(ListSelectionEvent e) {
+    TableColumnModelListener listener = (TableColumnModelListener)listenerFor(e);
+    if (listener != null) listener.columnSelectionChanged(e);
+  }
+
+  public void treeNodesChanged(TreeModelEvent e) {
+    TreeModelListener listener = (TreeModelListener)listenerFor(e);
+    if (listener != null) listener.treeNodesChanged(e);
+  }
+
+  public void treeNodesInserted(TreeModelEvent e) {
+    TreeModelListener listener = (TreeModelListener)listenerFor(e);
+    if (listener != null) listener.treeNodesInserted(e);
+  }
+
+  public void treeNodesRemoved(TreeModelEvent e) {
+    TreeModelListener listener = (TreeModelListener)listenerFor(e);
+    if (listener != null) listener.treeNodesRemoved(e);
+  }
+
+  public void treeStructureChanged(TreeModelEvent e) {
+    TreeModelListener listener = (TreeModelListener)listenerFor(e);
+    if (listener != null) listener.treeStructureChanged(e);
+  }
+
+  public void contentsChanged(ListDataEvent e) {
+    ListDataListener listener = (ListDataListener)listenerFor(e);
+    if (listener != null) listener.contentsChanged(e);
+  }
+
+  public void intervalAdded(ListDataEvent e) {
+    ListDataListener listener = (ListDataListener)listenerFor(e);
+    if (listener != null) listener.intervalAdded(e);
+  }
+
+  public void intervalRemoved(ListDataEvent e) {
+    ListDataListener listener = (ListDataListener)listenerFor(e);
+    if (listener != null) listener.intervalRemoved(e);
+  }
+
+  /*
+   * Swing models are the source of the events they notify.
+   */
+  private Object listenerFor(EventObject e) {
+    Object listener = listenerReference.get();
+    if (listener == null) stopListeningTo(e.getSource());
+    return listener;
+  }
+
+  /**
+   * Removes the wrapped listener from the <code>{@link WeakReference}</code> (to simulate garbage collection). This
+   * method should be used only for <strong>testing only</strong>.
+   */
+  void simulateUnderlyingListenerIsGarbageCollected() {
+    listenerReference.clear();
+  }
+}
@@ -85,7 +85,8 @@ abstract class ComponentFinderTemplate<T extends Component> {
    * @throws WaitTimedOutError if a component with the given name or of the given type could not be found.
    */
   final T findComponentWith(Robot robot) {
-    ComponentFoundCondition condition = new ComponentFoundCondition(searchDescription, robot.finder(), matcher);
+    IncrementalComponentFoundCondition condition =
+      new IncrementalComponentFoundCondition(searchDescription, robot.finder(), matcher, null, timeout);
     pause(condition, timeout);
     return cast(condition.found());
   }
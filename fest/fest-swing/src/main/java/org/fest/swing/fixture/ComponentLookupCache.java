@@ -0,0 +1,221 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.fixture;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static java.awt.event.HierarchyEvent.*;
+import static java.util.Collections.singletonList;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Objects.*;
+
+/**
+ * Understands a cache of the components found in a <code>{@link Container}</code>, by type and name.
+ * <p>
+ * Components are weakly referenced by this cache. A cached component is only returned if it is still contained in the
+ * <code>Container</code>, still has the name and type it was found with, and is showing on the screen (if required.)
+ * Cached components are discarded as soon as they, or any of their ancestors, are added to or removed from a parent,
+ * or change their showing state or displayability.
+ * </p>
+ * <p>
+ * Unlike a <code>{@link org.fest.swing.core.ComponentFinder}</code>, this cache does not detect components added
+ * after a component was cached that would make the original lookup ambiguous.
+ * </p>
+ * <p>
+ * Components are not cached by <code>{@link org.fest.swing.core.GenericTypeMatcher}</code>: matchers are usually
+ * created anew for each lookup, so such entries would never be hit again and would only pile up.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class ComponentLookupCache {
+
+  private static final long HIERARCHY_CHANGES = PARENT_CHANGED | SHOWING_CHANGED | DISPLAYABILITY_CHANGED;
+
+  private final Container root;
+
+  @GuardedBy("this")
+  private final Map<Key, Entry> entries = new HashMap<Key, Entry>();
+
+  ComponentLookupCache(Container root) {
+    this.root = root;
+  }
+
+  @RunsInEDT
+  <C extends Component> C byType(Class<C> type, boolean requireShowing) {
+    return type.cast(validated(new Key(type, null), requireShowing));
+  }
+
+  @RunsInEDT
+  <C extends Component> C byName(String name, Class<C> type, boolean requireShowing) {
+    return type.cast(validated(new Key(type, name), requireShowing));
+  }
+
+  @RunsInEDT
+  <C extends Component> C cacheByType(Class<C> type, C c) {
+    return cache(new Key(type, null), c);
+  }
+
+  @RunsInEDT
+  <C extends Component> C cacheByName(String name, Class<C> type, C c) {
+    return cache(new Key(type, name), c);
+  }
+
+  /**
+   * Discards all the cached components.
+   */
+  @RunsInEDT
+  void clear() {
+    List<Entry> discarded;
+    synchronized (this) {
+      discarded = new ArrayList<Entry>(entries.values());
+      entries.clear();
+    }
+    stopListening(discarded);
+  }
+
+  private synchronized Entry entry(Key key) {
+    return entries.get(key);
+  }
+
+  @RunsInEDT
+  private Component validated(final Key key, final boolean requireShowing) {
+    final Entry entry = entry(key);
+    if (entry == null) return null;
+    Component c = execute(new GuiQuery<Component>() {
+      protected Component executeInEDT() {
+        Component cached = entry.component.get();
+        if (cached == null || !isStillValid(cached, key, requireShowing)) return null;
+        return cached;
+      }
+    });
+    if (c == null) discard(key, entry);
+    return c;
+  }
+
+  @RunsInCurrentThread
+  private boolean isStillValid(Component c, Key key, boolean requireShowing) {
+    if (requireShowing && !c.isShowing()) return false;
+    if (!isDescendant(c)) return false;
+    if (!key.type.isInstance(c)) return false;
+    return key.name == null || key.name.equals(c.getName());
+  }
+
+  @RunsInCurrentThread
+  private boolean isDescendant(Component c) {
+    for (Container parent = c.getParent(); parent != null; parent = parent.getParent())
+      if (parent == root) return true;
+    return false;
+  }
+
+  @RunsInEDT
+  private <C extends Component> C cache(Key key, final C c) {
+    final Entry entry = new Entry(c);
+    final Entry replaced;
+    synchronized (this) {
+      replaced = entries.put(key, entry);
+    }
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        if (replaced != null) replaced.stopListening();
+        c.addHierarchyListener(entry);
+      }
+    });
+    return c;
+  }
+
+  @RunsInEDT
+  private void discard(Key key, Entry entry) {
+    synchronized (this) {
+      if (entries.get(key) != entry) return;
+      entries.remove(key);
+    }
+    stopListening(singletonList(entry));
+  }
+
+  @RunsInEDT
+  private static void stopListening(final Collection<Entry> discarded) {
+    if (discarded.isEmpty()) return;
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        for (Entry entry : discarded) entry.stopListening();
+      }
+    });
+  }
+
+  private static class Key {
+    final Class<?> type;
+    final String name;
+
+    Key(Class<?> type, String name) {
+      this.type = type;
+      this.name = name;
+    }
+
+    @Override public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key)obj;
+      return type.equals(other.type) && areEqual(name, other.name);
+    }
+
+    @Override public int hashCode() {
+      return 31 * type.hashCode() + hashCodeFor(name);
+    }
+  }
+
+  private class Entry implements HierarchyListener {
+    final WeakReference<Component> component;
+
+    Entry(Component c) {
+      component = new WeakReference<Component>(c);
+    }
+
+    public void hierarchyChanged(HierarchyEvent e) {
+      if ((e.getChangeFlags() & HIERARCHY_CHANGES) == 0) return;
+      synchronized (ComponentLookupCache.this) {
+        Iterator<Entry> i = entries.values().iterator();
+        while (i.hasNext()) if (i.next() == this) i.remove();
+      }
+      e.getComponent().removeHierarchyListener(this);
+    }
+
+    @RunsInCurrentThread
+    void stopListening() {
+      Component c = component.get();
+      if (c != null) c.removeHierarchyListener(this);
+    }
+  }
+}
@@ -39,6 +39,7 @@ public abstract class ContainerFixture<T extends Container> extends JPopupMenuIn
     ComponentContainerFixture {
 
   private final JMenuItemFinder menuItemFinder;
+  private ComponentLookupCache lookupCache;
 
   /**
    * Creates a new <code>{@link ContainerFixture}</code>.
@@ -413,7 +414,11 @@ public abstract class ContainerFixture<T extends Container> extends JPopupMenuIn
    * @throws ComponentLookupException if more than one matching component is found.
    */
   protected final <C extends Component> C findByType(Class<C> type) {
-    return finder().findByType(target, type, requireShowing());
+    boolean requireShowing = requireShowing();
+    if (lookupCache == null) return finder().findByType(target, type, requireShowing);
+    C cached = lookupCache.byType(type, requireShowing);
+    if (cached != null) return cached;
+    return lookupCache.cacheByType(type, finder().findByType(target, type, requireShowing));
   }
 
   /**
@@ -426,7 +431,11 @@ public abstract class ContainerFixture<T extends Container> extends JPopupMenuIn
    * @throws ComponentLookupException if more than one matching component is found.
    */
   protected final <C extends Component> C findByName(String name, Class<C> type) {
-    return finder().findByName(target, name, type, requireShowing());
+    boolean requireShowing = requireShowing();
+    if (lookupCache == null) return finder().findByName(target, name, type, requireShowing);
+    C cached = lookupCache.byName(name, type, requireShowing);
+    if (cached != null) return cached;
+    return lookupCache.cacheByName(name, type, finder().findByName(target, name, type, requireShowing));
   }
 
   /**
@@ -442,6 +451,31 @@ public abstract class ContainerFixture<T extends Container> extends JPopupMenuIn
     return finder().find(target, matcher);
   }
 
+  /**
+   * Enables or disables caching of the components found by this fixture by type and name (e.g. by
+   * <code>button("ok")</code> or <code>table()</code>.) Caching is disabled by default.
+   * <p>
+   * When enabled, components are cached by type and name. Lookups using a <code>{@link GenericTypeMatcher}</code> are
+   * never cached, since matchers are usually created anew for each lookup. A cached component is returned instead of
+   * searching this fixture's <code>{@link Container}</code> again, as long as it is still contained in it, still has
+   * the name and type it was found with and is showing on the screen (if required by this fixture's
+   * <code>{@link Robot}</code> settings.) Cached components are discarded as soon as they, or any of their ancestors,
+   * are added to or removed from a parent, or are shown or hidden. Unlike a regular lookup, a cached lookup does not
+   * fail if, after caching, another component matching the same lookup was added.
+   * </p>
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   */
+  public ContainerFixture<T> cacheComponentLookups(boolean cache) {
+    if (cache) {
+      if (lookupCache == null) lookupCache = new ComponentLookupCache(target);
+      return this;
+    }
+    if (lookupCache != null) lookupCache.clear();
+    lookupCache = null;
+    return this;
+  }
+
   /** {@inheritDoc} */
   public <C extends Component, F extends ComponentFixture<C>> F with(ComponentFixtureExtension<C, F> extension) {
     return extension.createFixture(robot, target);
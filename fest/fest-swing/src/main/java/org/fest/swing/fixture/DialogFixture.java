@@ -373,4 +373,16 @@ public class DialogFixture extends WindowFixture<Dialog> {
   public void close() {
     driver.close(target);
   }
+
+  /**
+   * Enables or disables caching of the components found by type and name in this fixture's
+   * <code>{@link Dialog}</code>.
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   * @see ContainerFixture#cacheComponentLookups(boolean)
+   */
+  public DialogFixture cacheComponentLookups(boolean cache) {
+    super.cacheComponentLookups(cache);
+    return this;
+  }
 }
@@ -395,4 +395,16 @@ public class FrameFixture extends WindowFixture<Frame> implements FrameLikeFixtu
   public void close() {
     driver.close(target);
   }
+
+  /**
+   * Enables or disables caching of the components found by type and name in this fixture's
+   * <code>{@link Frame}</code>.
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   * @see ContainerFixture#cacheComponentLookups(boolean)
+   */
+  public FrameFixture cacheComponentLookups(boolean cache) {
+    super.cacheComponentLookups(cache);
+    return this;
+  }
 }
@@ -362,4 +362,16 @@ public class JInternalFrameFixture extends ContainerFixture<JInternalFrame> impl
     driver.requireNotVisible(target);
     return this;
   }
+
+  /**
+   * Enables or disables caching of the components found by type and name in this fixture's
+   * <code>{@link JInternalFrame}</code>.
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   * @see ContainerFixture#cacheComponentLookups(boolean)
+   */
+  public JInternalFrameFixture cacheComponentLookups(boolean cache) {
+    super.cacheComponentLookups(cache);
+    return this;
+  }
 }
@@ -24,6 +24,7 @@ import org.fest.swing.core.MouseClickInfo;
 import org.fest.swing.core.Robot;
 import org.fest.swing.driver.BasicJListCellReader;
 import org.fest.swing.driver.JListDriver;
+import org.fest.swing.driver.SelectionStrategy;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.LocationUnavailableException;
@@ -145,6 +146,7 @@ public class JListFixture extends JPopupMenuInvokerFixture<JList> implements Com
    * @throws IllegalStateException if this fixture's <code>JList</code> is not showing on the screen.
    * @throws IndexOutOfBoundsException if the any index is negative or greater than the index of the last item in the 
    * <code>JList</code>.
+   * @see #selectionStrategy(SelectionStrategy)
    */
   public JListFixture selectItems(Range.From from, Range.To to) {
     driver.selectItems(target, from, to);
@@ -574,4 +576,16 @@ public class JListFixture extends JPopupMenuInvokerFixture<JList> implements Com
     driver.cellReader(cellReader);
     return this;
   }
+
+  /**
+   * Updates the strategy to use when selecting multiple items in this fixture's <code>{@link JList}</code>. The
+   * default strategy is <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param selectionStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>selectionStrategy</code> is <code>null</code>.
+   */
+  public JListFixture selectionStrategy(SelectionStrategy selectionStrategy) {
+    driver.selectionStrategy(selectionStrategy);
+    return this;
+  }
 }
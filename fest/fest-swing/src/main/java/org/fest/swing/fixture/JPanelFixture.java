@@ -238,4 +238,16 @@ public class JPanelFixture extends ContainerFixture<JPanel> implements CommonCom
     driver.requireNotVisible(target);
     return this;
   }
+
+  /**
+   * Enables or disables caching of the components found by type and name in this fixture's
+   * <code>{@link JPanel}</code>.
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   * @see ContainerFixture#cacheComponentLookups(boolean)
+   */
+  public JPanelFixture cacheComponentLookups(boolean cache) {
+    super.cacheComponentLookups(cache);
+    return this;
+  }
 }
@@ -21,6 +21,7 @@ import org.fest.swing.core.KeyPressInfo;
 import org.fest.swing.core.MouseButton;
 import org.fest.swing.core.MouseClickInfo;
 import org.fest.swing.core.Robot;
+import org.fest.swing.driver.AdjustmentStrategy;
 import org.fest.swing.driver.JScrollBarDriver;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.WaitTimedOutError;
@@ -401,4 +402,16 @@ public class JScrollBarFixture extends JPopupMenuInvokerFixture<JScrollBar> impl
     driver.requireNotVisible(target);
     return this;
   }
+
+  /**
+   * Updates the strategy to use when scrolling this fixture's <code>{@link JScrollBar}</code>. The default strategy is
+   * <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param adjustmentStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>adjustmentStrategy</code> is <code>null</code>.
+   */
+  public JScrollBarFixture adjustmentStrategy(AdjustmentStrategy adjustmentStrategy) {
+    driver.adjustmentStrategy(adjustmentStrategy);
+    return this;
+  }
 }
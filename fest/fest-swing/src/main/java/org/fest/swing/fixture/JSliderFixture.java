@@ -21,6 +21,7 @@ import org.fest.swing.core.KeyPressInfo;
 import org.fest.swing.core.MouseButton;
 import org.fest.swing.core.MouseClickInfo;
 import org.fest.swing.core.Robot;
+import org.fest.swing.driver.AdjustmentStrategy;
 import org.fest.swing.driver.JSliderDriver;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.WaitTimedOutError;
@@ -294,4 +295,16 @@ public class JSliderFixture extends JPopupMenuInvokerFixture<JSlider> implements
     driver.requireNotVisible(target);
     return this;
   }
+
+  /**
+   * Updates the strategy to use when sliding the knob of this fixture's <code>{@link JSlider}</code>. The default
+   * strategy is <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param adjustmentStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>adjustmentStrategy</code> is <code>null</code>.
+   */
+  public JSliderFixture adjustmentStrategy(AdjustmentStrategy adjustmentStrategy) {
+    driver.adjustmentStrategy(adjustmentStrategy);
+    return this;
+  }
 }
@@ -22,6 +22,7 @@ import org.fest.swing.core.KeyPressInfo;
 import org.fest.swing.core.MouseButton;
 import org.fest.swing.core.MouseClickInfo;
 import org.fest.swing.core.Robot;
+import org.fest.swing.driver.AdjustmentStrategy;
 import org.fest.swing.driver.JSpinnerDriver;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
@@ -366,4 +367,17 @@ public class JSpinnerFixture extends JPopupMenuInvokerFixture<JSpinner> implemen
     driver.requireValue(target, value);
     return this;
   }
+
+  /**
+   * Updates the strategy to use when incrementing or decrementing the value of this fixture's
+   * <code>{@link JSpinner}</code> multiple times. The default strategy is
+   * <code>{@link AdjustmentStrategy#USER_INPUT}</code>.
+   * @param adjustmentStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>adjustmentStrategy</code> is <code>null</code>.
+   */
+  public JSpinnerFixture adjustmentStrategy(AdjustmentStrategy adjustmentStrategy) {
+    driver.adjustmentStrategy(adjustmentStrategy);
+    return this;
+  }
 }
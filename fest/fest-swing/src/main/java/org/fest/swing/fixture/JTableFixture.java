@@ -17,6 +17,7 @@ package org.fest.swing.fixture;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Point;
+import java.util.Map;
 
 import javax.swing.JTable;
 import javax.swing.table.JTableHeader;
@@ -33,6 +34,7 @@ import org.fest.swing.data.TableCellByColumnId;
 import org.fest.swing.driver.BasicJTableCellReader;
 import org.fest.swing.driver.BasicJTableCellWriter;
 import org.fest.swing.driver.JTableDriver;
+import org.fest.swing.driver.SelectionStrategy;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.WaitTimedOutError;
@@ -507,6 +509,26 @@ public class JTableFixture extends JPopupMenuInvokerFixture<JTable> implements C
     return this;
   }
 
+  /**
+   * Enters the given values in the given cells of this fixture's <code>{@link JTable}</code>, using this fixture's
+   * <code>{@link JTableCellWriter}</code>. Cells are edited in row-major order, and failures to enter any of the
+   * values are reported together once all the cells have been processed.
+   * @param values the values to enter, keyed by the cells to enter them in.
+   * @return this fixture.
+   * @throws NullPointerException if the given map is <code>null</code> or contains a <code>null</code> cell.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws IllegalStateException if this fixture's <code>JTable</code> is disabled.
+   * @throws IllegalStateException if this fixture's <code>JTable</code> is not showing on the screen.
+   * @throws IndexOutOfBoundsException if any of the indices of any of the cells are out of bounds.
+   * @throws ActionFailedException if this fixture's <code>JTableCellWriter</code> is unable to enter the value of one
+   * or more cells.
+   * @see #cellWriter(JTableCellWriter)
+   */
+  public JTableFixture enterValues(Map<TableCell, String> values) {
+    driver.enterValues(target, values);
+    return this;
+  }
+
   /**
    * Updates the implementation of <code>{@link JTableCellReader}</code> to use when comparing internal values of this
    * fixture's <code>{@link JTable}</code> and the values expected in a test. The default implementation to use is
@@ -680,6 +702,18 @@ public class JTableFixture extends JPopupMenuInvokerFixture<JTable> implements C
     return this;
   }
 
+  /**
+   * Updates the strategy to use when selecting multiple cells in this fixture's <code>{@link JTable}</code>. The
+   * default strategy is <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param selectionStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>selectionStrategy</code> is <code>null</code>.
+   */
+  public JTableFixture selectionStrategy(SelectionStrategy selectionStrategy) {
+    driver.selectionStrategy(selectionStrategy);
+    return this;
+  }
+
   /**
    * Returns the index of the column in this fixture's <code>{@link JTable}</code> whose name matches the given one.
    * @param columnName the name of the column to look for.
@@ -290,4 +290,16 @@ public class JToolBarFixture extends ContainerFixture<JToolBar> implements Commo
     driver.requireNotVisible(target);
     return this;
   }
+
+  /**
+   * Enables or disables caching of the components found by type and name in this fixture's
+   * <code>{@link JToolBar}</code>.
+   * @param cache indicates whether lookups should be cached or not. Disabling caching discards all cached components.
+   * @return this fixture.
+   * @see ContainerFixture#cacheComponentLookups(boolean)
+   */
+  public JToolBarFixture cacheComponentLookups(boolean cache) {
+    super.cacheComponentLookups(cache);
+    return this;
+  }
 }
@@ -26,6 +26,7 @@ import org.fest.swing.core.MouseClickInfo;
 import org.fest.swing.core.Robot;
 import org.fest.swing.driver.BasicJTreeCellReader;
 import org.fest.swing.driver.JTreeDriver;
+import org.fest.swing.driver.SelectionStrategy;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.LocationUnavailableException;
@@ -548,4 +549,16 @@ public class JTreeFixture extends JPopupMenuInvokerFixture<JTree> implements Com
     driver.cellReader(cellReader);
     return this;
   }
+
+  /**
+   * Updates the strategy to use when selecting multiple rows or paths in this fixture's <code>{@link JTree}</code>. The
+   * default strategy is <code>{@link SelectionStrategy#USER_INPUT}</code>.
+   * @param selectionStrategy the new strategy to use.
+   * @return this fixture.
+   * @throws NullPointerException if <code>selectionStrategy</code> is <code>null</code>.
+   */
+  public JTreeFixture selectionStrategy(SelectionStrategy selectionStrategy) {
+    driver.selectionStrategy(selectionStrategy);
+    return this;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * Created on Jul 23, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Understands a compact summary of the pixels of an image: its size, a hash of the exact color of all its pixels and
+ * a perceptual hash. Images with the same content hash have, almost certainly, the same pixels. The perceptual hash is
+ * a "difference hash" of the image scaled down to a 9x8 grid of gray levels: images that look similar have perceptual
+ * hashes that differ in a few bits.
+ *
+ * @author Alex Ruiz
+ */
+@Immutable
+final class ImageFingerprint {
+
+  private static final int GRID_WIDTH = 9;
+  private static final int GRID_HEIGHT = 8;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  final int width;
+  final int height;
+  final long contentHash;
+  final long perceptualHash;
+
+  /**
+   * Calculates the fingerprint of the given image, reading its pixels only once.
+   * @param image the given image.
+   * @return the fingerprint of the given image.
+   */
+  static ImageFingerprint fingerprintOf(BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    long contentHash = FNV_OFFSET_BASIS;
+    long[] luminance = new long[GRID_WIDTH * GRID_HEIGHT];
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      int gridRow = (y * GRID_HEIGHT / height) * GRID_WIDTH;
+      for (int x = 0; x < width; x++) {
+        int argb = row[x];
+        contentHash = (contentHash ^ argb) * FNV_PRIME;
+        luminance[gridRow + x * GRID_WIDTH / width] += luminanceOf(argb);
+      }
+    }
+    return new ImageFingerprint(width, height, contentHash, perceptualHash(luminance, width, height));
+  }
+
+  private static int luminanceOf(int argb) {
+    return (((argb >> 16) & 0xFF) * 299 + ((argb >> 8) & 0xFF) * 587 + (argb & 0xFF) * 114) / 1000;
+  }
+
+  private static long perceptualHash(long[] luminance, int width, int height) {
+    double[] average = new double[luminance.length];
+    for (int gridY = 0; gridY < GRID_HEIGHT; gridY++)
+      for (int gridX = 0; gridX < GRID_WIDTH; gridX++) {
+        int cellWidth = cellSize(gridX, width, GRID_WIDTH);
+        int cellHeight = cellSize(gridY, height, GRID_HEIGHT);
+        int cell = gridY * GRID_WIDTH + gridX;
+        average[cell] = cellWidth * cellHeight == 0 ? 0 : (double)luminance[cell] / (cellWidth * cellHeight);
+      }
+    long hash = 0;
+    for (int gridY = 0; gridY < GRID_HEIGHT; gridY++)
+      for (int gridX = 0; gridX < GRID_WIDTH - 1; gridX++) {
+        int cell = gridY * GRID_WIDTH + gridX;
+        hash <<= 1;
+        if (average[cell] < average[cell + 1]) hash |= 1;
+      }
+    return hash;
+  }
+
+  /*
+   * Number of pixels mapped to the given cell of the grid: the pixels p such that p * cells / size == cell.
+   */
+  private static int cellSize(int cell, int size, int cells) {
+    return firstPixelOf(cell + 1, size, cells) - firstPixelOf(cell, size, cells);
+  }
+
+  private static int firstPixelOf(int cell, int size, int cells) {
+    return (cell * size + cells - 1) / cells;
+  }
+
+  ImageFingerprint(int width, int height, long contentHash, long perceptualHash) {
+    this.width = width;
+    this.height = height;
+    this.contentHash = contentHash;
+    this.perceptualHash = perceptualHash;
+  }
+
+  /**
+   * Indicates whether the image of this fingerprint has, almost certainly, the same size and pixels as the image of the
+   * given one.
+   * @param other the given fingerprint.
+   * @return <code>true</code> if the size and content hash of both fingerprints are equal, <code>false</code>
+   * otherwise.
+   */
+  boolean hasSameContentAs(ImageFingerprint other) {
+    return width == other.width && height == other.height && contentHash == other.contentHash;
+  }
+
+  /**
+   * Returns the number of bits that differ between the perceptual hash of this fingerprint and the one of the given
+   * fingerprint. The closer to zero, the more similar the images look.
+   * @param other the given fingerprint.
+   * @return a number between 0 and 64.
+   */
+  int perceptualDistanceTo(ImageFingerprint other) {
+    return Long.bitCount(perceptualHash ^ other.perceptualHash);
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Created on Jul 23, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.assertions.Threshold;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.image.ImageFingerprint.fingerprintOf;
+import static org.fest.util.Closeables.close;
+import static org.fest.util.Strings.*;
+
+/**
+ * Understands a store of screenshots to compare screenshots taken during visual regression tests to. Baselines are
+ * identified by the name of a test and the name of a component, and are stored in a folder, one file per baseline.
+ * <p>
+ * Each file contains the fingerprint of the baseline (its size, a hash of its pixels and a perceptual hash,) followed
+ * by its compressed pixels. Verifying a screenshot only reads the fingerprint of its baseline: the pixels of the
+ * baseline are decoded and compared to the ones of the screenshot only when their fingerprints do not match.
+ * Fingerprints are cached in memory once read.
+ * </p>
+ * <p>
+ * For example:
+ * <pre>
+ * ScreenshotBaselines baselines = new ScreenshotBaselines(new File(&quot;src/test/baselines&quot;));
+ * BufferedImage screenshot = new ScreenshotTaker().takeScreenshotOf(loginDialog);
+ * baselines.verify(&quot;shouldShowLoginDialog&quot;, &quot;loginDialog&quot;, screenshot);
+ * </pre>
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public final class ScreenshotBaselines {
+
+  /** Extension of the files containing baselines (baseline). */
+  public static final String BASELINE_EXTENSION = "baseline";
+
+  private static final int MAGIC_NUMBER = 0x46424C31;
+
+  private final File folder;
+  private final Map<File, ImageFingerprint> fingerprints = new HashMap<File, ImageFingerprint>();
+
+  /**
+   * Creates a new <code>{@link ScreenshotBaselines}</code>.
+   * @param folder the folder where baselines are stored.
+   * @throws IllegalArgumentException if the given folder is <code>null</code>.
+   */
+  public ScreenshotBaselines(File folder) {
+    if (folder == null) throw new IllegalArgumentException("The folder to store baselines in should not be null");
+    this.folder = folder;
+  }
+
+  /**
+   * Stores the given image as the baseline for the given test and component, replacing any existing one.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @param image the image to store.
+   * @throws ImageException if an I/O error prevents the baseline from being saved.
+   */
+  public void save(String testName, String componentName, BufferedImage image) {
+    File file = baselineFile(testName, componentName);
+    ImageFingerprint fingerprint = fingerprintOf(image);
+    file.getParentFile().mkdirs();
+    DataOutputStream out = null;
+    try {
+      out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+      writeFingerprint(out, fingerprint);
+      out.flush();
+      writePixels(new DeflaterOutputStream(out), image);
+      out.close();
+    } catch (IOException e) {
+      close(out);
+      throw new ImageException(concat("Unable to save baseline ", quote(file.getPath())), e);
+    }
+    synchronized (fingerprints) {
+      fingerprints.put(file, fingerprint);
+    }
+  }
+
+  private static void writeFingerprint(DataOutputStream out, ImageFingerprint fingerprint) throws IOException {
+    out.writeInt(MAGIC_NUMBER);
+    out.writeInt(fingerprint.width);
+    out.writeInt(fingerprint.height);
+    out.writeLong(fingerprint.contentHash);
+    out.writeLong(fingerprint.perceptualHash);
+  }
+
+  private static void writePixels(DeflaterOutputStream out, BufferedImage image) throws IOException {
+    int width = image.getWidth();
+    int[] row = new int[width];
+    byte[] bytes = new byte[width * 4];
+    for (int y = 0; y < image.getHeight(); y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      for (int x = 0, i = 0; x < width; x++) {
+        int argb = row[x];
+        bytes[i++] = (byte)(argb >>> 24);
+        bytes[i++] = (byte)(argb >>> 16);
+        bytes[i++] = (byte)(argb >>> 8);
+        bytes[i++] = (byte)argb;
+      }
+      out.write(bytes);
+    }
+    out.finish();
+  }
+
+  /**
+   * Indicates whether there is a baseline for the given test and component.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @return <code>true</code> if there is a baseline for the given test and component, <code>false</code> otherwise.
+   */
+  public boolean hasBaseline(String testName, String componentName) {
+    return baselineFile(testName, componentName).isFile();
+  }
+
+  /**
+   * Reads the baseline for the given test and component.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @return the baseline for the given test and component.
+   * @throws ImageException if there is no baseline for the given test and component.
+   * @throws ImageException if an I/O error prevents the baseline from being read.
+   */
+  public BufferedImage baseline(String testName, String componentName) {
+    File file = existingBaselineFile(testName, componentName);
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      ImageFingerprint fingerprint = readFingerprint(in, file);
+      return readPixels(new DataInputStream(new InflaterInputStream(in)), fingerprint);
+    } catch (IOException e) {
+      throw new ImageException(concat("Unable to read baseline ", quote(file.getPath())), e);
+    } finally {
+      close(in);
+    }
+  }
+
+  private static BufferedImage readPixels(DataInputStream in, ImageFingerprint fingerprint) throws IOException {
+    int width = fingerprint.width;
+    BufferedImage image = new BufferedImage(width, fingerprint.height, TYPE_INT_ARGB);
+    int[] pixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+    byte[] bytes = new byte[width * 4];
+    for (int y = 0, start = 0; y < fingerprint.height; y++, start += width) {
+      in.readFully(bytes);
+      for (int x = 0, i = 0; x < width; x++, i += 4)
+        pixels[start + x] =
+          (bytes[i] & 0xFF) << 24 | (bytes[i + 1] & 0xFF) << 16 | (bytes[i + 2] & 0xFF) << 8 | bytes[i + 3] & 0xFF;
+    }
+    return image;
+  }
+
+  /**
+   * Verifies that the given screenshot has the same size and pixels as the baseline for the given test and component.
+   * The baseline is decoded only if its fingerprint does not match the one of the given screenshot.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @param screenshot the screenshot to verify.
+   * @throws AssertionError if the given screenshot is not equal to the baseline.
+   * @throws ImageException if there is no baseline for the given test and component.
+   * @throws ImageException if an I/O error prevents the baseline from being read.
+   */
+  public void verify(String testName, String componentName, BufferedImage screenshot) {
+    if (hasSameFingerprint(testName, componentName, screenshot)) return;
+    assertThat(screenshot).as(description(testName, componentName)).isEqualTo(baseline(testName, componentName));
+  }
+
+  /**
+   * Verifies that the given screenshot is equal to the baseline for the given test and component, using the given
+   * threshold. The baseline is decoded only if its fingerprint does not match the one of the given screenshot.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @param screenshot the screenshot to verify.
+   * @param threshold the tolerance to use when comparing the screenshot to the baseline.
+   * @throws AssertionError if the given screenshot is not equal to the baseline.
+   * @throws ImageException if there is no baseline for the given test and component.
+   * @throws ImageException if an I/O error prevents the baseline from being read.
+   */
+  public void verify(String testName, String componentName, BufferedImage screenshot, Threshold threshold) {
+    if (hasSameFingerprint(testName, componentName, screenshot)) return;
+    assertThat(screenshot).as(description(testName, componentName)).isEqualTo(
+        baseline(testName, componentName), threshold);
+  }
+
+  private boolean hasSameFingerprint(String testName, String componentName, BufferedImage screenshot) {
+    return fingerprintOf(screenshot).hasSameContentAs(fingerprint(testName, componentName));
+  }
+
+  private static String description(String testName, String componentName) {
+    return concat("screenshot of ", quote(componentName), " in test ", quote(testName));
+  }
+
+  /**
+   * Returns how different the given screenshot looks from the baseline for the given test and component, comparing
+   * their perceptual hashes. The baseline is not decoded.
+   * @param testName the name of the test.
+   * @param componentName the name of the component.
+   * @param screenshot the screenshot to compare.
+   * @return the number of bits that differ between the perceptual hashes, between 0 (the images look the same) and
+   * 64.
+   * @throws ImageException if there is no baseline for the given test and component.
+   * @throws ImageException if an I/O error prevents the baseline from being read.
+   */
+  public int perceptualDistance(String testName, String componentName, BufferedImage screenshot) {
+    return fingerprintOf(screenshot).perceptualDistanceTo(fingerprint(testName, componentName));
+  }
+
+  private ImageFingerprint fingerprint(String testName, String componentName) {
+    File file = existingBaselineFile(testName, componentName);
+    synchronized (fingerprints) {
+      ImageFingerprint fingerprint = fingerprints.get(file);
+      if (fingerprint != null) return fingerprint;
+    }
+    ImageFingerprint fingerprint = readFingerprint(file);
+    synchronized (fingerprints) {
+      fingerprints.put(file, fingerprint);
+    }
+    return fingerprint;
+  }
+
+  private static ImageFingerprint readFingerprint(File file) {
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64));
+      return readFingerprint(in, file);
+    } catch (IOException e) {
+      throw new ImageException(concat("Unable to read baseline ", quote(file.getPath())), e);
+    } finally {
+      close(in);
+    }
+  }
+
+  private static ImageFingerprint readFingerprint(DataInputStream in, File file) throws IOException {
+    if (in.readInt() != MAGIC_NUMBER)
+      throw new ImageException(concat("The file ", quote(file.getPath()), " does not contain a baseline"));
+    return new ImageFingerprint(in.readInt(), in.readInt(), in.readLong(), in.readLong());
+  }
+
+  private File existingBaselineFile(String testName, String componentName) {
+    File file = baselineFile(testName, componentName);
+    if (!file.isFile())
+      throw new ImageException(concat(
+          "Unable to find baseline for component ", quote(componentName), " in test ", quote(testName)));
+    return file;
+  }
+
+  private File baselineFile(String testName, String componentName) {
+    validateName(testName, "test");
+    validateName(componentName, "component");
+    File testFolder = new File(folder, fileNameFor(testName));
+    return new File(testFolder, concat(fileNameFor(componentName), ".", BASELINE_EXTENSION));
+  }
+
+  private static void validateName(String name, String owner) {
+    if (isEmpty(name)) throw new IllegalArgumentException(concat("The name of the ", owner, " should not be empty"));
+    if (name.replace(".", "").length() == 0)
+      throw new IllegalArgumentException(concat("The name of the ", owner, " should not consist of dots only"));
+  }
+
+  /*
+   * Lower case ASCII letters, digits, '.' and '-' are kept, upper case ASCII letters are written as '^' followed by
+   * the letter in lower case and any other character (including '_' and '^') is escaped as '_' followed by the four
+   * hexadecimal digits of the character. File names never contain upper case letters, so different names are mapped
+   * to different files even on case-insensitive file systems.
+   */
+  private static String fileNameFor(String name) {
+    StringBuilder b = new StringBuilder(name.length());
+    for (char c : name.toCharArray()) {
+      if (isFileNameCharacter(c)) {
+        b.append(c);
+        continue;
+      }
+      if (c >= 'A' && c <= 'Z') {
+        b.append('^').append(Character.toLowerCase(c));
+        continue;
+      }
+      String hex = Integer.toHexString(c);
+      b.append('_');
+      for (int i = hex.length(); i < 4; i++) b.append('0');
+      b.append(hex);
+    }
+    return b.toString();
+  }
+
+  private static boolean isFileNameCharacter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+  }
+}
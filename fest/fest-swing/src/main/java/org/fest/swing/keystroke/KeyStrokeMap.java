@@ -14,58 +14,54 @@
  */
 package org.fest.swing.keystroke;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javax.swing.KeyStroke;
 
 import static java.awt.event.InputEvent.SHIFT_MASK;
 import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
 
+import static org.fest.swing.keystroke.KeyStrokeMappingProviderPicker.keyboardLocale;
+
 /**
  * Understands a collection of <code>{@link KeyStrokeMapping}</code>.
+ * <p>
+ * Mappings are kept in an immutable table that is replaced (never modified) every time mappings are added or removed,
+ * so looking up a character or a <code>{@link KeyStroke}</code> requires neither locking nor object allocation. By
+ * default, this map contains the mappings for the locale of the current keyboard (or the default locale of the JVM,)
+ * falling back to the mappings for <code>{@link java.util.Locale#ENGLISH ENGLISH}</code> if the locale is not
+ * supported.
+ * </p>
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class KeyStrokeMap {
 
-  private static final Map<Character, KeyStroke> CHAR_TO_KEY_STROKE = new HashMap<Character, KeyStroke>();
-  private static final Map<KeyStroke, Character> KEY_STROKE_TO_CHAR = new HashMap<KeyStroke, Character>();
+  private static volatile KeyStrokeTable table = KeyStrokeTable.EMPTY;
 
   static {
     initialize();
   }
 
   private static void initialize() {
-    // for now by default is the "English" keyboard mapping.
-    // we'll support for other languages when users request it.
-    addKeyStrokesFrom(new KeyStrokeMappingProvider_en());
+    addKeyStrokesFrom(new KeyStrokeMappingProviderPicker().providerFor(keyboardLocale()));
   }
-  
+
   /**
    * Adds the collection of <code>{@link KeyStrokeMapping}</code>s from the given
    * <code>{@link KeyStrokeMappingProvider}</code> to this map.
    * @param provider the given <code>KeyStrokeMappingProvider</code>.
    */
   public static synchronized void addKeyStrokesFrom(KeyStrokeMappingProvider provider) {
-    for (KeyStrokeMapping entry : provider.keyStrokeMappings()) 
-      add(entry.character(), entry.keyStroke());
+    table = table.with(provider.keyStrokeMappings());
   }
 
-  private static void add(Character character, KeyStroke keyStroke) {
-    CHAR_TO_KEY_STROKE.put(character, keyStroke);
-    KEY_STROKE_TO_CHAR.put(keyStroke, character);
-  }
-  
   /**
    * Removes all the character-<code>{@link KeyStroke}</code> mappings.
    */
   public static synchronized void clearKeyStrokes() {
-    CHAR_TO_KEY_STROKE.clear();
-    KEY_STROKE_TO_CHAR.clear();    
+    table = KeyStrokeTable.EMPTY;
   }
-  
+
   /**
    * Returns the <code>{@link KeyStroke}</code> corresponding to the given character, as best we can guess it, or
    * <code>null</code> if we don't know how to generate it.
@@ -74,22 +70,23 @@ public class KeyStrokeMap {
    *         we cannot generate it.
    */
   public static KeyStroke keyStrokeFor(char character) {
-    return CHAR_TO_KEY_STROKE.get(character);
+    return table.keyStrokeFor(character);
   }
 
   /**
    * Given a <code>{@link KeyStroke}</code>, returns the equivalent character. Key strokes are defined properly for
-   * US keyboards only. To contribute your own, please add them using the method
-   * <code>{@link #addKeyStrokesFrom(KeyStrokeMappingProvider)}</code>.
+   * the keyboard layouts that have a <code>{@link KeyStrokeMappingProvider}</code> only. To contribute your own, please
+   * add them using the method <code>{@link #addKeyStrokesFrom(KeyStrokeMappingProvider)}</code>.
    * @param keyStroke the given <code>KeyStroke</code>.
    * @return KeyEvent.VK_UNDEFINED if the result is unknown.
    */
   public static char charFor(KeyStroke keyStroke) {
-    Character character = KEY_STROKE_TO_CHAR.get(keyStroke);
+    KeyStrokeTable current = table;
+    Character character = current.characterFor(keyStroke);
     if (character == null) {
       // Try again, but strip all modifiers but shift
       int mask = keyStroke.getModifiers() & ~SHIFT_MASK;
-      character = KEY_STROKE_TO_CHAR.get(KeyStroke.getKeyStroke(keyStroke.getKeyCode(), mask));
+      character = current.characterFor(KeyStroke.getKeyStroke(keyStroke.getKeyCode(), mask));
       if (character == null) return CHAR_UNDEFINED;
     }
     return character.charValue();
@@ -0,0 +1,96 @@
+/*
+ * Created on Jul 16, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import java.awt.im.InputContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.FINE;
+
+import static org.fest.util.Strings.*;
+
+/**
+ * Understands selection of a <code>{@link KeyStrokeMappingProvider}</code> based on a <code>{@link Locale}</code>.
+ * <p>
+ * Providers are found by naming convention: for a locale with language "de" and country "CH", this picker looks for
+ * the classes <code>org.fest.swing.keystroke.KeyStrokeMappingProvider_de_CH</code> and
+ * <code>org.fest.swing.keystroke.KeyStrokeMappingProvider_de</code>, in that order. If none of them can be
+ * instantiated, <code>{@link KeyStrokeMappingProvider_en}</code> is used.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+class KeyStrokeMappingProviderPicker {
+
+  private static Logger logger = Logger.getLogger(KeyStrokeMappingProviderPicker.class.getName());
+
+  private static final String PREFIX = concat(KeyStrokeMappingProvider.class.getName(), "_");
+
+  /**
+   * Returns the locale of the current keyboard layout, as reported by the input method framework. If the keyboard
+   * locale cannot be determined, the default locale of the JVM is returned.
+   * @return the locale of the current keyboard layout.
+   */
+  static Locale keyboardLocale() {
+    Locale locale = null;
+    try {
+      InputContext inputContext = InputContext.getInstance();
+      if (inputContext != null) locale = inputContext.getLocale();
+    } catch (RuntimeException e) {
+      logger.log(FINE, "Unable to obtain the locale of the keyboard", e);
+    }
+    return locale != null ? locale : Locale.getDefault();
+  }
+
+  /**
+   * Returns the <code>{@link KeyStrokeMappingProvider}</code> for the given <code>{@link Locale}</code>.
+   * @param locale the given locale.
+   * @return the provider for the given locale, or <code>{@link KeyStrokeMappingProvider_en}</code> if a provider for
+   * the given locale cannot be found.
+   */
+  KeyStrokeMappingProvider providerFor(Locale locale) {
+    for (String typeName : typeNamesFor(locale)) {
+      KeyStrokeMappingProvider provider = newProvider(typeName);
+      if (provider != null) return provider;
+    }
+    return new KeyStrokeMappingProvider_en();
+  }
+
+  private List<String> typeNamesFor(Locale locale) {
+    List<String> typeNames = new ArrayList<String>();
+    String language = locale.getLanguage();
+    if (isEmpty(language)) return typeNames;
+    String country = locale.getCountry();
+    if (!isEmpty(country)) typeNames.add(concat(PREFIX, language, "_", country));
+    typeNames.add(concat(PREFIX, language));
+    return typeNames;
+  }
+
+  private KeyStrokeMappingProvider newProvider(String typeName) {
+    try {
+      Class<?> type = Class.forName(typeName);
+      if (!KeyStrokeMappingProvider.class.isAssignableFrom(type)) return null;
+      return (KeyStrokeMappingProvider)type.newInstance();
+    } catch (ClassNotFoundException e) {
+      return null;
+    } catch (Exception e) {
+      logger.log(FINE, concat("Unable to instantiate ", typeName), e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Created on Jul 16, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.KeyStroke;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Understands an immutable, compiled version of a collection of <code>{@link KeyStrokeMapping}</code>s.
+ * <p>
+ * Characters are mapped to <code>{@link KeyStroke}</code>s through a two-level table indexed by the value of the
+ * character (the high byte selects a page, the low byte an entry in such page,) so looking up a character never boxes
+ * it. Only the pages containing at least one mapping are allocated. Adding mappings creates a new table that shares all
+ * the pages that did not change.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@Immutable
+final class KeyStrokeTable {
+
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+  private static final int PAGE_COUNT = (Character.MAX_VALUE + 1) >> PAGE_BITS;
+
+  static final KeyStrokeTable EMPTY = new KeyStrokeTable(new KeyStroke[PAGE_COUNT][],
+      new HashMap<KeyStroke, Character>());
+
+  private final KeyStroke[][] pages;
+  private final Map<KeyStroke, Character> characters;
+
+  private KeyStrokeTable(KeyStroke[][] pages, Map<KeyStroke, Character> characters) {
+    this.pages = pages;
+    this.characters = characters;
+  }
+
+  /**
+   * Returns a new table containing the mappings in this table plus the given ones. If a character or a
+   * <code>{@link KeyStroke}</code> is already mapped in this table, the given mapping replaces it.
+   * @param mappings the mappings to add.
+   * @return the created table.
+   */
+  KeyStrokeTable with(Collection<KeyStrokeMapping> mappings) {
+    KeyStroke[][] newPages = pages.clone();
+    boolean[] copied = new boolean[PAGE_COUNT];
+    Map<KeyStroke, Character> newCharacters = new HashMap<KeyStroke, Character>(characters);
+    for (KeyStrokeMapping mapping : mappings) {
+      char character = mapping.character();
+      int pageIndex = character >>> PAGE_BITS;
+      if (!copied[pageIndex]) {
+        KeyStroke[] page = newPages[pageIndex];
+        newPages[pageIndex] = page != null ? page.clone() : new KeyStroke[PAGE_SIZE];
+        copied[pageIndex] = true;
+      }
+      newPages[pageIndex][character & PAGE_MASK] = mapping.keyStroke();
+      newCharacters.put(mapping.keyStroke(), character);
+    }
+    return new KeyStrokeTable(newPages, newCharacters);
+  }
+
+  /**
+   * Returns the <code>{@link KeyStroke}</code> mapped to the given character.
+   * @param character the given character.
+   * @return the <code>KeyStroke</code> mapped to the given character, or <code>null</code> if the character is not
+   * mapped.
+   */
+  KeyStroke keyStrokeFor(char character) {
+    KeyStroke[] page = pages[character >>> PAGE_BITS];
+    if (page == null) return null;
+    return page[character & PAGE_MASK];
+  }
+
+  /**
+   * Returns the character mapped to the given <code>{@link KeyStroke}</code>.
+   * @param keyStroke the given <code>KeyStroke</code>.
+   * @return the character mapped to the given <code>KeyStroke</code>, or <code>null</code> if the
+   * <code>KeyStroke</code> is not mapped.
+   */
+  Character characterFor(KeyStroke keyStroke) {
+    return characters.get(keyStroke);
+  }
+}
@@ -28,6 +28,7 @@ public abstract class Condition {
   private static final String NO_DESCRIPTION = "";
   
   private final Description description;
+  private final Signal signal = new Signal();
 
   /**
    * Creates a new <code>{@link Condition}</code>.
@@ -65,4 +66,21 @@ public abstract class Condition {
    * it was satisfied or it timed-out.) This is a good place to do any necessary resource cleanup.
    */
   protected void done() {}
+
+  /**
+   * Notifies any thread waiting in <code>{@link Pause#pause(Condition)}</code> (and all overloaded methods) that this
+   * condition may have been satisfied, so it is re-evaluated right away instead of at the next polling interval.
+   * Subclasses that are notified of changes through event listeners should call this method from such listeners.
+   */
+  protected final void signal() {
+    signal.signal();
+  }
+
+  /**
+   * Blocks the current thread until <code>{@link #signal()}</code> is called or the given time expires.
+   * @param timeout the maximum time to wait, in milliseconds.
+   */
+  final void waitForSignal(long timeout) {
+    signal.await(timeout);
+  }
 }
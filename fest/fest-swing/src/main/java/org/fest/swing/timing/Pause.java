@@ -26,6 +26,10 @@ import static org.fest.util.Strings.concat;
 
 /**
  * Understands waiting for period of time or for a particular condition to be satisfied.
+ * <p>
+ * Conditions are re-evaluated every 10 milliseconds, or as soon as they call <code>{@link Condition#signal()}</code>,
+ * whatever happens first.
+ * </p>
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -68,14 +72,14 @@ public final class Pause {
   public static void pause(Condition condition, long timeout) {
     if (condition == null) throw new NullPointerException("The condition to verify should not be null");
     TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!condition.test()) {
-      if (watch.isTimeOut()) {
-        condition.done();
-        throw new WaitTimedOutError((concat("Timed out waiting for ", condition)));
+    try {
+      while (!condition.test()) {
+        if (watch.isTimeOut()) throw new WaitTimedOutError((concat("Timed out waiting for ", condition)));
+        condition.waitForSignal(SLEEP_INTERVAL);
       }
-      pause(SLEEP_INTERVAL);
+    } finally {
+      condition.done();
     }
-    condition.done();
   }
 
   /**
@@ -116,14 +120,15 @@ public final class Pause {
   public static void pause(Condition[] conditions, long timeout) {
     validate(conditions);
     TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!areSatisfied(conditions)) {
-      if (watch.isTimeOut()) {
-        done(conditions);
-        throw new WaitTimedOutError((concat("Timed out waiting for ", format(conditions))));
+    Condition unsatisfied;
+    try {
+      while ((unsatisfied = firstUnsatisfied(conditions)) != null) {
+        if (watch.isTimeOut()) throw new WaitTimedOutError((concat("Timed out waiting for ", format(conditions))));
+        unsatisfied.waitForSignal(SLEEP_INTERVAL);
       }
-      pause(SLEEP_INTERVAL);
+    } finally {
+      done(conditions);
     }
-    done(conditions);
   }
 
   private static void validate(Condition[] conditions) {
@@ -136,9 +141,9 @@ public final class Pause {
     }
   }
 
-  private static boolean areSatisfied(Condition[] conditions) {
-    for (Condition condition : conditions) if (!condition.test()) return false;
-    return true;
+  private static Condition firstUnsatisfied(Condition[] conditions) {
+    for (Condition condition : conditions) if (!condition.test()) return condition;
+    return null;
   }
 
   private static void done(Condition[] conditions) {
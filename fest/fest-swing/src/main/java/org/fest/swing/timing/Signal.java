@@ -0,0 +1,73 @@
+/*
+ * Created on Jul 14, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Understands blocking a thread until another thread (usually the event dispatch thread, from an event listener)
+ * reports that something of interest has happened. Unlike polling with <code>{@link Pause#pause(long)}</code>, a
+ * thread waiting on a <code>{@link Signal}</code> is woken up as soon as <code>{@link #signal()}</code> is called.
+ * <p>
+ * Each call to <code>{@link #signal()}</code> is consumed by a single call to <code>{@link #await(long)}</code>: this
+ * is not a broadcast, and if more than one thread is waiting, only one of them receives the signal while the others
+ * keep waiting. A signal sent while no thread is waiting is not lost: the next call to
+ * <code>{@link #await(long)}</code> returns immediately, consuming it.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public final class Signal {
+
+  @GuardedBy("this")
+  private boolean signaled;
+
+  /**
+   * Sends this signal, to be consumed by a single waiting thread. If no thread is waiting, the next call to
+   * <code>{@link #await(long)}</code> will return immediately.
+   */
+  public synchronized void signal() {
+    signaled = true;
+    notifyAll();
+  }
+
+  /**
+   * Blocks the current thread until <code>{@link #signal()}</code> is called or the given timeout expires, whatever
+   * happens first. If the current thread is interrupted while waiting, this method returns and the interrupted status
+   * of the thread is restored.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return <code>true</code> if this signal was received, <code>false</code> if the timeout expired or the current
+   * thread was interrupted.
+   */
+  public synchronized boolean await(long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    try {
+      while (!signaled) {
+        long remaining = deadline - currentTimeMillis();
+        if (remaining <= 0) return false;
+        wait(remaining);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    boolean received = signaled;
+    signaled = false;
+    return received;
+  }
+}
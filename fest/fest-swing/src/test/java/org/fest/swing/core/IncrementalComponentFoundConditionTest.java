@@ -0,0 +1,183 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.assertions.BasicDescription;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.BasicComponentFinder.finderWithCurrentAwtHierarchy;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link IncrementalComponentFoundCondition}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class IncrementalComponentFoundConditionTest {
+
+  private static final long NO_FULL_SEARCH_SOON = 60000;
+
+  private JPanel root;
+  private CountingNameMatcher matcher;
+  private IncrementalComponentFoundCondition condition;
+
+  @BeforeMethod public void setUp() {
+    root = newPanelWithButtons(20);
+    matcher = new CountingNameMatcher("target");
+    condition = new IncrementalComponentFoundCondition(new BasicDescription(""), finderWithCurrentAwtHierarchy(),
+        matcher, root, NO_FULL_SEARCH_SOON * 10, Toolkit.getDefaultToolkit(), NO_FULL_SEARCH_SOON);
+  }
+
+  @RunsInEDT
+  private static JPanel newPanelWithButtons(final int buttonCount) {
+    return execute(new GuiQuery<JPanel>() {
+      protected JPanel executeInEDT() {
+        JPanel panel = new JPanel();
+        for (int i = 0; i < buttonCount; i++) panel.add(new JButton());
+        return panel;
+      }
+    });
+  }
+
+  @AfterMethod public void tearDown() {
+    condition.done();
+  }
+
+  public void shouldSearchWholeHierarchyOnlyTheFirstTime() {
+    assertThat(condition.test()).isFalse();
+    assertThat(matcher.evaluations).isEqualTo(21);
+    assertThat(condition.test()).isFalse();
+    assertThat(matcher.evaluations).isEqualTo(21);
+  }
+
+  public void shouldOnlyEvaluateAddedComponents() {
+    condition.test();
+    matcher.evaluations = 0;
+    add(root, buttonNamed("other"));
+    assertThat(condition.test()).isFalse();
+    assertThat(matcher.evaluations).isEqualTo(1);
+  }
+
+  public void shouldFindAddedComponent() {
+    condition.test();
+    JButton target = buttonNamed("target");
+    add(root, target);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(target);
+  }
+
+  public void shouldFindComponentInAddedSubtree() {
+    condition.test();
+    JPanel panel = newPanelWithButtons(0);
+    JButton target = buttonNamed("target");
+    add(panel, target);
+    add(root, panel);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(target);
+  }
+
+  public void shouldSearchAgainIfComponentRemovedWhenMoreThanOneMatched() {
+    add(root, buttonNamed("target"));
+    JButton target = buttonNamed("target");
+    add(root, target);
+    assertThat(condition.test()).isFalse();
+    remove(root, 0);
+    assertThat(condition.test()).isFalse();
+    remove(root, 19);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(target);
+  }
+
+  public void shouldIgnoreComponentsOutsideRoot() {
+    condition.test();
+    matcher.evaluations = 0;
+    add(newPanelWithButtons(0), buttonNamed("target"));
+    assertThat(condition.test()).isFalse();
+    assertThat(matcher.evaluations).isEqualTo(0);
+  }
+
+  public void shouldSearchWholeHierarchyWhenFullSearchIsDue() throws Exception {
+    condition = new IncrementalComponentFoundCondition(new BasicDescription(""), finderWithCurrentAwtHierarchy(),
+        matcher, root, 0, Toolkit.getDefaultToolkit(), 0);
+    condition.test();
+    final JButton target = execute(new GuiQuery<JButton>() {
+      protected JButton executeInEDT() {
+        JButton button = (JButton)root.getComponent(0);
+        button.setName("target");
+        return button;
+      }
+    });
+    Thread.sleep(10);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(target);
+  }
+
+  @RunsInEDT
+  private static JButton buttonNamed(final String name) {
+    return execute(new GuiQuery<JButton>() {
+      protected JButton executeInEDT() {
+        JButton button = new JButton();
+        button.setName(name);
+        return button;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static void add(final Container parent, final Component child) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        parent.add(child);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static void remove(final Container parent, final int index) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        parent.remove(index);
+      }
+    });
+  }
+
+  private static class CountingNameMatcher implements ComponentMatcher {
+    private final String name;
+    volatile int evaluations;
+
+    CountingNameMatcher(String name) {
+      this.name = name;
+    }
+
+    public boolean matches(Component c) {
+      evaluations++;
+      return name.equals(c.getName());
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Rectangle;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.JTree;
+import javax.swing.event.ListDataListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link CellBoundsCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class CellBoundsCacheTest {
+
+  private DefaultListModel listModel;
+  private JList list;
+  private CellBoundsCache cache;
+  private Rectangle bounds;
+
+  @BeforeMethod public void setUp() {
+    listModel = new DefaultListModel();
+    listModel.addElement("one");
+    list = newList(listModel);
+    cache = new CellBoundsCache();
+    bounds = new Rectangle(10, 20, 30, 40);
+  }
+
+  @RunsInEDT
+  private static JList newList(final DefaultListModel model) {
+    return execute(new GuiQuery<JList>() {
+      protected JList executeInEDT() {
+        return new JList(model);
+      }
+    });
+  }
+
+  public void shouldReturnNullIfBoundsNotCached() {
+    assertThat(cachedBoundsOf(list, 0)).isNull();
+  }
+
+  public void shouldReturnCopyOfCachedBounds() {
+    cacheBounds(list, 0);
+    Rectangle cached = cachedBoundsOf(list, 0);
+    assertThat(cached).isEqualTo(bounds).isNotSameAs(bounds);
+    cached.x = 0;
+    assertThat(cachedBoundsOf(list, 0)).isEqualTo(bounds);
+  }
+
+  public void shouldDiscardCachedBoundsWhenCleared() {
+    cacheBounds(list, 0);
+    cache.clear();
+    assertThat(cachedBoundsOf(list, 0)).isNull();
+  }
+
+  public void shouldDiscardCachedBoundsWhenListModelChanges() {
+    cacheBounds(list, 0);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        listModel.addElement("two");
+      }
+    });
+    assertThat(cachedBoundsOf(list, 0)).isNull();
+  }
+
+  public void shouldDiscardCachedBoundsWhenFixedCellHeightChanges() {
+    cacheBounds(list, 0);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        list.setFixedCellHeight(30);
+      }
+    });
+    assertThat(cachedBoundsOf(list, 0)).isNull();
+  }
+
+  public void shouldListenToNewListModel() {
+    final DefaultListModel newModel = new DefaultListModel();
+    newModel.addElement("one");
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        cache.put(list, 0, bounds);
+        list.setModel(newModel);
+        cache.put(list, 0, bounds);
+        newModel.addElement("two");
+      }
+    });
+    assertThat(cachedBoundsOf(list, 0)).isNull();
+  }
+
+  public void shouldNotReferenceCachedBoundsStronglyFromListModel() {
+    int listenerCount = listModel.getListDataListeners().length;
+    cacheBounds(list, 0);
+    cacheBounds(list, 1);
+    ListDataListener[] listeners = listModel.getListDataListeners();
+    assertThat(listeners).hasSize(listenerCount + 1);
+    int weakListenerCount = 0;
+    for (ListDataListener listener : listeners)
+      if (listener instanceof WeakModelListener) weakListenerCount++;
+    assertThat(weakListenerCount).isEqualTo(1);
+  }
+
+  public void shouldDiscardCachedBoundsWhenTreePathIsExpanded() {
+    final DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    final DefaultMutableTreeNode node = new DefaultMutableTreeNode("node");
+    root.add(node);
+    node.add(new DefaultMutableTreeNode("leaf"));
+    final TreePath path = new TreePath(new Object[] { root, node });
+    final JTree tree = newTree(new DefaultTreeModel(root));
+    cacheBounds(tree, path);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tree.expandPath(path);
+      }
+    });
+    assertThat(cachedBoundsOf(tree, path)).isNull();
+  }
+
+  public void shouldDiscardCachedBoundsWhenTreeModelChanges() {
+    final DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    final DefaultTreeModel treeModel = new DefaultTreeModel(root);
+    final TreePath path = new TreePath(root);
+    JTree tree = newTree(treeModel);
+    cacheBounds(tree, path);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        treeModel.insertNodeInto(new DefaultMutableTreeNode("node"), root, 0);
+      }
+    });
+    assertThat(cachedBoundsOf(tree, path)).isNull();
+  }
+
+  @RunsInEDT
+  private static JTree newTree(final DefaultTreeModel model) {
+    return execute(new GuiQuery<JTree>() {
+      protected JTree executeInEDT() {
+        return new JTree(model);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private void cacheBounds(final JComponent c, final Object cell) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        cache.put(c, cell, bounds);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private Rectangle cachedBoundsOf(final JComponent c, final Object cell) {
+    return execute(new GuiQuery<Rectangle>() {
+      protected Rectangle executeInEDT() {
+        return cache.get(c, cell);
+      }
+    });
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.swing.JFileChooser;
+import javax.swing.plaf.basic.BasicFileChooserUI;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static java.lang.String.valueOf;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.timing.Pause.pause;
+import static org.fest.util.Files.*;
+import static org.fest.util.Strings.concat;
+
+/**
+ * Tests for <code>{@link JFileChooserDirectoryLoadedCondition}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JFileChooserDirectoryLoadedConditionTest {
+
+  private static final int FILE_COUNT = 10;
+
+  private File dir;
+  private JFileChooser fileChooser;
+  private JFileChooserDirectoryLoadedCondition condition;
+
+  @BeforeMethod public void setUp() throws IOException {
+    dir = newTemporaryFolder();
+    for (int i = 0; i < FILE_COUNT; i++) new File(dir, concat("file", valueOf(i), ".txt")).createNewFile();
+    fileChooser = newFileChooser();
+    condition = new JFileChooserDirectoryLoadedCondition(fileChooser);
+  }
+
+  @RunsInEDT
+  private static JFileChooser newFileChooser() {
+    return execute(new GuiQuery<JFileChooser>() {
+      protected JFileChooser executeInEDT() {
+        return new JFileChooser();
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static int loadedFileCount(final JFileChooser fileChooser) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return ((BasicFileChooserUI)fileChooser.getUI()).getModel().getSize();
+      }
+    });
+  }
+
+  @AfterMethod public void tearDown() {
+    delete(dir);
+  }
+
+  public void shouldBeSatisfiedIfCurrentDirectoryDidNotChange() {
+    condition.startListening();
+    assertThat(condition.test()).isTrue();
+    condition.done();
+  }
+
+  public void shouldWaitUntilContentsOfNewCurrentDirectoryAreLoaded() {
+    condition.startListening();
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        fileChooser.setCurrentDirectory(dir);
+      }
+    });
+    pause(condition, 5000);
+    assertThat(loadedFileCount(fileChooser)).isEqualTo(FILE_COUNT);
+  }
+}
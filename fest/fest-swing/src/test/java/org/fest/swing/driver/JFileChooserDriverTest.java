@@ -345,6 +345,15 @@ public class JFileChooserDriverTest {
     assertThat(fileNameTextBox).isNotNull();
   }
 
+  public void shouldReuseComponentsFoundBefore() {
+    JButton approveButton = driver.approveButton(fileChooser);
+    JButton cancelButton = driver.cancelButton(fileChooser);
+    JTextField fileNameTextBox = driver.fileNameTextBox(fileChooser);
+    assertThat(driver.approveButton(fileChooser)).isSameAs(approveButton);
+    assertThat(driver.cancelButton(fileChooser)).isSameAs(cancelButton);
+    assertThat(driver.fileNameTextBox(fileChooser)).isSameAs(fileNameTextBox);
+  }
+
   public void shouldSetCurrentDirectory() {
     File userHome = userHomeDirectory();
     driver.setCurrentDirectory(fileChooser, userHome);
@@ -0,0 +1,196 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.Robot;
+import org.fest.swing.edt.FailOnThreadViolationRepaintManager;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.swing.TestList;
+import org.fest.swing.test.swing.TestWindow;
+
+import static javax.swing.ListSelectionModel.*;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.driver.SelectionStrategy.*;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.TestGroups.GUI;
+
+/**
+ * Verifies that selecting items in a <code>{@link JList}</code> using <code>{@link SelectionStrategy#MODEL}</code>
+ * results in the same selection, as seen by selection listeners, as using
+ * <code>{@link SelectionStrategy#USER_INPUT}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test(groups = GUI)
+public class JListDriverSelectionStrategyParityTest {
+
+  private Robot robot;
+  private MyWindow window;
+  private JListDriver driver;
+
+  @BeforeClass public void setUpOnce() {
+    FailOnThreadViolationRepaintManager.install();
+  }
+
+  @BeforeMethod public void setUp() {
+    robot = robotWithNewAwtHierarchy();
+    driver = new JListDriver(robot);
+    window = MyWindow.createNew();
+    robot.showWindow(window);
+  }
+
+  @AfterMethod public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @DataProvider(name = "ranges")
+  public Object[][] ranges() {
+    return new Object[][] {
+        { SINGLE_SELECTION, -1, 0, 3 },
+        { SINGLE_INTERVAL_SELECTION, -1, 1, 4 },
+        { SINGLE_INTERVAL_SELECTION, -1, 4, 1 },
+        { MULTIPLE_INTERVAL_SELECTION, -1, 0, 5 },
+        { MULTIPLE_INTERVAL_SELECTION, -1, 5, 2 },
+        { MULTIPLE_INTERVAL_SELECTION, -1, 3, 3 },
+        { MULTIPLE_INTERVAL_SELECTION, 2, 2, 5 },
+        { MULTIPLE_INTERVAL_SELECTION, 6, 1, 3 }
+    };
+  }
+
+  @Test(groups = GUI, dataProvider = "ranges")
+  public void shouldSelectSameRangeUsingBothStrategies(int selectionMode, int initialSelection, int start, int end) {
+    SelectionState expected = selectRange(USER_INPUT, selectionMode, initialSelection, start, end);
+    SelectionState actual = selectRange(MODEL, selectionMode, initialSelection, start, end);
+    assertThat(actual.selectedIndices).isEqualTo(expected.selectedIndices);
+    assertThat(actual.anchor).isEqualTo(expected.anchor);
+    assertThat(actual.lead).isEqualTo(expected.lead);
+    assertThat(actual.lastEventWasAdjusting).isFalse();
+    assertThat(expected.lastEventWasAdjusting).isFalse();
+  }
+
+  private SelectionState selectRange(SelectionStrategy strategy, int selectionMode, int initialSelection, int start,
+      int end) {
+    JList list = window.list;
+    prepare(list, selectionMode, initialSelection);
+    SelectionRecorder recorder = SelectionRecorder.attachTo(list);
+    driver.selectionStrategy(strategy);
+    driver.selectItems(list, start, end);
+    robot.waitForIdle();
+    return recorder.stateOf(list);
+  }
+
+  @RunsInEDT
+  private static void prepare(final JList list, final int selectionMode, final int initialSelection) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        for (ListSelectionListener l : list.getListSelectionListeners())
+          if (l instanceof SelectionRecorder) list.removeListSelectionListener(l);
+        list.clearSelection();
+        ListSelectionModel selectionModel = list.getSelectionModel();
+        selectionModel.setAnchorSelectionIndex(-1);
+        selectionModel.setLeadSelectionIndex(-1);
+        list.setSelectionMode(selectionMode);
+        if (initialSelection >= 0) list.setSelectedIndex(initialSelection);
+      }
+    });
+  }
+
+  private static class SelectionState {
+    final int[] selectedIndices;
+    final int anchor;
+    final int lead;
+    final boolean lastEventWasAdjusting;
+
+    SelectionState(int[] selectedIndices, int anchor, int lead, boolean lastEventWasAdjusting) {
+      this.selectedIndices = selectedIndices;
+      this.anchor = anchor;
+      this.lead = lead;
+      this.lastEventWasAdjusting = lastEventWasAdjusting;
+    }
+  }
+
+  private static class SelectionRecorder implements ListSelectionListener {
+    private final List<ListSelectionEvent> events = new ArrayList<ListSelectionEvent>();
+
+    @RunsInEDT
+    static SelectionRecorder attachTo(final JList list) {
+      return execute(new GuiQuery<SelectionRecorder>() {
+        protected SelectionRecorder executeInEDT() {
+          SelectionRecorder recorder = new SelectionRecorder();
+          list.addListSelectionListener(recorder);
+          return recorder;
+        }
+      });
+    }
+
+    public void valueChanged(ListSelectionEvent e) {
+      events.add(e);
+    }
+
+    @RunsInEDT
+    SelectionState stateOf(final JList list) {
+      return execute(new GuiQuery<SelectionState>() {
+        protected SelectionState executeInEDT() {
+          ListSelectionModel selectionModel = list.getSelectionModel();
+          boolean lastEventWasAdjusting = !events.isEmpty() && events.get(events.size() - 1).getValueIsAdjusting();
+          return new SelectionState(list.getSelectedIndices(), selectionModel.getAnchorSelectionIndex(),
+              selectionModel.getLeadSelectionIndex(), lastEventWasAdjusting);
+        }
+      });
+    }
+  }
+
+  private static class MyWindow extends TestWindow {
+    private static final long serialVersionUID = 1L;
+
+    final TestList list = new TestList("one", "two", "three", "four", "five", "six", "seven", "eight");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(JListDriverSelectionStrategyParityTest.class);
+      JScrollPane scrollPane = new JScrollPane(list);
+      scrollPane.setPreferredSize(new Dimension(80, 60));
+      add(scrollPane);
+    }
+  }
+}
@@ -46,6 +46,7 @@ import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
 import static org.fest.swing.core.MouseButton.RIGHT_BUTTON;
 import static org.fest.swing.driver.JListSelectedIndexQuery.selectedIndexOf;
 import static org.fest.swing.driver.JListSetSelectedIndexTask.setSelectedIndex;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.query.ComponentVisibleQuery.isVisible;
 import static org.fest.swing.test.core.CommonAssertions.*;
@@ -248,6 +249,24 @@ public class JListDriverTest {
     assertCellReaderWasCalled();
   }
 
+  public void shouldSelectItemsWithGivenTextUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, array("two", "three"));
+    assertThat(selectedValues(dragList)).isEqualTo(array("two", "three"));
+    assertCellReaderWasCalled();
+  }
+
+  public void shouldThrowErrorWhenSelectingItemsWithNotMatchingTextUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    try {
+      driver.selectItems(dragList, array("two", "four"));
+      failWhenExpectingException();
+    } catch (LocationUnavailableException expected) {
+      assertThat(expected.getMessage()).isEqualTo("Unable to find an element matching the value 'four'");
+    }
+    assertDragListHasNoSelection();
+  }
+
   public void shouldThrowErrorWhenSelectingItemsWithGivenTextInDisabledJList() {
     disableDragList();
     try {
@@ -275,6 +294,36 @@ public class JListDriverTest {
     assertThat(selectedValues(dragList)).isEqualTo(array("two", "three"));
   }
 
+  public void shouldSelectItemsWithGivenIndicesUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, new int[] { 0, 2 });
+    assertThat(selectedValues(dragList)).isEqualTo(array("one", "three"));
+  }
+
+  public void shouldToggleSelectedItemsUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, new int[] { 0, 1, 2, 1 });
+    assertThat(selectedValues(dragList)).isEqualTo(array("one", "three"));
+  }
+
+  public void shouldThrowErrorWhenSelectingItemsUsingModelSelectionStrategyInDisabledJList() {
+    driver.selectionStrategy(MODEL);
+    disableDragList();
+    try {
+      driver.selectItems(dragList, new int[] { 1, 2 });
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+    assertDragListHasNoSelection();
+  }
+
+  @Test(groups = GUI, expectedExceptions = IndexOutOfBoundsException.class)
+  public void shouldThrowErrorWhenSelectingItemsWithInvalidIndexUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, new int[] { 1, 8 });
+  }
+
   @Test(groups = GUI, expectedExceptions = NullPointerException.class)
   public void shouldThrowErrorIfArrayOfIndicesToSelectIsNull() {
     int[] indices = null;
@@ -346,6 +395,36 @@ public class JListDriverTest {
     assertThat(selectedValues(dragList)).isEqualTo(array("one", "two"));
   }
 
+  public void shouldSelectItemsInGivenRangeUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, 0, 2);
+    assertThat(selectedValues(dragList)).isEqualTo(array("one", "two", "three"));
+  }
+
+  public void shouldSelectItemsInReversedRangeUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, 2, 1);
+    assertThat(selectedValues(dragList)).isEqualTo(array("two", "three"));
+  }
+
+  public void shouldThrowErrorWhenSelectingItemsInGivenRangeUsingModelSelectionStrategyInDisabledJList() {
+    driver.selectionStrategy(MODEL);
+    disableDragList();
+    try {
+      driver.selectItems(dragList, 0, 1);
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+    assertDragListHasNoSelection();
+  }
+
+  @Test(groups = GUI, expectedExceptions = IndexOutOfBoundsException.class)
+  public void shouldThrowErrorWhenSelectingItemsInInvalidRangeUsingModelSelectionStrategy() {
+    driver.selectionStrategy(MODEL);
+    driver.selectItems(dragList, 1, 8);
+  }
+
   @RunsInEDT
   private static Object[] selectedValues(final JList list) {
     return execute(new GuiQuery<Object[]>() {
@@ -728,6 +807,11 @@ public class JListDriverTest {
     driver.cellReader(null);
   }
 
+  @Test(groups = GUI, expectedExceptions = NullPointerException.class)
+  public void shouldThrowErrorIfSelectionStrategyIsNull() {
+    driver.selectionStrategy(null);
+  }
+
   private static class MyWindow extends TestWindow {
     private static final long serialVersionUID = 1L;
     private static final Dimension LIST_SIZE = new Dimension(80, 40);
@@ -33,6 +33,7 @@ import org.fest.swing.test.swing.TestWindow;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.driver.JScrollBarSetValueTask.setValue;
 import static org.fest.swing.driver.JScrollBarValueQuery.valueOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
@@ -110,6 +111,12 @@ public class JScrollBarDriverTest {
     assertThatScrollBarValueIsEqualTo(36);
   }
 
+  public void shouldScrollUnitUpTheGivenNumberOfTimesUsingModelAdjustmentStrategy() {
+    driver.adjustmentStrategy(MODEL);
+    driver.scrollUnitUp(scrollBar, 6);
+    assertThatScrollBarValueIsEqualTo(36);
+  }
+
   public void shouldThrowErrorWhenScrollingDisabledJScrollBarUnitUpTheGivenNumberOfTimes() {
     disableScrollBar();
     try {
@@ -351,6 +358,18 @@ public class JScrollBarDriverTest {
     assertThatScrollBarValueIsEqualTo(MAXIMUM - EXTENT); // JScrollBar value cannot go to maximum
   }
 
+  public void shouldScrollToMaximumUsingModelAdjustmentStrategy() {
+    driver.adjustmentStrategy(MODEL);
+    driver.scrollToMaximum(scrollBar);
+    assertThatScrollBarValueIsEqualTo(MAXIMUM - EXTENT);
+  }
+
+  public void shouldScrollBlockUpTheGivenNumberOfTimesUsingModelAdjustmentStrategy() {
+    driver.adjustmentStrategy(MODEL);
+    driver.scrollBlockUp(scrollBar, 1000);
+    assertThatScrollBarValueIsEqualTo(MAXIMUM - EXTENT);
+  }
+
   public void shouldScrollToMinimum() {
     driver.scrollToMinimum(scrollBar);
     assertThatScrollBarValueIsEqualTo(MINIMUM);
@@ -29,6 +29,7 @@ import org.fest.swing.test.swing.TestWindow;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.driver.JSliderValueQuery.valueOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.test.core.CommonAssertions.*;
@@ -76,6 +77,13 @@ public abstract class JSliderDriverTestCase {
     assertThatSliderValueIsEqualTo(value);
   }
 
+  @Test(dataProvider = "valueProvider")
+  public void shouldSlideToValueUsingModelAdjustmentStrategy(int value) {
+    driver.adjustmentStrategy(MODEL);
+    driver.slide(slider, value);
+    assertThatSliderValueIsEqualTo(value);
+  }
+
   @DataProvider(name = "valueProvider")
   public Object[][] valueProvider() {
     return new Object[][] {
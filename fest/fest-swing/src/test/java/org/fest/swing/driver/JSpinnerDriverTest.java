@@ -16,9 +16,12 @@
 package org.fest.swing.driver;
 
 import java.awt.Dimension;
+import java.util.Calendar;
+import java.util.Date;
 
 import javax.swing.JLabel;
 import javax.swing.JSpinner;
+import javax.swing.SpinnerDateModel;
 import javax.swing.SpinnerListModel;
 import javax.swing.text.JTextComponent;
 
@@ -37,8 +40,11 @@ import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.test.data.ZeroAndNegativeProvider;
 import org.fest.swing.test.swing.TestWindow;
 
+import static java.util.Calendar.DAY_OF_MONTH;
+
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.driver.JSpinnerSetValueTask.setValue;
 import static org.fest.swing.driver.JSpinnerValueQuery.valueOf;
 import static org.fest.swing.driver.JTextComponentTextQuery.textOf;
@@ -111,6 +117,68 @@ public class JSpinnerDriverTest {
     assertLastValueIsSelected();
   }
 
+  public void shouldIncrementValueTheGivenTimesUsingModelAdjustmentStrategy() {
+    assertFirstValueIsSelected();
+    driver.adjustmentStrategy(MODEL);
+    driver.increment(spinner, 2);
+    assertLastValueIsSelected();
+  }
+
+  public void shouldStopIncrementingAtLastValueUsingModelAdjustmentStrategy() {
+    driver.adjustmentStrategy(MODEL);
+    driver.increment(spinner, 10);
+    assertLastValueIsSelected();
+  }
+
+  public void shouldIncrementDateTheGivenTimesUsingModelAdjustmentStrategy() {
+    JSpinner dateSpinner = window.dateSpinner;
+    Date start = dateOf(window.dateModel);
+    moveCaretToEndOfEditor(dateSpinner);
+    driver.adjustmentStrategy(MODEL);
+    driver.increment(dateSpinner, 3);
+    assertThat(valueOf(dateSpinner)).isEqualTo(daysAfter(start, 3));
+  }
+
+  public void shouldDecrementDateTheGivenTimesUsingModelAdjustmentStrategy() {
+    JSpinner dateSpinner = window.dateSpinner;
+    Date start = dateOf(window.dateModel);
+    moveCaretToEndOfEditor(dateSpinner);
+    driver.adjustmentStrategy(MODEL);
+    driver.decrement(dateSpinner, 3);
+    assertThat(valueOf(dateSpinner)).isEqualTo(daysAfter(start, -3));
+  }
+
+  @RunsInEDT
+  private static Date dateOf(final SpinnerDateModel model) {
+    return execute(new GuiQuery<Date>() {
+      protected Date executeInEDT() {
+        return model.getDate();
+      }
+    });
+  }
+
+  /*
+   * Clicking the arrow buttons of a JSpinner with a SpinnerDateModel changes the calendar field of the model to the one
+   * under the caret of the editor.
+   */
+  @RunsInEDT
+  private void moveCaretToEndOfEditor(final JSpinner dateSpinner) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        JTextComponent editor = ((JSpinner.DefaultEditor)dateSpinner.getEditor()).getTextField();
+        editor.setCaretPosition(editor.getDocument().getLength());
+      }
+    });
+    robot.waitForIdle();
+  }
+
+  private static Date daysAfter(Date date, int days) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    calendar.add(DAY_OF_MONTH, days);
+    return calendar.getTime();
+  }
+
   public void shouldThrowErrorWhenIncrementingValueInDisabledJSpinnerTheGivenTimes() {
     disableSpinner();
     try {
@@ -179,6 +247,29 @@ public class JSpinnerDriverTest {
     assertFirstValueIsSelected();
   }
 
+  public void shouldDecrementValueTheGivenTimesUsingModelAdjustmentStrategy() {
+    selectLastValue();
+    driver.adjustmentStrategy(MODEL);
+    driver.decrement(spinner, 2);
+    assertFirstValueIsSelected();
+  }
+
+  public void shouldThrowErrorWhenDecrementingValueInDisabledJSpinnerTheGivenTimesUsingModelAdjustmentStrategy() {
+    disableSpinner();
+    driver.adjustmentStrategy(MODEL);
+    try {
+      driver.decrement(spinner, 2);
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+  }
+
+  @Test(groups = GUI, expectedExceptions = NullPointerException.class)
+  public void shouldThrowErrorIfAdjustmentStrategyIsNull() {
+    driver.adjustmentStrategy(null);
+  }
+
   public void shouldThrowErrorWhenDecrementingValueInDisabledJSpinnerTheGivenTimes() {
     disableSpinner();
     try {
@@ -349,6 +440,8 @@ public class JSpinnerDriverTest {
     private static final long serialVersionUID = 1L;
 
     final JSpinner spinner = new JSpinner(new SpinnerListModel(array("Frodo", "Sam", "Gandalf")));
+    final SpinnerDateModel dateModel = new SpinnerDateModel(firstOfJune(), null, null, DAY_OF_MONTH);
+    final JSpinner dateSpinner = new JSpinner(dateModel);
 
     @RunsInEDT
     static MyWindow createNew() {
@@ -362,7 +455,15 @@ public class JSpinnerDriverTest {
     private MyWindow() {
       super(JSpinnerDriverTest.class);
       add(spinner);
-      setPreferredSize(new Dimension(160, 80));
+      add(dateSpinner);
+      setPreferredSize(new Dimension(320, 80));
+    }
+
+    private static Date firstOfJune() {
+      Calendar calendar = Calendar.getInstance();
+      calendar.clear();
+      calendar.set(2008, Calendar.JUNE, 1, 10, 30);
+      return calendar.getTime();
     }
   }
 }
@@ -0,0 +1,147 @@
+/*
+ * Created on Jul 27, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTabbedPaneTabIndexCache.isCacheable;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTabbedPaneTabIndexCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JTabbedPaneTabIndexCacheTest {
+
+  private JTabbedPane tabbedPane;
+  private JTabbedPaneTabIndexCache cache;
+
+  @BeforeMethod public void setUp() {
+    tabbedPane = newTabbedPane();
+    cache = new JTabbedPaneTabIndexCache();
+  }
+
+  @RunsInEDT
+  private static JTabbedPane newTabbedPane() {
+    return execute(new GuiQuery<JTabbedPane>() {
+      protected JTabbedPane executeInEDT() {
+        JTabbedPane tabbedPane = new JTabbedPane();
+        tabbedPane.addTab("One", new JPanel());
+        tabbedPane.addTab("Two", new JPanel());
+        return tabbedPane;
+      }
+    });
+  }
+
+  public void shouldReturnIndexOfTabWithGivenTitle() {
+    assertThat(indexOf("Two")).isEqualTo(1);
+  }
+
+  public void shouldReturnIndexOfFirstTabWithGivenTitle() {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tabbedPane.addTab("One", new JPanel());
+      }
+    });
+    assertThat(indexOf("One")).isEqualTo(0);
+  }
+
+  public void shouldReturnNegativeOneIfNoTabHasGivenTitle() {
+    assertThat(indexOf("Three")).isEqualTo(-1);
+  }
+
+  public void shouldUpdateIndicesWhenTabIsInserted() {
+    indexOf("Two");
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tabbedPane.insertTab("Zero", null, new JPanel(), null, 0);
+      }
+    });
+    assertThat(indexOf("Two")).isEqualTo(2);
+    assertThat(indexOf("Zero")).isEqualTo(0);
+  }
+
+  public void shouldUpdateIndicesWhenTabIsRemoved() {
+    indexOf("Two");
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tabbedPane.removeTabAt(0);
+      }
+    });
+    assertThat(indexOf("Two")).isEqualTo(0);
+    assertThat(indexOf("One")).isEqualTo(-1);
+  }
+
+  public void shouldUpdateIndicesWhenTitleOfTabChanges() {
+    indexOf("Two");
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tabbedPane.setTitleAt(1, "Three");
+      }
+    });
+    assertThat(indexOf("Two")).isEqualTo(-1);
+    assertThat(indexOf("Three")).isEqualTo(1);
+  }
+
+  public void shouldUpdateIndicesWhenCleared() {
+    indexOf("Two");
+    cache.clear();
+    assertThat(indexOf("Two")).isEqualTo(1);
+  }
+
+  public void shouldRegisterListenersInTabbedPaneOnlyOnce() {
+    int listenerCount = containerListenerCount();
+    indexOf("One");
+    indexOf("Two");
+    cache.clear();
+    indexOf("One");
+    assertThat(containerListenerCount()).isEqualTo(listenerCount + 1);
+  }
+
+  @RunsInEDT
+  private int containerListenerCount() {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return tabbedPane.getContainerListeners().length;
+      }
+    });
+  }
+
+  public void shouldOnlyAcceptTitlesWithoutRegularExpressionCharacters() {
+    assertThat(isCacheable("Tab One")).isTrue();
+    assertThat(isCacheable("Tab.*")).isFalse();
+    assertThat(isCacheable("Tab (1)")).isFalse();
+    assertThat(isCacheable(null)).isFalse();
+  }
+
+  @RunsInEDT
+  private int indexOf(final String title) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return cache.indexOf(tabbedPane, title);
+      }
+    });
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Component;
+
+import javax.swing.DefaultCellEditor;
+import javax.swing.JPanel;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.TypeMatcher;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTableCellEditorFoundCondition}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class JTableCellEditorFoundConditionTest {
+
+  private JTable table;
+  private JTableCellEditorFoundCondition condition;
+
+  @BeforeMethod public void setUp() {
+    table = newTable();
+    condition = new JTableCellEditorFoundCondition(new TypeMatcher(JTextField.class), table);
+  }
+
+  @AfterMethod public void tearDown() {
+    condition.done();
+  }
+
+  @RunsInEDT
+  private static JTable newTable() {
+    return execute(new GuiQuery<JTable>() {
+      protected JTable executeInEDT() {
+        return new JTable(4, 3);
+      }
+    });
+  }
+
+  @Test public void shouldNotBeSatisfiedIfTableIsNotEditing() {
+    assertThat(condition.test()).isFalse();
+    assertThat(condition.found()).isNull();
+  }
+
+  @Test public void shouldFindEditorAlreadyActivated() {
+    editCell(table, 1, 1);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(editorComponentOf(table));
+  }
+
+  @Test public void shouldFindEditorActivatedAfterFirstEvaluation() {
+    assertThat(condition.test()).isFalse();
+    editCell(table, 2, 0);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(editorComponentOf(table));
+  }
+
+  @Test public void shouldFindMatchingComponentInEditorHierarchy() {
+    JTextField textField = useEditorInPanel(table);
+    editCell(table, 0, 0);
+    assertThat(condition.test()).isTrue();
+    assertThat(condition.found()).isSameAs(textField);
+  }
+
+  @Test public void shouldStopListeningWhenDone() {
+    int propertyChangeListenerCount = propertyChangeListenerCountOf(table);
+    condition.test();
+    assertThat(propertyChangeListenerCountOf(table)).isEqualTo(propertyChangeListenerCount + 1);
+    condition.done();
+    assertThat(propertyChangeListenerCountOf(table)).isEqualTo(propertyChangeListenerCount);
+  }
+
+  @RunsInEDT
+  private static void editCell(final JTable table, final int row, final int column) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        table.editCellAt(row, column);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static Component editorComponentOf(final JTable table) {
+    return execute(new GuiQuery<Component>() {
+      protected Component executeInEDT() {
+        return table.getEditorComponent();
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static JTextField useEditorInPanel(final JTable table) {
+    return execute(new GuiQuery<JTextField>() {
+      protected JTextField executeInEDT() {
+        final JTextField textField = new JTextField();
+        final JPanel panel = new JPanel();
+        panel.add(textField);
+        table.setDefaultEditor(Object.class, new DefaultCellEditor(textField) {
+          private static final long serialVersionUID = 1L;
+
+          @Override public Component getTableCellEditorComponent(JTable t, Object value, boolean isSelected, int row,
+              int column) {
+            super.getTableCellEditorComponent(t, value, isSelected, row, column);
+            return panel;
+          }
+        });
+        return textField;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static int propertyChangeListenerCountOf(final JTable table) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return table.getPropertyChangeListeners().length;
+      }
+    });
+  }
+}
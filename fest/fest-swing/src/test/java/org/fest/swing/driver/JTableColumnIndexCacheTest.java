@@ -0,0 +1,127 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.table.DefaultTableColumnModel;
+import javax.swing.table.TableColumn;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTableColumnIndexCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JTableColumnIndexCacheTest {
+
+  private DefaultTableColumnModel columnModel;
+  private JTableColumnIndexCache cache;
+
+  @BeforeMethod public void setUp() {
+    columnModel = newColumnModel();
+    cache = new JTableColumnIndexCache();
+  }
+
+  @RunsInEDT
+  private static DefaultTableColumnModel newColumnModel() {
+    return execute(new GuiQuery<DefaultTableColumnModel>() {
+      protected DefaultTableColumnModel executeInEDT() {
+        DefaultTableColumnModel columnModel = new DefaultTableColumnModel();
+        columnModel.addColumn(column(0, "first"));
+        columnModel.addColumn(column(1, "second"));
+        return columnModel;
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static TableColumn column(int modelIndex, Object identifier) {
+    TableColumn column = new TableColumn(modelIndex);
+    column.setIdentifier(identifier);
+    return column;
+  }
+
+  public void shouldReturnNullIfIndexNotCached() {
+    assertThat((Object)cachedIndexOf("second")).isNull();
+  }
+
+  public void shouldReturnCachedIndex() {
+    cacheIndex("second", 1);
+    assertThat(cachedIndexOf("second")).isEqualTo(1);
+  }
+
+  public void shouldDiscardCachedIndicesWhenCleared() {
+    cacheIndex("second", 1);
+    cache.clear();
+    assertThat((Object)cachedIndexOf("second")).isNull();
+  }
+
+  public void shouldDiscardCachedIndicesWhenColumnIsAdded() {
+    cacheIndex("second", 1);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        columnModel.addColumn(column(2, "third"));
+      }
+    });
+    assertThat((Object)cachedIndexOf("second")).isNull();
+  }
+
+  public void shouldDiscardCachedIndicesWhenColumnIsMoved() {
+    cacheIndex("second", 1);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        columnModel.moveColumn(1, 0);
+      }
+    });
+    assertThat((Object)cachedIndexOf("second")).isNull();
+  }
+
+  public void shouldNotReturnCachedIndexIfIdentifierOfColumnChanged() {
+    cacheIndex("second", 1);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        columnModel.getColumn(1).setIdentifier("other");
+      }
+    });
+    assertThat((Object)cachedIndexOf("second")).isNull();
+  }
+
+  @RunsInEDT
+  private void cacheIndex(final Object identifier, final int index) {
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        cache.put(columnModel, identifier, index);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private Integer cachedIndexOf(final Object identifier) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return cache.get(columnModel, identifier);
+      }
+    });
+  }
+}
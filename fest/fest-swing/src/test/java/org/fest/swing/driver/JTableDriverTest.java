@@ -16,6 +16,8 @@
 package org.fest.swing.driver;
 
 import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
@@ -57,7 +59,9 @@ import static org.fest.swing.driver.JTableCellValueQuery.cellValueOf;
 import static org.fest.swing.driver.JTableClearSelectionTask.clearSelectionOf;
 import static org.fest.swing.driver.JTableRowCountQuery.rowCountOf;
 import static org.fest.swing.driver.JTableSelectedRowCountQuery.selectedRowCountOf;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.test.builder.JTextFields.textField;
 import static org.fest.swing.test.core.CommonAssertions.*;
 import static org.fest.swing.test.core.TestGroups.GUI;
@@ -171,6 +175,27 @@ public class JTableDriverTest {
     assertThat(isCellSelected(dragTable, 0, 0)).isTrue();
   }
 
+  public void shouldSelectCellsUsingModelSelectionStrategy() {
+    setMultipleIntervalSelectionTo(dragTable);
+    robot.waitForIdle();
+    driver.selectionStrategy(MODEL);
+    driver.selectCells(dragTable, new TableCell[] { row(0).column(0), row(2).column(0) });
+    assertThat(isCellSelected(dragTable, 0, 0)).isTrue();
+    assertThat(isCellSelected(dragTable, 2, 0)).isTrue();
+    assertThat(isCellSelected(dragTable, 1, 0)).isFalse();
+  }
+
+  public void shouldThrowErrorWhenSelectingCellsUsingModelSelectionStrategyInDisabledJTable() {
+    driver.selectionStrategy(MODEL);
+    disableDragTable();
+    try {
+      driver.selectCells(dragTable, new TableCell[] { row(0).column(0), row(2).column(0) });
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+  }
+
   private static void setMultipleIntervalSelectionTo(final JTable table) {
     execute(new GuiTask() {
       protected void executeInEDT() {
@@ -466,6 +491,101 @@ public class JTableDriverTest {
     driver.enterValueInCell(dragTable, cell, "Hello");
   }
 
+  @Test(groups = GUI, expectedExceptions = NullPointerException.class)
+  public void shouldThrowErrorIfMapOfValuesToEnterIsNull() {
+    driver.enterValues(dragTable, null);
+  }
+
+  @Test(groups = GUI, expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfMapOfValuesToEnterIsEmpty() {
+    driver.enterValues(dragTable, new HashMap<TableCell, String>());
+  }
+
+  @Test public void shouldThrowErrorIfAnyValueToEnterIsNullBeforeEditingCells() {
+    final Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(row(0).column(0), "One");
+    values.put(row(0).column(1), null);
+    final JTableCellWriter cellWriter = mockCellWriter();
+    driver.cellWriter(cellWriter);
+    new EasyMockTemplate(cellWriter) {
+      protected void expectations() {}
+
+      protected void codeToTest() {
+        try {
+          driver.enterValues(dragTable, values);
+          failWhenExpectingException();
+        } catch (NullPointerException e) {
+          assertThat(e.getMessage()).isEqualTo("The value to enter in cell [row=0, column=1] should not be null");
+        }
+      }
+    }.run();
+  }
+
+  @Test public void shouldEnterValuesInRowMajorOrder() {
+    final Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(row(1).column(0), "Three");
+    values.put(row(0).column(1), "Two");
+    values.put(row(0).column(0), "One");
+    final JTableCellWriter cellWriter = createStrictMock(JTableCellWriter.class);
+    driver.cellWriter(cellWriter);
+    new EasyMockTemplate(cellWriter) {
+      protected void expectations() {
+        cellWriter.enterValue(dragTable, 0, 0, "One");
+        expectLastCall().once();
+        cellWriter.enterValue(dragTable, 0, 1, "Two");
+        expectLastCall().once();
+        cellWriter.enterValue(dragTable, 1, 0, "Three");
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        driver.enterValues(dragTable, values);
+      }
+    }.run();
+  }
+
+  @Test public void shouldEnterRemainingValuesAndReportFailuresTogether() {
+    final Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(row(0).column(0), "One");
+    values.put(row(0).column(1), "Two");
+    values.put(row(0).column(2), "Three");
+    final JTableCellWriter cellWriter = mockCellWriter();
+    driver.cellWriter(cellWriter);
+    new EasyMockTemplate(cellWriter) {
+      protected void expectations() {
+        cellWriter.enterValue(dragTable, 0, 0, "One");
+        expectLastCall().andThrow(new IllegalStateException("Expecting cell to be editable"));
+        cellWriter.enterValue(dragTable, 0, 1, "Two");
+        expectLastCall().once();
+        cellWriter.enterValue(dragTable, 0, 2, "Three");
+        expectLastCall().andThrow(actionFailure("Unable to activate editor"));
+      }
+
+      protected void codeToTest() {
+        try {
+          driver.enterValues(dragTable, values);
+          failWhenExpectingException();
+        } catch (ActionFailedException e) {
+          assertThat(e.getMessage()).contains("2 cell(s)")
+                                    .contains("[row=0, column=0]: Expecting cell to be editable")
+                                    .contains("[row=0, column=2]: Unable to activate editor");
+        }
+      }
+    }.run();
+  }
+
+  public void shouldThrowErrorWhenEnteringValuesInDisabledJTable() {
+    disableDragTable();
+    Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(row(0).column(0), "Hello");
+    try {
+      driver.enterValues(dragTable, values);
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+  }
+
   @Test public void shouldReturnEditorComponentInCell() {
     final JTableCellWriter cellWriter = mockCellWriter();
     final Component editor = textField().withText("Hello").createNew();
@@ -581,6 +701,11 @@ public class JTableDriverTest {
     driver.cellWriter(null);
   }
 
+  @Test(groups = GUI, expectedExceptions = NullPointerException.class)
+  public void shouldThrowErrorIfSelectionStrategyIsNull() {
+    driver.selectionStrategy(null);
+  }
+
   public void shouldReturnJTableHeader() {
     assertThat(driver.tableHeaderOf(dragTable)).isSameAs(window.dragTableHeader);
   }
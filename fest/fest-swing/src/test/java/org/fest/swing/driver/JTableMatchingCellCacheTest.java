@@ -0,0 +1,138 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JTable;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.DefaultTableColumnModel;
+import javax.swing.table.DefaultTableModel;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTableMatchingCellCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JTableMatchingCellCacheTest {
+
+  private DefaultTableModel model;
+  private JTable table;
+  private TableCell cell;
+  private JTableCellReader cellReader;
+  private JTableMatchingCellCache cache;
+
+  @BeforeMethod public void setUp() {
+    model = new DefaultTableModel(new Object[][] { { "1", "2" }, { "3", "4" } }, new Object[] { "A", "B" });
+    table = newTable(model);
+    cell = row(1).column(0);
+    cellReader = new BasicJTableCellReader();
+    cache = new JTableMatchingCellCache();
+  }
+
+  @RunsInEDT
+  private static JTable newTable(final DefaultTableModel model) {
+    return execute(new GuiQuery<JTable>() {
+      protected JTable executeInEDT() {
+        return new JTable(model);
+      }
+    });
+  }
+
+  public void shouldReturnNullIfCellNotCached() {
+    assertThat(cache.get(table, cellReader, "3")).isNull();
+  }
+
+  public void shouldReturnCachedCell() {
+    cache.put(table, cellReader, "3", cell);
+    assertThat(cache.get(table, cellReader, "3")).isSameAs(cell);
+  }
+
+  public void shouldDiscardCachedCellsWhenCleared() {
+    cache.put(table, cellReader, "3", cell);
+    cache.clear();
+    assertThat(cache.get(table, cellReader, "3")).isNull();
+  }
+
+  public void shouldDiscardCachedCellsWhenModelChanges() {
+    cache.put(table, cellReader, "3", cell);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        model.setValueAt("3", 0, 0);
+      }
+    });
+    assertThat(cache.get(table, cellReader, "3")).isNull();
+  }
+
+  public void shouldDiscardCachedCellsWhenColumnIsMoved() {
+    cache.put(table, cellReader, "3", cell);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        table.moveColumn(0, 1);
+      }
+    });
+    assertThat(cache.get(table, cellReader, "3")).isNull();
+  }
+
+  public void shouldListenToNewModel() {
+    final DefaultTableModel newModel = new DefaultTableModel(new Object[][] { { "3" } }, new Object[] { "A" });
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        cache.put(table, cellReader, "3", cell);
+        table.setModel(newModel);
+        cache.put(table, cellReader, "3", row(0).column(0));
+        newModel.addRow(new Object[] { "4" });
+      }
+    });
+    assertThat(cache.get(table, cellReader, "3")).isNull();
+  }
+
+  public void shouldNotReturnCellCachedForAnotherCellReader() {
+    cache.put(table, cellReader, "3", cell);
+    assertThat(cache.get(table, new BasicJTableCellReader(), "3")).isNull();
+  }
+
+  public void shouldNotReferenceCachedCellsStronglyFromModels() {
+    cache.put(table, cellReader, "3", cell);
+    cache.put(table, cellReader, "4", row(1).column(1));
+    int weakListenerCount = 0;
+    for (TableModelListener listener : model.getTableModelListeners())
+      if (listener instanceof WeakModelListener) weakListenerCount++;
+    for (TableColumnModelListener listener : columnModelListeners())
+      if (listener instanceof WeakModelListener) weakListenerCount++;
+    assertThat(weakListenerCount).isEqualTo(2);
+  }
+
+  @RunsInEDT
+  private TableColumnModelListener[] columnModelListeners() {
+    return execute(new GuiQuery<TableColumnModelListener[]>() {
+      protected TableColumnModelListener[] executeInEDT() {
+        return ((DefaultTableColumnModel)table.getColumnModel()).getColumnModelListeners();
+      }
+    });
+  }
+}
@@ -40,6 +40,7 @@ import org.fest.swing.test.swing.TestWindow;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
 import static org.fest.swing.driver.JTreeSetEditableTask.setEditable;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.test.core.CommonAssertions.*;
 import static org.fest.swing.test.core.TestGroups.GUI;
@@ -136,6 +137,28 @@ public class JTreeDriverTest {
     assertThat(selectionRowsOf(dragTree)).isEqualTo(rows);
   }
 
+  public void shouldSelectNodesByRowUsingModelSelectionStrategy() {
+    clearSelectionOf(dragTree);
+    setDefaultSelectionModelTo(dragTree);
+    robot.waitForIdle();
+    driver.selectionStrategy(MODEL);
+    int[] rows = { 0, 1, 2 };
+    driver.selectRows(dragTree, rows);
+    assertThat(selectionRowsOf(dragTree)).isEqualTo(rows);
+  }
+
+  public void shouldThrowErrorWhenSelectingNodesByRowUsingModelSelectionStrategyInDisabledJTree() {
+    driver.selectionStrategy(MODEL);
+    disableDragTree();
+    int[] rows = { 0, 1, 2 };
+    try {
+      driver.selectRows(dragTree, rows);
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertActionFailureDueToDisabledComponent(e);
+    }
+  }
+
   @RunsInEDT
   private static int[] selectionRowsOf(final JTree tree) {
     return execute(new GuiQuery<int[]>() {
@@ -262,6 +285,24 @@ public class JTreeDriverTest {
     assertThat(textOf(selectionPaths[1])).isEqualTo(paths[1]);
   }
 
+  public void shouldSelectNodesByPathsUsingModelSelectionStrategy() {
+    clearSelectionOf(dragTree);
+    setDefaultSelectionModelTo(dragTree);
+    robot.waitForIdle();
+    driver.selectionStrategy(MODEL);
+    String[] paths = { "root/branch1/branch1.1", "root/branch1/branch1.2" };
+    driver.selectPaths(dragTree, paths);
+    TreePath[] selectionPaths = selectionPathsOf(dragTree);
+    assertThat(selectionPaths).hasSize(2);
+    assertThat(textOf(selectionPaths[0])).isEqualTo(paths[0]);
+    assertThat(textOf(selectionPaths[1])).isEqualTo(paths[1]);
+  }
+
+  @Test(groups = GUI, expectedExceptions = NullPointerException.class)
+  public void shouldThrowErrorIfSelectionStrategyIsNull() {
+    driver.selectionStrategy(null);
+  }
+
   @RunsInEDT
   private static void setDefaultSelectionModelTo(final JTree tree) {
     final DefaultTreeSelectionModel selectionModel = new DefaultTreeSelectionModel();
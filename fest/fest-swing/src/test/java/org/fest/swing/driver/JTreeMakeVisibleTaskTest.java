@@ -0,0 +1,122 @@
+/*
+ * Created on Jul 21, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Dimension;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.Robot;
+import org.fest.swing.edt.FailOnThreadViolationRepaintManager;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.swing.TestWindow;
+import org.fest.swing.util.Pair;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.driver.JTreeExpandedPathQuery.isExpanded;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.TestGroups.*;
+
+/**
+ * Tests for <code>{@link JTreeMakeVisibleTask}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test(groups = { GUI, ACTION })
+public class JTreeMakeVisibleTaskTest {
+
+  private Robot robot;
+  private MyWindow window;
+
+  @BeforeClass public void setUpOnce() {
+    FailOnThreadViolationRepaintManager.install();
+  }
+
+  @BeforeMethod public void setUp() {
+    robot = robotWithNewAwtHierarchy();
+    window = MyWindow.createNew();
+    robot.showWindow(window);
+  }
+
+  @AfterMethod public void tearDown() {
+    robot.cleanUp();
+  }
+
+  public void shouldExpandAllAncestorsInOneAction() {
+    TreePath leafPath = new TreePath(new Object[] { window.root, window.branch, window.node, window.leaf });
+    Pair<Boolean, TreePath> result = JTreeMakeVisibleTask.makeVisible(window.tree, leafPath, false);
+    robot.waitForIdle();
+    assertThat(result.i).isTrue();
+    assertThat(result.ii).isNull();
+    assertThat(isExpanded(window.tree, leafPath.getParentPath())).isTrue();
+    assertThat(isExpanded(window.tree, leafPath)).isFalse();
+  }
+
+  public void shouldNotReportChangesIfAncestorsAreAlreadyExpanded() {
+    TreePath leafPath = new TreePath(new Object[] { window.root, window.branch, window.node, window.leaf });
+    JTreeMakeVisibleTask.makeVisible(window.tree, leafPath, false);
+    robot.waitForIdle();
+    Pair<Boolean, TreePath> result = JTreeMakeVisibleTask.makeVisible(window.tree, leafPath, false);
+    assertThat(result.i).isFalse();
+    assertThat(result.ii).isNull();
+  }
+
+  public void shouldReturnFirstExpandedNodeWithoutChildren() {
+    TreePath emptyPath = new TreePath(new Object[] { window.root, window.emptyBranch });
+    Pair<Boolean, TreePath> result = JTreeMakeVisibleTask.makeVisible(window.tree, emptyPath, true);
+    assertThat(result.ii).isEqualTo(emptyPath);
+  }
+
+  private static class MyWindow extends TestWindow {
+    private static final long serialVersionUID = 1L;
+
+    final DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    final DefaultMutableTreeNode branch = new DefaultMutableTreeNode("branch");
+    final DefaultMutableTreeNode node = new DefaultMutableTreeNode("node");
+    final DefaultMutableTreeNode leaf = new DefaultMutableTreeNode("leaf");
+    final DefaultMutableTreeNode emptyBranch = new DefaultMutableTreeNode("emptyBranch", true);
+    final JTree tree;
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(JTreeMakeVisibleTaskTest.class);
+      root.add(branch);
+      branch.add(node);
+      node.add(leaf);
+      root.add(emptyBranch);
+      tree = new JTree(root);
+      tree.setPreferredSize(new Dimension(300, 200));
+      addComponents(tree);
+      tree.collapsePath(new TreePath(root));
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Created on Jul 21, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JTree;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTreePathCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JTreePathCacheTest {
+
+  private JTree tree;
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode node;
+  private TreePath nodePath;
+  private JTreePathCache cache;
+
+  @BeforeMethod public void setUp() {
+    root = new DefaultMutableTreeNode("root");
+    node = new DefaultMutableTreeNode("node");
+    root.add(node);
+    nodePath = new TreePath(new Object[] { root, node });
+    tree = newTree(root);
+    cache = new JTreePathCache();
+  }
+
+  @RunsInEDT
+  private static JTree newTree(final DefaultMutableTreeNode root) {
+    return execute(new GuiQuery<JTree>() {
+      protected JTree executeInEDT() {
+        return new JTree(root);
+      }
+    });
+  }
+
+  public void shouldReturnNullIfPathNotCached() {
+    assertThat(cache.get(tree, "root/node")).isNull();
+  }
+
+  public void shouldReturnCachedPath() {
+    cache.put(tree, "root/node", nodePath);
+    assertThat(cache.get(tree, "root/node")).isSameAs(nodePath);
+  }
+
+  public void shouldDiscardCachedPathsWhenCleared() {
+    cache.put(tree, "root/node", nodePath);
+    cache.clear();
+    assertThat(cache.get(tree, "root/node")).isNull();
+  }
+
+  public void shouldDiscardCachedPathsWhenModelChanges() {
+    cache.put(tree, "root/node", nodePath);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        model(tree).nodeChanged(node);
+      }
+    });
+    assertThat(cache.get(tree, "root/node")).isNull();
+  }
+
+  public void shouldDiscardCachedPathsWhenModelIsReplaced() {
+    cache.put(tree, "root/node", nodePath);
+    final DefaultTreeModel newModel = new DefaultTreeModel(root);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tree.setModel(newModel);
+      }
+    });
+    assertThat(cache.get(tree, "root/node")).isNull();
+    cache.put(tree, "root/node", nodePath);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        newModel.nodeChanged(node);
+      }
+    });
+    assertThat(cache.get(tree, "root/node")).isNull();
+  }
+
+  public void shouldDiscardCachedPathsWhenRootVisibilityChanges() {
+    cache.put(tree, "root/node", nodePath);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tree.setRootVisible(false);
+      }
+    });
+    assertThat(cache.get(tree, "root/node")).isNull();
+  }
+
+  public void shouldNotReferenceCachedPathsStronglyFromModel() {
+    cache.put(tree, "root/node", nodePath);
+    cache.put(tree, "root", new TreePath(root));
+    assertThat(weakModelListenerCountIn(model(tree))).isEqualTo(1);
+  }
+
+  public void shouldStopListeningToReplacedModel() {
+    final DefaultTreeModel oldModel = model(tree);
+    cache.put(tree, "root/node", nodePath);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        tree.setModel(new DefaultTreeModel(root));
+      }
+    });
+    assertThat(weakModelListenerCountIn(oldModel)).isEqualTo(0);
+  }
+
+  private static int weakModelListenerCountIn(DefaultTreeModel model) {
+    int count = 0;
+    for (TreeModelListener listener : model.getTreeModelListeners())
+      if (listener instanceof WeakModelListener) count++;
+    return count;
+  }
+
+  private static DefaultTreeModel model(JTree tree) {
+    return (DefaultTreeModel)tree.getModel();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Created on Jul 28, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.exception.LocationUnavailableException;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link JTreePathFinder}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class JTreePathFinderTest {
+
+  private JTree tree;
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode first;
+  private DefaultMutableTreeNode second;
+  private JTreePathFinder finder;
+
+  @BeforeMethod public void setUp() {
+    root = new DefaultMutableTreeNode("root");
+    first = new DefaultMutableTreeNode("first");
+    second = new DefaultMutableTreeNode("second");
+    root.add(first);
+    root.add(second);
+    tree = newTree(root);
+    finder = new JTreePathFinder();
+  }
+
+  @RunsInEDT
+  private static JTree newTree(final DefaultMutableTreeNode root) {
+    return execute(new GuiQuery<JTree>() {
+      protected JTree executeInEDT() {
+        return new JTree(root);
+      }
+    });
+  }
+
+  public void shouldFindMatchingPath() {
+    assertThat(findMatchingPath(finder, tree, "root/second")).isEqualTo(new TreePath(new Object[] { root, second }));
+  }
+
+  public void shouldNotReturnCachedPathIfTextOfNodeChangedWithoutNotification() {
+    findMatchingPath(finder, tree, "root/first");
+    first.setUserObject("renamed");
+    second.setUserObject("first");
+    assertThat(findMatchingPath(finder, tree, "root/first")).isEqualTo(new TreePath(new Object[] { root, second }));
+  }
+
+  public void shouldNotReturnCachedPathAfterCellReaderIsReplaced() {
+    findMatchingPath(finder, tree, "root/first");
+    finder.cellReader(new JTreeCellReader() {
+      public String valueAt(JTree t, Object modelValue) {
+        return modelValue == second ? "first" : "other";
+      }
+    });
+    assertThat(findMatchingPath(finder, tree, "other/first")).isEqualTo(new TreePath(new Object[] { root, second }));
+  }
+
+  @Test(expectedExceptions = LocationUnavailableException.class)
+  public void shouldFailIfCachedPathBecameAmbiguousWithoutNotification() {
+    findMatchingPath(finder, tree, "root/first");
+    root.add(new DefaultMutableTreeNode("first"));
+    findMatchingPath(finder, tree, "root/first");
+  }
+
+  public void shouldShareCachedPathsWithOtherFinders() {
+    TreePath path = findMatchingPath(finder, tree, "root/second");
+    assertThat(findMatchingPath(new JTreePathFinder(), tree, "root/second")).isSameAs(path);
+  }
+
+  @RunsInEDT
+  private static TreePath findMatchingPath(final JTreePathFinder finder, final JTree tree, final String path) {
+    return execute(new GuiQuery<TreePath>() {
+      protected TreePath executeInEDT() {
+        return finder.findMatchingPath(tree, path);
+      }
+    });
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+
+import javax.swing.JScrollPane;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.Robot;
+import org.fest.swing.edt.FailOnThreadViolationRepaintManager;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.swing.TestWindow;
+import org.fest.swing.util.Pair;
+
+import static java.lang.String.valueOf;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.TestGroups.*;
+import static org.fest.util.Strings.concat;
+
+/**
+ * Tests for <code>{@link JTreeScrollToPathTask}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test(groups = { GUI, ACTION })
+public class JTreeScrollToPathTaskTest {
+
+  private Robot robot;
+  private MyWindow window;
+
+  @BeforeClass public void setUpOnce() {
+    FailOnThreadViolationRepaintManager.install();
+  }
+
+  @BeforeMethod public void setUp() {
+    robot = robotWithNewAwtHierarchy();
+    window = MyWindow.createNew();
+    robot.showWindow(window);
+  }
+
+  @AfterMethod public void tearDown() {
+    robot.cleanUp();
+  }
+
+  public void shouldMakeVisibleAndScrollToMatchingPathInOneAction() {
+    Pair<TreePath, Rectangle> scrollInfo =
+      JTreeScrollToPathTask.scrollToMatchingPath(window.tree, "root/branch/node/leaf", new JTreePathFinder(),
+          new JTreeLocation());
+    robot.waitForIdle();
+    assertThat(scrollInfo.i.getLastPathComponent()).isSameAs(window.leaf);
+    assertThat(scrollInfo.ii).isEqualTo(pathBoundsOf(window.tree, scrollInfo.i));
+    assertThat(visibleRectOf(window.tree).contains(scrollInfo.ii)).isTrue();
+  }
+
+  public void shouldScrollToRow() {
+    int lastRow = expandAllAndReturnLastRow(window.tree);
+    robot.waitForIdle();
+    Rectangle rowBounds = JTreeScrollToPathTask.scrollToRow(window.tree, lastRow, new JTreeLocation());
+    robot.waitForIdle();
+    assertThat(visibleRectOf(window.tree).contains(rowBounds)).isTrue();
+  }
+
+  @Test(groups = { GUI, ACTION }, expectedExceptions = IndexOutOfBoundsException.class)
+  public void shouldThrowErrorIfRowIsOutOfBounds() {
+    JTreeScrollToPathTask.scrollToRow(window.tree, 100, new JTreeLocation());
+  }
+
+  @RunsInEDT
+  private static Rectangle pathBoundsOf(final JTree tree, final TreePath path) {
+    return execute(new GuiQuery<Rectangle>() {
+      protected Rectangle executeInEDT() {
+        return tree.getPathBounds(path);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static Rectangle visibleRectOf(final JTree tree) {
+    return execute(new GuiQuery<Rectangle>() {
+      protected Rectangle executeInEDT() {
+        return tree.getVisibleRect();
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static int expandAllAndReturnLastRow(final JTree tree) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        for (int row = 0; row < tree.getRowCount(); row++) tree.expandRow(row);
+        return tree.getRowCount() - 1;
+      }
+    });
+  }
+
+  private static class MyWindow extends TestWindow {
+    private static final long serialVersionUID = 1L;
+
+    final DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    final DefaultMutableTreeNode leaf = new DefaultMutableTreeNode("leaf");
+    final JTree tree;
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(JTreeScrollToPathTaskTest.class);
+      for (int i = 0; i < 20; i++) root.add(new DefaultMutableTreeNode(concat("item", valueOf(i))));
+      DefaultMutableTreeNode branch = new DefaultMutableTreeNode("branch");
+      DefaultMutableTreeNode node = new DefaultMutableTreeNode("node");
+      root.add(branch);
+      branch.add(node);
+      node.add(leaf);
+      tree = new JTree(root);
+      JScrollPane scrollPane = new JScrollPane(tree);
+      scrollPane.setPreferredSize(new Dimension(200, 80));
+      addComponents(scrollPane);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Created on Oct 19, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import javax.swing.DefaultListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.table.DefaultTableModel;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests for <code>{@link WeakModelListener}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class WeakModelListenerTest {
+
+  private DefaultListModel model;
+  private UnderlyingListener underlying;
+  private WeakModelListener listener;
+
+  @BeforeMethod public void setUp() {
+    model = new DefaultListModel();
+    underlying = new UnderlyingListener();
+    listener = new WeakModelListener(underlying);
+  }
+
+  public void shouldWrapListener() {
+    assertThat(listener.underlyingListener()).isSameAs(underlying);
+  }
+
+  public void shouldDispatchEventsToWrappedListener() {
+    listener.listenTo(model);
+    model.addElement("one");
+    assertThat(underlying.dispatchedEvent.getSource()).isSameAs(model);
+  }
+
+  public void shouldNotListenToModelIfWrappedListenerCannotHandleItsEvents() {
+    DefaultTableModel tableModel = new DefaultTableModel();
+    int listenerCount = tableModel.getTableModelListeners().length;
+    listener.listenTo(tableModel);
+    assertThat(tableModel.getTableModelListeners()).hasSize(listenerCount);
+  }
+
+  public void shouldStopListeningToModel() {
+    listener.listenTo(model);
+    listener.stopListeningTo(model);
+    assertThat(model.getListDataListeners()).isEmpty();
+  }
+
+  public void shouldRemoveItselfFromModelIfWrappedListenerIsGarbageCollected() {
+    listener.listenTo(model);
+    listener.simulateUnderlyingListenerIsGarbageCollected();
+    model.addElement("one");
+    assertThat(underlying.dispatchedEvent).isNull();
+    assertThat(model.getListDataListeners()).isEmpty();
+  }
+
+  private static class UnderlyingListener implements ListDataListener {
+    ListDataEvent dispatchedEvent;
+
+    UnderlyingListener() {}
+
+    public void contentsChanged(ListDataEvent e) { dispatchedEvent = e; }
+    public void intervalAdded(ListDataEvent e) { dispatchedEvent = e; }
+    public void intervalRemoved(ListDataEvent e) { dispatchedEvent = e; }
+  }
+}
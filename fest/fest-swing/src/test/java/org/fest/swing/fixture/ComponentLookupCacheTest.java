@@ -0,0 +1,134 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.fixture;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+/**
+ * Tests for <code>{@link ComponentLookupCache}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class ComponentLookupCacheTest {
+
+  private JPanel panel;
+  private JButton button;
+  private int listenerCount;
+  private ComponentLookupCache cache;
+
+  @BeforeMethod public void setUp() {
+    panel = newPanel();
+    button = execute(new GuiQuery<JButton>() {
+      protected JButton executeInEDT() {
+        return (JButton)panel.getComponent(0);
+      }
+    });
+    listenerCount = hierarchyListenerCountOf(button);
+    cache = new ComponentLookupCache(panel);
+  }
+
+  @RunsInEDT
+  private static JPanel newPanel() {
+    return execute(new GuiQuery<JPanel>() {
+      protected JPanel executeInEDT() {
+        JPanel panel = new JPanel();
+        JButton button = new JButton("OK");
+        button.setName("ok");
+        panel.add(button);
+        return panel;
+      }
+    });
+  }
+
+  public void shouldReturnNullIfComponentNotCached() {
+    assertThat(cache.byName("ok", JButton.class, false)).isNull();
+  }
+
+  public void shouldReturnComponentCachedByName() {
+    cache.cacheByName("ok", JButton.class, button);
+    assertThat(cache.byName("ok", JButton.class, false)).isSameAs(button);
+    assertThat(cache.byType(JButton.class, false)).isNull();
+  }
+
+  public void shouldReturnComponentCachedByType() {
+    cache.cacheByType(JButton.class, button);
+    assertThat(cache.byType(JButton.class, false)).isSameAs(button);
+  }
+
+  public void shouldRegisterOneListenerPerCachedLookup() {
+    cache.cacheByName("ok", JButton.class, button);
+    cache.cacheByName("ok", JButton.class, button);
+    assertThat(hierarchyListenerCountOf(button)).isEqualTo(listenerCount + 1);
+  }
+
+  public void shouldNotReturnCachedComponentIfNotShowingAndShowingIsRequired() {
+    cache.cacheByName("ok", JButton.class, button);
+    assertThat(cache.byName("ok", JButton.class, true)).isNull();
+  }
+
+  public void shouldNotReturnCachedComponentIfNameChanged() {
+    cache.cacheByName("ok", JButton.class, button);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        button.setName("cancel");
+      }
+    });
+    assertThat(cache.byName("ok", JButton.class, false)).isNull();
+  }
+
+  public void shouldDiscardCachedComponentWhenRemovedFromParent() {
+    cache.cacheByName("ok", JButton.class, button);
+    execute(new GuiTask() {
+      protected void executeInEDT() {
+        panel.remove(button);
+        panel.add(button);
+      }
+    });
+    assertThat(cache.byName("ok", JButton.class, false)).isNull();
+  }
+
+  public void shouldDiscardCachedComponentsWhenCleared() {
+    cache.cacheByName("ok", JButton.class, button);
+    cache.clear();
+    assertThat(cache.byName("ok", JButton.class, false)).isNull();
+    assertThat(hierarchyListenerCountOf(button)).isEqualTo(listenerCount);
+  }
+
+  public void shouldStopListeningToComponentNotValidAnymore() {
+    cache.cacheByName("ok", JButton.class, button);
+    assertThat(cache.byName("ok", JButton.class, true)).isNull();
+    assertThat(hierarchyListenerCountOf(button)).isEqualTo(listenerCount);
+  }
+
+  @RunsInEDT
+  private static int hierarchyListenerCountOf(final JButton button) {
+    return execute(new GuiQuery<Integer>() {
+      protected Integer executeInEDT() {
+        return button.getHierarchyListeners().length;
+      }
+    });
+  }
+}
@@ -32,6 +32,7 @@ import static org.easymock.classextension.EasyMock.createMock;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.test.builder.JLists.list;
 import static org.fest.swing.test.builder.JPopupMenus.popupMenu;
 import static org.fest.swing.util.Range.*;
@@ -364,6 +365,19 @@ public class JListFixtureTest extends CommonComponentFixtureTestCase<JList> {
     }.run();
   }
 
+  @Test public void shouldSetSelectionStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.selectionStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.selectionStrategy(MODEL));
+      }
+    }.run();
+  }
+
   ComponentDriver driver() { return driver; }
   JList target() { return target; }
   JListFixture fixture() { return fixture; }
@@ -55,6 +55,11 @@ public class JPanelFixtureTest extends CommonComponentFixtureTestCase<JPanel> {
     assertThat(fixture).isInstanceOf(ContainerFixture.class);
   }
 
+  @Test public void shouldReturnItselfWhenEnablingOrDisablingCachingOfComponentLookups() {
+    assertThat(fixture.cacheComponentLookups(true)).isSameAs(fixture);
+    assertThat(fixture.cacheComponentLookups(false)).isSameAs(fixture);
+  }
+
   ComponentDriver driver() { return driver; }
   JPanel target() { return target; }
   JPanelFixture fixture() { return fixture; }
@@ -26,6 +26,7 @@ import org.fest.swing.driver.JScrollBarDriver;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.classextension.EasyMock.createMock;
 
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.test.builder.JScrollBars.scrollBar;
 
 /**
@@ -208,6 +209,19 @@ public class JScrollBarFixtureTest extends CommonComponentFixtureTestCase<JScrol
     }.run();
   }
 
+  public void shouldSetAdjustmentStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.adjustmentStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.adjustmentStrategy(MODEL));
+      }
+    }.run();
+  }
+
   ComponentDriver driver() { return driver; }
   JScrollBar target() { return target; }
   JScrollBarFixture fixture() { return fixture; }
@@ -26,6 +26,7 @@ import org.fest.swing.driver.JSliderDriver;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.classextension.EasyMock.createMock;
 
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.test.builder.JSliders.slider;
 
 /**
@@ -91,6 +92,19 @@ public class JSliderFixtureTest extends CommonComponentFixtureTestCase<JSlider>
     }.run();
   }
 
+  public void shouldSetAdjustmentStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.adjustmentStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.adjustmentStrategy(MODEL));
+      }
+    }.run();
+  }
+
   ComponentDriver driver() { return driver; }
   JSlider target() { return target; }
   JSliderFixture fixture() { return fixture; }
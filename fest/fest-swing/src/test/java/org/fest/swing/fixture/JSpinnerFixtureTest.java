@@ -26,6 +26,7 @@ import org.fest.swing.driver.JSpinnerDriver;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.classextension.EasyMock.createMock;
 
+import static org.fest.swing.driver.AdjustmentStrategy.MODEL;
 import static org.fest.swing.test.builder.JSpinners.spinner;
 
 /**
@@ -157,6 +158,19 @@ import static org.fest.swing.test.builder.JSpinners.spinner;
     }.run();
   }
 
+  public void shouldSetAdjustmentStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.adjustmentStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.adjustmentStrategy(MODEL));
+      }
+    }.run();
+  }
+
   ComponentDriver driver() { return driver; }
   JSpinner target() { return target; }
   JSpinnerFixture fixture() { return fixture; }
@@ -18,6 +18,8 @@ package org.fest.swing.fixture;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Point;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.swing.JPopupMenu;
 import javax.swing.JTable;
@@ -45,6 +47,7 @@ import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
 import static org.fest.swing.core.MouseClickInfo.leftButton;
 import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.test.builder.JPopupMenus.popupMenu;
 import static org.fest.swing.test.builder.JTableHeaders.tableHeader;
@@ -337,6 +340,19 @@ public class JTableFixtureTest extends CommonComponentFixtureTestCase<JTable> {
     }.run();
   }
 
+  public void shouldSetSelectionStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.selectionStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.selectionStrategy(MODEL));
+      }
+    }.run();
+  }
+
   public void shouldReturnCellFont() {
     final Font font = new Font("SansSerif", PLAIN, 8);
     new EasyMockTemplate(driver) {
@@ -439,6 +455,21 @@ public class JTableFixtureTest extends CommonComponentFixtureTestCase<JTable> {
     }.run();
   }
 
+  public void shouldEnterValues() {
+    final Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(cell, "Hello");
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.enterValues(target, values);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.enterValues(values));
+      }
+    }.run();
+  }
+
   public void shouldReturnCell() {
     new EasyMockTemplate(driver) {
       protected void expectations() {
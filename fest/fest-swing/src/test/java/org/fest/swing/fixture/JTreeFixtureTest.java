@@ -29,6 +29,7 @@ import static org.easymock.EasyMock.*;
 import static org.easymock.classextension.EasyMock.createMock;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.SelectionStrategy.MODEL;
 import static org.fest.swing.test.builder.JPopupMenus.popupMenu;
 import static org.fest.swing.test.builder.JTrees.tree;
 import static org.fest.util.Arrays.array;
@@ -305,6 +306,19 @@ public class JTreeFixtureTest extends CommonComponentFixtureTestCase<JTree> {
     }.run();
   }
 
+  @Test public void shouldSetSelectionStrategyInDriver() {
+    new EasyMockTemplate(driver) {
+      protected void expectations() {
+        driver.selectionStrategy(MODEL);
+        expectLastCall().once();
+      }
+
+      protected void codeToTest() {
+        assertThatReturnsThis(fixture.selectionStrategy(MODEL));
+      }
+    }.run();
+  }
+
   @Test public void shouldShowPopupMenuAtRow() {
     final int row = 0;
     final JPopupMenu popupMenu = popupMenu().createNew();
@@ -0,0 +1,69 @@
+/*
+ * Created on Jul 23, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+
+import org.testng.annotations.Test;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.image.ImageFingerprint.fingerprintOf;
+
+/**
+ * Tests for <code>{@link ImageFingerprint}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class ImageFingerprintTest {
+
+  public void shouldHaveSameContentIfImagesHaveSamePixels() {
+    ImageFingerprint fingerprint = fingerprintOf(checkerboard(30, 20));
+    assertThat(fingerprint.hasSameContentAs(fingerprintOf(checkerboard(30, 20)))).isTrue();
+    assertThat(fingerprint.perceptualDistanceTo(fingerprintOf(checkerboard(30, 20)))).isEqualTo(0);
+  }
+
+  public void shouldNotHaveSameContentIfOnePixelIsDifferent() {
+    BufferedImage image = checkerboard(30, 20);
+    ImageFingerprint fingerprint = fingerprintOf(image);
+    image.setRGB(29, 19, image.getRGB(29, 19) ^ 0x000001);
+    assertThat(fingerprint.hasSameContentAs(fingerprintOf(image))).isFalse();
+  }
+
+  public void shouldNotHaveSameContentIfSizesAreDifferent() {
+    assertThat(fingerprintOf(new BufferedImage(2, 3, TYPE_INT_RGB)).hasSameContentAs(
+        fingerprintOf(new BufferedImage(3, 2, TYPE_INT_RGB)))).isFalse();
+  }
+
+  public void shouldHaveSmallPerceptualDistanceIfImagesLookSimilar() {
+    BufferedImage image = checkerboard(90, 80);
+    ImageFingerprint fingerprint = fingerprintOf(image);
+    image.setRGB(45, 40, 0x808080);
+    assertThat(fingerprint.perceptualDistanceTo(fingerprintOf(image))).isLessThan(4);
+  }
+
+  public void shouldCalculateFingerprintOfImagesSmallerThanGrid() {
+    BufferedImage image = checkerboard(3, 2);
+    assertThat(fingerprintOf(image).hasSameContentAs(fingerprintOf(checkerboard(3, 2)))).isTrue();
+  }
+
+  private static BufferedImage checkerboard(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_RGB);
+    for (int x = 0; x < width; x++)
+      for (int y = 0; y < height; y++) image.setRGB(x, y, ((x / 10 + y / 10) % 2 == 0) ? 0xFFFFFF : 0x202020);
+    return image;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Created on Jul 23, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static java.awt.image.BufferedImage.*;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Threshold.threshold;
+import static org.fest.util.Files.*;
+
+/**
+ * Tests for <code>{@link ScreenshotBaselines}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class ScreenshotBaselinesTest {
+
+  private File folder;
+  private ScreenshotBaselines baselines;
+
+  @BeforeMethod public void setUp() {
+    folder = newTemporaryFolder();
+    baselines = new ScreenshotBaselines(folder);
+  }
+
+  @AfterMethod public void tearDown() {
+    delete(folder);
+  }
+
+  public void shouldSaveAndReadBaseline() {
+    BufferedImage image = image(TYPE_INT_RGB, Color.BLUE);
+    image.setRGB(3, 4, Color.RED.getRGB());
+    baselines.save("shouldShowDialog", "dialog", image);
+    assertThat(baselines.hasBaseline("shouldShowDialog", "dialog")).isTrue();
+    assertThat(baselines.baseline("shouldShowDialog", "dialog")).isEqualTo(image);
+  }
+
+  public void shouldSaveBaselinesWithNamesThatAreNotValidFileNames() {
+    BufferedImage image = image(TYPE_INT_ARGB, Color.GREEN);
+    baselines.save("my test: 1", "panel/button", image);
+    assertThat(baselines.baseline("my test: 1", "panel/button")).isEqualTo(image);
+  }
+
+  public void shouldNotMapDifferentNamesToSameBaseline() {
+    baselines.save("my test", "a b", image(TYPE_INT_ARGB, Color.GREEN));
+    assertThat(baselines.hasBaseline("my test", "a_b")).isFalse();
+    assertThat(baselines.hasBaseline("my_test", "a b")).isFalse();
+  }
+
+  public void shouldNotMapNamesDifferingOnlyInCaseToSameFile() {
+    baselines.save("myTest", "okButton", image(TYPE_INT_ARGB, Color.GREEN));
+    assertThat(new File(new File(folder, "my^test"), "ok^button.baseline").isFile()).isTrue();
+    assertThat(baselines.hasBaseline("mytest", "okbutton")).isFalse();
+  }
+
+  public void shouldIndicateThatBaselineDoesNotExist() {
+    assertThat(baselines.hasBaseline("shouldShowDialog", "dialog")).isFalse();
+  }
+
+  @Test(expectedExceptions = ImageException.class)
+  public void shouldThrowErrorIfBaselineDoesNotExist() {
+    baselines.verify("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+  }
+
+  public void shouldPassIfScreenshotHasSameFingerprintAsBaseline() {
+    baselines.save("shouldShowDialog", "dialog", image(TYPE_INT_ARGB, Color.BLUE));
+    baselines.verify("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+  }
+
+  public void shouldNotDecodeBaselineIfFingerprintsMatch() throws IOException {
+    baselines.save("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+    File baselineFile = new File(new File(folder, "should^show^dialog"), "dialog.baseline");
+    RandomAccessFile file = new RandomAccessFile(baselineFile, "rw");
+    try {
+      file.setLength(file.length() - 4);
+    } finally {
+      file.close();
+    }
+    baselines.verify("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+  }
+
+  @Test(expectedExceptions = AssertionError.class)
+  public void shouldFailIfScreenshotIsNotEqualToBaseline() {
+    baselines.save("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+    BufferedImage screenshot = image(TYPE_INT_RGB, Color.BLUE);
+    screenshot.setRGB(0, 0, Color.YELLOW.getRGB());
+    baselines.verify("shouldShowDialog", "dialog", screenshot);
+  }
+
+  public void shouldPassIfScreenshotIsEqualToBaselineUsingThreshold() {
+    baselines.save("shouldShowDialog", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+    BufferedImage screenshot = image(TYPE_INT_RGB, Color.BLUE);
+    screenshot.setRGB(0, 0, Color.YELLOW.getRGB());
+    baselines.verify("shouldShowDialog", "dialog", screenshot, threshold(0).maxDifferingPixels(1));
+  }
+
+  public void shouldReturnPerceptualDistanceToBaseline() {
+    BufferedImage image = gradient();
+    baselines.save("shouldShowDialog", "dialog", image);
+    assertThat(baselines.perceptualDistance("shouldShowDialog", "dialog", gradient())).isEqualTo(0);
+    BufferedImage mirror = new BufferedImage(64, 48, TYPE_INT_RGB);
+    for (int x = 0; x < 64; x++)
+      for (int y = 0; y < 48; y++) mirror.setRGB(63 - x, y, image.getRGB(x, y));
+    assertThat(baselines.perceptualDistance("shouldShowDialog", "dialog", mirror)).isGreaterThan(32);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfTestNameIsEmpty() {
+    baselines.hasBaseline("", "dialog");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfTestNameConsistsOfDotsOnly() {
+    baselines.save("..", "dialog", image(TYPE_INT_RGB, Color.BLUE));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfComponentNameConsistsOfDotsOnly() {
+    baselines.hasBaseline("shouldShowDialog", ".");
+  }
+
+  private static BufferedImage gradient() {
+    BufferedImage image = new BufferedImage(64, 48, TYPE_INT_RGB);
+    for (int x = 0; x < 64; x++)
+      for (int y = 0; y < 48; y++) image.setRGB(x, y, new Color(x * 4, x * 4, x * 4).getRGB());
+    return image;
+  }
+
+  private static BufferedImage image(int type, Color color) {
+    BufferedImage image = new BufferedImage(10, 8, type);
+    Graphics g = image.createGraphics();
+    g.setColor(color);
+    g.fillRect(0, 0, 10, 8);
+    g.dispose();
+    return image;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Created on Jul 16, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import java.util.Locale;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests for <code>{@link KeyStrokeMappingProviderPicker}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class KeyStrokeMappingProviderPickerTest {
+
+  private KeyStrokeMappingProviderPicker picker;
+
+  @BeforeMethod public void setUp() {
+    picker = new KeyStrokeMappingProviderPicker();
+  }
+
+  public void shouldPickProviderForLanguage() {
+    assertThat(picker.providerFor(Locale.GERMAN)).isInstanceOf(KeyStrokeMappingProvider_de.class);
+    assertThat(picker.providerFor(Locale.FRENCH)).isInstanceOf(KeyStrokeMappingProvider_fr.class);
+    assertThat(picker.providerFor(Locale.JAPANESE)).isInstanceOf(KeyStrokeMappingProvider_ja.class);
+  }
+
+  public void shouldPickProviderForLanguageIfProviderForCountryNotFound() {
+    assertThat(picker.providerFor(Locale.GERMANY)).isInstanceOf(KeyStrokeMappingProvider_de.class);
+    assertThat(picker.providerFor(Locale.CANADA_FRENCH)).isInstanceOf(KeyStrokeMappingProvider_fr.class);
+  }
+
+  public void shouldPickEnglishProviderIfLocaleNotSupported() {
+    assertThat(picker.providerFor(new Locale("xx"))).isInstanceOf(KeyStrokeMappingProvider_en.class);
+    assertThat(picker.providerFor(new Locale(""))).isInstanceOf(KeyStrokeMappingProvider_en.class);
+  }
+}
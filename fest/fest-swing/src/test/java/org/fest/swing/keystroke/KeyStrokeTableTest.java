@@ -0,0 +1,58 @@
+/*
+ * Created on Jul 16, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import javax.swing.KeyStroke;
+
+import org.testng.annotations.Test;
+
+import static java.awt.event.InputEvent.*;
+import static java.awt.event.KeyEvent.*;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.keystroke.KeyStrokeMapping.mapping;
+import static org.fest.swing.keystroke.KeyStrokeMappingProvider.NO_MASK;
+import static org.fest.util.Collections.list;
+
+/**
+ * Tests for <code>{@link KeyStrokeTable}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class KeyStrokeTableTest {
+
+  public void shouldReturnNullIfCharacterNotMapped() {
+    assertThat(KeyStrokeTable.EMPTY.keyStrokeFor('a')).isNull();
+    assertThat(KeyStrokeTable.EMPTY.characterFor(KeyStroke.getKeyStroke(VK_A, NO_MASK)) == null).isTrue();
+  }
+
+  public void shouldReturnMappedKeyStrokesAndCharacters() {
+    KeyStrokeTable table = KeyStrokeTable.EMPTY.with(list(mapping('a', VK_A, NO_MASK), mapping('\u20AC', VK_E,
+        ALT_GRAPH_MASK)));
+    assertThat(table.keyStrokeFor('a')).isEqualTo(KeyStroke.getKeyStroke(VK_A, NO_MASK));
+    assertThat(table.keyStrokeFor('\u20AC')).isEqualTo(KeyStroke.getKeyStroke(VK_E, ALT_GRAPH_MASK));
+    assertThat(table.characterFor(KeyStroke.getKeyStroke(VK_A, NO_MASK))).isEqualTo('a');
+    assertThat(table.keyStrokeFor('b')).isNull();
+  }
+
+  public void shouldNotModifyOriginalTableWhenAddingMappings() {
+    KeyStrokeTable original = KeyStrokeTable.EMPTY.with(list(mapping('a', VK_A, NO_MASK)));
+    KeyStrokeTable updated = original.with(list(mapping('A', VK_A, SHIFT_MASK), mapping('a', VK_Q, NO_MASK)));
+    assertThat(original.keyStrokeFor('a')).isEqualTo(KeyStroke.getKeyStroke(VK_A, NO_MASK));
+    assertThat(original.keyStrokeFor('A')).isNull();
+    assertThat(updated.keyStrokeFor('a')).isEqualTo(KeyStroke.getKeyStroke(VK_Q, NO_MASK));
+    assertThat(updated.keyStrokeFor('A')).isEqualTo(KeyStroke.getKeyStroke(VK_A, SHIFT_MASK));
+  }
+}
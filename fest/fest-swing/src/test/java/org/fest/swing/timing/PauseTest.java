@@ -189,6 +189,24 @@ import static org.fest.swing.timing.Timeout.timeout;
     Pause.pause(new Condition[] { new NeverSatisfiedCondition(), null }, TIMEOUT);
   }
 
+  public void shouldCleanUpConditionIfItThrowsException() {
+    FailingCondition condition = new FailingCondition();
+    try {
+      Pause.pause(condition, TIMEOUT);
+    } catch (IllegalStateException expected) {}
+    assertThat(condition.cleanedUp).isTrue();
+  }
+
+  public void shouldCleanUpConditionsIfOneOfThemThrowsException() {
+    FailingCondition first = new FailingCondition();
+    FailingCondition second = new FailingCondition();
+    try {
+      Pause.pause(new Condition[] { first, second }, TIMEOUT);
+    } catch (IllegalStateException expected) {}
+    assertThat(first.cleanedUp).isTrue();
+    assertThat(second.cleanedUp).isTrue();
+  }
+
   private Condition[] nullConditionArray() {
     return null;
   }
@@ -217,6 +235,22 @@ import static org.fest.swing.timing.Timeout.timeout;
     }
   };
   
+  private static class FailingCondition extends Condition {
+    boolean cleanedUp;
+
+    public FailingCondition() {
+      super("Failing condition");
+    }
+
+    public boolean test() {
+      throw new IllegalStateException("Thrown on purpose");
+    }
+
+    @Override protected void done() {
+      cleanedUp = true;
+    }
+  };
+
   private static class NeverSatisfiedCondition extends Condition {
     public NeverSatisfiedCondition() {
       super("Never satisfied");
@@ -0,0 +1,77 @@
+/*
+ * Created on Jul 14, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.fest.swing.test.util.StopWatch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.util.StopWatch.startNewStopWatch;
+import static org.fest.swing.timing.Pause.pause;
+
+/**
+ * Tests for <code>{@link Signal}</code>.
+ *
+ * @author Alex Ruiz
+ */
+@Test public class SignalTest {
+
+  private static final int TIMEOUT = 5000;
+
+  private Signal signal;
+
+  @BeforeMethod public void setUp() {
+    signal = new Signal();
+  }
+
+  public void shouldTimeoutIfNeverSignaled() {
+    StopWatch watch = startNewStopWatch();
+    boolean received = signal.await(500);
+    watch.stop();
+    assertThat(received).isFalse();
+    assertThat(watch.ellapsedTime()).isGreaterThanOrEqualTo(500);
+  }
+
+  public void shouldReturnImmediatelyIfSignaledBeforeWaiting() {
+    signal.signal();
+    StopWatch watch = startNewStopWatch();
+    boolean received = signal.await(TIMEOUT);
+    watch.stop();
+    assertThat(received).isTrue();
+    assertThat(watch.ellapsedTime()).isLessThan(TIMEOUT);
+  }
+
+  public void shouldConsumeSignalWhenReceived() {
+    signal.signal();
+    assertThat(signal.await(TIMEOUT)).isTrue();
+    assertThat(signal.await(10)).isFalse();
+  }
+
+  public void shouldWakeUpWaitingThreadWhenSignaled() {
+    new Thread() {
+      @Override public void run() {
+        pause(500);
+        signal.signal();
+      }
+    }.start();
+    StopWatch watch = startNewStopWatch();
+    boolean received = signal.await(TIMEOUT);
+    watch.stop();
+    assertThat(received).isTrue();
+    assertThat(watch.ellapsedTime()).isLessThan(TIMEOUT);
+  }
+}
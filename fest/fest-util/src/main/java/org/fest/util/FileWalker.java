@@ -0,0 +1,105 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static org.fest.util.Strings.concat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Understands an <code>{@link Iterator}</code> over the files (not directories) inside a directory and, optionally,
+ * its subdirectories. Directories are listed only when the iteration reaches them, so callers that stop iterating
+ * early never list the rest of the tree.
+ *
+ * @author Alex Ruiz
+ */
+final class FileWalker implements Iterator<File> {
+
+  private final boolean recurse;
+  private final GlobPattern glob;
+  private final List<Folder> pending = new ArrayList<Folder>();
+
+  private File[] files;
+  private String path;
+  private int index;
+  private File next;
+
+  /**
+   * Creates a new <code>{@link FileWalker}</code>.
+   * @param dir the directory to start the walk from.
+   * @param recurse if <code>true</code>, the walk includes the files in subdirectories.
+   * @param glob the pattern the path of each file, relative to the given directory, should match. If
+   * <code>null</code>, all files are included.
+   */
+  FileWalker(File dir, boolean recurse, GlobPattern glob) {
+    this.recurse = recurse;
+    this.glob = glob;
+    pending.add(new Folder(dir, null));
+  }
+
+  public boolean hasNext() {
+    if (next == null) next = findNext();
+    return next != null;
+  }
+
+  public File next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    File current = next;
+    next = null;
+    return current;
+  }
+
+  private File findNext() {
+    while (true) {
+      while (files != null && index < files.length) {
+        File file = files[index++];
+        if (file.isDirectory()) {
+          if (recurse) pending.add(new Folder(file, relativePath(file)));
+          continue;
+        }
+        if (glob == null || glob.matches(relativePath(file))) return file;
+      }
+      int size = pending.size();
+      if (size == 0) return null;
+      Folder folder = pending.remove(size - 1);
+      files = folder.dir.listFiles();
+      path = folder.path;
+      index = 0;
+    }
+  }
+
+  private String relativePath(File file) {
+    if (glob == null) return null;
+    return path == null ? file.getName() : concat(path, "/", file.getName());
+  }
+
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  private static class Folder {
+    final File dir;
+    final String path;
+
+    Folder(File dir, String path) {
+      this.dir = dir;
+      this.path = path;
+    }
+  }
+}
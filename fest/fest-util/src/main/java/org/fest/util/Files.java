@@ -18,13 +18,19 @@ import static java.io.File.separator;
 import static org.fest.util.Arrays.isEmpty;
 import static org.fest.util.Closeables.close;
 import static org.fest.util.Flushables.flush;
+import static org.fest.util.GlobPattern.glob;
+import static org.fest.util.ParallelFileTasks.BATCH_SIZE;
 import static org.fest.util.Strings.*;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,31 +49,33 @@ public class Files {
    * @throws IllegalArgumentException if the given directory name does not point to an existing directory.
    */
   public static List<String> fileNamesIn(String dirName, boolean recurse) {
-    File dir = new File(dirName);
-    if (!dir.isDirectory())
-      throw new IllegalArgumentException(concat(quote(dirName), " is not a directory or does not exist"));
-    return fileNamesIn(dir, recurse);
+    List<String> fileNames = new ArrayList<String>();
+    for (File file : filesIn(new File(dirName), recurse, null)) fileNames.add(file.getAbsolutePath());
+    return fileNames;
   }
 
   /**
-   * Returns the names of the files inside the specified directory.
-   * @param dir the name of the directory to start the search from.
+   * Returns the files inside the specified directory whose path, relative to such directory, matches the given glob
+   * pattern (e.g. <code>"**&#47;*.xml"</code>.) Segments of relative paths are always separated by '/', regardless of
+   * the platform. Directories are listed only when the iteration reaches them, so callers that stop iterating early
+   * never list the rest of the tree.
+   * @param dir the directory to start the search from.
    * @param recurse if <code>true</code>, we will look in subdirectories.
-   * @return the names of the files inside the specified directory.
+   * @param globPattern the pattern the relative path of each file should match. If <code>null</code>, all files are
+   * returned.
+   * @return the files inside the specified directory, not including directories.
+   * @throws IllegalArgumentException if the given directory does not exist or is not a directory.
+   * @throws IllegalArgumentException if the given glob pattern is not valid.
    */
-  private static List<String> fileNamesIn(File dir, boolean recurse) {
-    List<String> scriptNames = new ArrayList<String>();
-    File[] existingFiles = dir.listFiles();
-    if (isEmpty(existingFiles)) return scriptNames;
-    for (File existingFile : existingFiles) {
-      if (existingFile.isDirectory()) {
-        if (recurse) scriptNames.addAll(fileNamesIn(existingFile, recurse));
-        continue;
+  public static Iterable<File> filesIn(final File dir, final boolean recurse, String globPattern) {
+    if (!dir.isDirectory())
+      throw new IllegalArgumentException(concat(quote(dir.getPath()), " is not a directory or does not exist"));
+    final GlobPattern glob = globPattern != null ? glob(globPattern) : null;
+    return new Iterable<File>() {
+      public Iterator<File> iterator() {
+        return new FileWalker(dir, recurse, glob);
       }
-      String filename = existingFile.getAbsolutePath();
-      if (!scriptNames.contains(filename)) scriptNames.add(filename);
-    }
-    return scriptNames;
+    };
   }
 
   /**
@@ -218,5 +226,165 @@ public class Files {
     file.delete();
   }
 
+  /**
+   * Deletes the given file or directory, deleting the files inside the directory and its subdirectories in parallel,
+   * using at most the given number of threads. Directories are deleted once all their contents have been deleted.
+   * @param file the file or directory to delete.
+   * @param threads the maximum number of threads to use.
+   * @throws IllegalArgumentException if the given number of threads is less than one.
+   * @throws FilesException if the calling thread is interrupted while waiting for the deletions to complete.
+   */
+  public static void delete(File file, int threads) {
+    ParallelFileTasks tasks = new ParallelFileTasks(threads);
+    if (!file.isDirectory()) {
+      tasks.shutdown();
+      file.delete();
+      return;
+    }
+    List<File> folders = new ArrayList<File>();
+    folders.add(file);
+    try {
+      for (int i = 0; i < folders.size(); i++) {
+        File[] children = folders.get(i).listFiles();
+        if (isEmpty(children)) continue;
+        List<File> batch = new ArrayList<File>();
+        for (File child : children) {
+          if (child.isDirectory()) {
+            folders.add(child);
+            continue;
+          }
+          batch.add(child);
+          if (batch.size() < BATCH_SIZE) continue;
+          tasks.submit(deletion(batch));
+          batch = new ArrayList<File>();
+        }
+        if (!batch.isEmpty()) tasks.submit(deletion(batch));
+      }
+      tasks.awaitCompletion();
+    } finally {
+      tasks.shutdown();
+    }
+    // folders are listed parents first
+    for (int i = folders.size() - 1; i >= 0; i--) folders.get(i).delete();
+  }
+
+  private static Runnable deletion(final List<File> files) {
+    return new Runnable() {
+      public void run() {
+        for (File f : files) f.delete();
+      }
+    };
+  }
+
+  /**
+   * Copies the given file or directory. If the source is a directory, its contents are copied recursively.
+   * @param source the file or directory to copy.
+   * @param target the path of the copy.
+   * @throws IllegalArgumentException if the source does not exist.
+   * @throws FilesException if the target is the source, or is inside the source.
+   * @throws FilesException if any I/O error occurs while copying.
+   */
+  public static void copy(File source, File target) {
+    copy(source, target, 1);
+  }
+
+  /**
+   * Copies the given file or directory, copying the files inside the directory and its subdirectories in parallel,
+   * using at most the given number of threads. Directories are created before any of their files is copied.
+   * @param source the file or directory to copy.
+   * @param target the path of the copy.
+   * @param threads the maximum number of threads to use.
+   * @throws IllegalArgumentException if the source does not exist.
+   * @throws IllegalArgumentException if the given number of threads is less than one.
+   * @throws FilesException if the target is the source, or is inside the source.
+   * @throws FilesException if any I/O error occurs while copying.
+   */
+  public static void copy(File source, File target, int threads) {
+    if (!source.exists()) throw new IllegalArgumentException(concat(quote(source.getPath()), " does not exist"));
+    validateIsNotInside(target, source);
+    ParallelFileTasks tasks = new ParallelFileTasks(threads);
+    if (!source.isDirectory()) {
+      tasks.shutdown();
+      createFolder(target.getAbsoluteFile().getParentFile());
+      copyFile(source, target);
+      return;
+    }
+    List<File> sources = new ArrayList<File>();
+    List<File> targets = new ArrayList<File>();
+    sources.add(source);
+    targets.add(target);
+    try {
+      for (int i = 0; i < sources.size(); i++) {
+        File targetFolder = targets.get(i);
+        createFolder(targetFolder);
+        File[] children = sources.get(i).listFiles();
+        if (isEmpty(children)) continue;
+        List<File> batch = new ArrayList<File>();
+        for (File child : children) {
+          if (child.isDirectory()) {
+            sources.add(child);
+            targets.add(new File(targetFolder, child.getName()));
+            continue;
+          }
+          batch.add(child);
+          if (batch.size() < BATCH_SIZE) continue;
+          tasks.submit(copying(batch, targetFolder));
+          batch = new ArrayList<File>();
+        }
+        if (!batch.isEmpty()) tasks.submit(copying(batch, targetFolder));
+      }
+      tasks.awaitCompletion();
+    } finally {
+      tasks.shutdown();
+    }
+  }
+
+  private static void validateIsNotInside(File target, File source) {
+    File canonicalSource = canonical(source);
+    for (File f = canonical(target); f != null; f = f.getParentFile())
+      if (f.equals(canonicalSource))
+        throw new FilesException(concat(
+            "Unable to copy ", quote(source.getPath()), " to ", quote(target.getPath()), ", which is inside it"));
+  }
+
+  private static File canonical(File file) {
+    try {
+      return file.getCanonicalFile();
+    } catch (IOException e) {
+      throw new FilesException(concat("Unable to resolve the path ", quote(file.getPath())), e);
+    }
+  }
+
+  private static void createFolder(File folder) {
+    if (folder == null || folder.isDirectory() || folder.mkdirs()) return;
+    throw new FilesException(concat("Unable to create the folder ", quote(folder.getPath())));
+  }
+
+  private static Runnable copying(final List<File> files, final File targetFolder) {
+    return new Runnable() {
+      public void run() {
+        for (File f : files) copyFile(f, new File(targetFolder, f.getName()));
+      }
+    };
+  }
+
+  private static void copyFile(File source, File target) {
+    FileInputStream in = null;
+    FileOutputStream out = null;
+    try {
+      in = new FileInputStream(source);
+      out = new FileOutputStream(target);
+      FileChannel inChannel = in.getChannel();
+      FileChannel outChannel = out.getChannel();
+      long size = inChannel.size();
+      long position = 0;
+      while (position < size) position += inChannel.transferTo(position, size - position, outChannel);
+    } catch (IOException e) {
+      throw new FilesException(concat("Unable to copy ", quote(source.getPath()), " to ", quote(target.getPath())), e);
+    } finally {
+      close(in, out);
+    }
+  }
+
   private Files() {}
 }
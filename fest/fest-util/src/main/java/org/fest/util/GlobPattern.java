@@ -0,0 +1,131 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static org.fest.util.Strings.*;
+
+import java.util.regex.Pattern;
+
+/**
+ * Understands a glob pattern that matches relative paths, whose segments are separated by '/'. Supported wildcards:
+ * <ul>
+ * <li><code>*</code> matches zero or more characters in a single segment</li>
+ * <li><code>**</code> matches zero or more characters across segments (<code>**&#47;</code> matches zero or more
+ * complete segments)</li>
+ * <li><code>?</code> matches exactly one character in a single segment</li>
+ * <li><code>[abc]</code>, <code>[a-z]</code> and <code>[!abc]</code> match one character in (or not in) the given
+ * set, in a single segment. Sets should not be empty</li>
+ * <li><code>{xml,txt}</code> matches any of the comma-separated alternatives</li>
+ * </ul>
+ * Any other character matches itself. The pattern is compiled only once, when this object is created.
+ *
+ * @author Alex Ruiz
+ */
+final class GlobPattern {
+
+  private final String glob;
+  private final Pattern pattern;
+
+  static GlobPattern glob(String glob) {
+    if (glob == null) throw new IllegalArgumentException("The glob pattern should not be null");
+    return new GlobPattern(glob);
+  }
+
+  private GlobPattern(String glob) {
+    this.glob = glob;
+    pattern = Pattern.compile(toRegex(glob));
+  }
+
+  private static String toRegex(String glob) {
+    StringBuilder regex = new StringBuilder();
+    int length = glob.length();
+    boolean inAlternatives = false;
+    for (int i = 0; i < length; i++) {
+      char c = glob.charAt(i);
+      switch (c) {
+        case '*':
+          if (i + 1 < length && glob.charAt(i + 1) == '*') {
+            i++;
+            if (i + 1 < length && glob.charAt(i + 1) == '/') {
+              i++;
+              regex.append("(?:.*/)?");
+              continue;
+            }
+            regex.append(".*");
+            continue;
+          }
+          regex.append("[^/]*");
+          continue;
+        case '?':
+          regex.append("[^/]");
+          continue;
+        case '[':
+          int end = glob.indexOf(']', i + 1);
+          if (end < 0) throw invalidGlob(glob, "unclosed character set");
+          int start = i + 1;
+          boolean negated = start < end && glob.charAt(start) == '!';
+          if (negated) start++;
+          if (start == end) throw invalidGlob(glob, "empty character set");
+          // sets match one character in a single segment, so they never match '/'
+          regex.append(negated ? "[^/" : "(?!/)[");
+          for (int j = start; j < end; j++) {
+            char setChar = glob.charAt(j);
+            if (setChar == '\\' || setChar == '[' || setChar == '&' || setChar == '^') regex.append('\\');
+            else if (setChar == '-' && j == start) regex.append('\\');
+            regex.append(setChar);
+          }
+          regex.append(']');
+          i = end;
+          continue;
+        case '{':
+          if (inAlternatives) throw invalidGlob(glob, "nested alternatives are not supported");
+          inAlternatives = true;
+          regex.append("(?:");
+          continue;
+        case '}':
+          if (!inAlternatives) break;
+          inAlternatives = false;
+          regex.append(')');
+          continue;
+        case ',':
+          if (!inAlternatives) break;
+          regex.append('|');
+          continue;
+        default:
+      }
+      if ("\\.^$+()|{}[]".indexOf(c) >= 0) regex.append('\\');
+      regex.append(c);
+    }
+    if (inAlternatives) throw invalidGlob(glob, "unclosed alternatives");
+    return regex.toString();
+  }
+
+  private static IllegalArgumentException invalidGlob(String glob, String reason) {
+    return new IllegalArgumentException(concat("The glob pattern ", quote(glob), " is not valid: ", reason));
+  }
+
+  /**
+   * Indicates whether the given relative path matches this pattern.
+   * @param path the relative path to match, whose segments are separated by '/'.
+   * @return <code>true</code> if the given path matches this pattern, <code>false</code> otherwise.
+   */
+  boolean matches(String path) {
+    return pattern.matcher(path).matches();
+  }
+
+  @Override public String toString() {
+    return glob;
+  }
+}
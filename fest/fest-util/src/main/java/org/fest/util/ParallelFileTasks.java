@@ -0,0 +1,94 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.fest.util.Strings.concat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Understands execution of file operations on a bounded pool of threads. If the pool has a single thread, operations
+ * are executed in the calling thread, as soon as they are submitted.
+ *
+ * @author Alex Ruiz
+ */
+final class ParallelFileTasks {
+
+  /** Number of files each submitted operation works on. */
+  static final int BATCH_SIZE = 256;
+
+  private static final ThreadFactory DAEMON_THREADS = new ThreadFactory() {
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, "fest-files");
+      t.setDaemon(true);
+      return t;
+    }
+  };
+
+  private final ExecutorService executor;
+  private final List<Future<?>> submitted = new ArrayList<Future<?>>();
+
+  /**
+   * Creates a new <code>{@link ParallelFileTasks}</code>.
+   * @param threads the maximum number of threads to use.
+   * @throws IllegalArgumentException if the given number of threads is less than one.
+   */
+  ParallelFileTasks(int threads) {
+    if (threads < 1)
+      throw new IllegalArgumentException(
+          concat("The number of threads should be greater than zero, but was:<", threads, ">"));
+    executor = threads > 1 ? newFixedThreadPool(threads, DAEMON_THREADS) : null;
+  }
+
+  void submit(Runnable task) {
+    if (executor == null) {
+      task.run();
+      return;
+    }
+    submitted.add(executor.submit(task));
+  }
+
+  /**
+   * Waits for all the submitted operations to finish.
+   * @throws RuntimeException the first exception thrown by a submitted operation, if any.
+   * @throws FilesException if the calling thread is interrupted while waiting.
+   */
+  void awaitCompletion() {
+    try {
+      for (Future<?> task : submitted) task.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+      if (cause instanceof Error) throw (Error)cause;
+      throw new FilesException("Unable to complete file operation", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FilesException("Interrupted while waiting for file operations to complete", e);
+    }
+  }
+
+  /**
+   * Shuts down the pool of threads, cancelling any pending operation.
+   */
+  void shutdown() {
+    if (executor != null) executor.shutdownNow();
+  }
+}
@@ -17,7 +17,9 @@ package org.fest.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Understands filtering elements of a collection by their data type.
@@ -59,4 +61,49 @@ public class TypeFilter<T> implements CollectionFilter<T> {
     }
     return (List<T>)filtered;
   }
+
+  /**
+   * Returns a view of the elements in the given collection that are of the type specified in this filter. The view
+   * copies nothing: the given collection is filtered while the view is iterated, so iterations reflect the current
+   * contents of the collection, and stop as soon as the caller stops iterating.
+   * @param target the collection to filter.
+   * @return a view of the filtered elements.
+   * @throws IllegalArgumentException if the given collection is <code>null</code>.
+   */
+  public Iterable<T> view(final Collection<?> target) {
+    if (target == null) throw new IllegalArgumentException("The collection to filter should not be null");
+    return new Iterable<T>() {
+      public Iterator<T> iterator() {
+        return new FilteringIterator(target.iterator());
+      }
+    };
+  }
+
+  private class FilteringIterator implements Iterator<T> {
+    private final Iterator<?> target;
+    private T next;
+
+    FilteringIterator(Iterator<?> target) {
+      this.target = target;
+    }
+
+    public boolean hasNext() {
+      while (next == null && target.hasNext()) {
+        Object o = target.next();
+        if (o != null && type.isAssignableFrom(o.getClass())) next = type.cast(o);
+      }
+      return next != null;
+    }
+
+    public T next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      T current = next;
+      next = null;
+      return current;
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
@@ -0,0 +1,144 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static java.util.Collections.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Understands an index of the elements of a collection, partitioned by their type. The collection is traversed only
+ * once, when the index is created: filtering the indexed elements by type checks each distinct type of element only
+ * once, instead of checking every element, and the result of each filtering is cached. This makes filtering the same
+ * heterogeneous collection by many types much faster than using a <code>{@link TypeFilter}</code> per type.
+ * <p>
+ * The index is a snapshot: changes to the collection after the index was created are not reflected by it.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class TypeIndex {
+
+  private final Map<Class<?>, Partition> partitions = new LinkedHashMap<Class<?>, Partition>();
+  private final Map<Class<?>, List<?>> filtered = new HashMap<Class<?>, List<?>>();
+
+  /**
+   * Creates a new <code>{@link TypeIndex}</code> containing the non-<code>null</code> elements of the given
+   * collection.
+   * @param target the collection to index.
+   * @return the created index.
+   * @throws IllegalArgumentException if the given collection is <code>null</code>.
+   */
+  public static TypeIndex typeIndexOf(Collection<?> target) {
+    if (target == null) throw new IllegalArgumentException("The collection to index should not be null");
+    return new TypeIndex(target);
+  }
+
+  private TypeIndex(Collection<?> target) {
+    int position = 0;
+    for (Object o : target) {
+      if (o != null) partitionFor(o.getClass()).add(o, position);
+      position++;
+    }
+  }
+
+  private Partition partitionFor(Class<?> type) {
+    Partition partition = partitions.get(type);
+    if (partition != null) return partition;
+    partition = new Partition();
+    partitions.put(type, partition);
+    return partition;
+  }
+
+  /**
+   * Returns the indexed elements that are of the given type, in the order they had in the indexed collection. This is
+   * the same list <code>{@link TypeFilter#filter(Collection)}</code> returns for the indexed collection.
+   * @param <T> the generic type of the given type.
+   * @param type the type of the elements to return.
+   * @return an unmodifiable list containing the indexed elements of the given type.
+   * @throws IllegalArgumentException if the given type is <code>null</code>.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> List<T> elementsOf(Class<T> type) {
+    if (type == null) throw new IllegalArgumentException("The type to filter by should not be null");
+    List<?> elements = filtered.get(type);
+    if (elements == null) {
+      elements = unmodifiableList(collect(type));
+      filtered.put(type, elements);
+    }
+    return (List<T>)elements;
+  }
+
+  private List<Object> collect(Class<?> type) {
+    List<Partition> matching = new ArrayList<Partition>();
+    for (Map.Entry<Class<?>, Partition> entry : partitions.entrySet())
+      if (type.isAssignableFrom(entry.getKey())) matching.add(entry.getValue());
+    if (matching.isEmpty()) return emptyList();
+    if (matching.size() == 1) return matching.get(0).elements;
+    return merge(matching);
+  }
+
+  // merges the partitions back in the order of the indexed collection
+  private static List<Object> merge(List<Partition> partitions) {
+    int count = partitions.size();
+    int total = 0;
+    for (Partition partition : partitions) total += partition.elements.size();
+    List<Object> merged = new ArrayList<Object>(total);
+    int[] next = new int[count];
+    while (merged.size() < total) {
+      int selected = -1;
+      int lowest = Integer.MAX_VALUE;
+      for (int i = 0; i < count; i++) {
+        Partition partition = partitions.get(i);
+        if (next[i] == partition.elements.size()) continue;
+        int position = partition.positions[next[i]];
+        if (position >= lowest) continue;
+        lowest = position;
+        selected = i;
+      }
+      merged.add(partitions.get(selected).elements.get(next[selected]++));
+    }
+    return merged;
+  }
+
+  /**
+   * Returns the number of distinct types of the indexed elements.
+   * @return the number of distinct types of the indexed elements.
+   */
+  public int typeCount() {
+    return partitions.size();
+  }
+
+  private static class Partition {
+    final List<Object> elements = new ArrayList<Object>();
+    int[] positions = new int[8];
+
+    void add(Object element, int position) {
+      int size = elements.size();
+      if (size == positions.length) {
+        int[] newPositions = new int[size * 2];
+        System.arraycopy(positions, 0, newPositions, 0, size);
+        positions = newPositions;
+      }
+      positions[size] = position;
+      elements.add(element);
+    }
+  }
+}
@@ -21,7 +21,10 @@ import static org.fest.util.Strings.*;
 import static org.testng.Assert.*;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -73,6 +76,32 @@ public class FilesTest {
     assertContainsFiles(Files.fileNamesIn(path, true), list("file_1_1", "file_1_2", "file_1_1_1"));
   }
 
+  @Test public void shouldReturnFilesMatchingGlobPatternInGivenDirectoryAndItsSubdirectories() {
+    assertContainsFiles(namesOf(Files.filesIn(new File("root"), true, "dir_1/**/*_1")), list("file_1_1", "file_1_1_1"));
+    assertContainsFiles(namesOf(Files.filesIn(new File("root"), true, "{dir_1,dir_2}/file_?_2")),
+        list("file_1_2", "file_2_2"));
+  }
+
+  @Test public void shouldReturnFilesMatchingGlobPatternWithoutLookingInSubdirectories() {
+    assertContainsFiles(namesOf(Files.filesIn(new File("root", "dir_2"), false, "*_[13]")), list("file_2_1", "file_2_3"));
+  }
+
+  @Test public void shouldReturnAllFilesIfGlobPatternIsNull() {
+    assertContainsFiles(namesOf(Files.filesIn(new File("root", "dir_1"), true, null)),
+        list("file_1_1", "file_1_2", "file_1_1_1"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowExceptionWhenGettingFilesInNotExistingDirectory() {
+    Files.filesIn(new File("root", "not_existing_dir"), true, null);
+  }
+
+  private List<String> namesOf(Iterable<File> files) {
+    List<String> names = new ArrayList<String>();
+    for (File file : files) names.add(file.getAbsolutePath());
+    return names;
+  }
+
   private void assertContainsFiles(List<String> actualFiles, List<String> expectedFiles) {
     assertNoDuplicates(actualFiles);
     for (String fileName : actualFiles) {
@@ -154,4 +183,105 @@ public class FilesTest {
     Files.delete(dir3.dir());
     assertFalse(new File(path).exists());
   }
+
+  @Test public void shouldDeleteFolderInParallel() throws IOException {
+    FolderFixture dir4 = new FolderFixture("dir_4");
+    addFiles(dir4, ParallelFileTasks.BATCH_SIZE + 10);
+    addFiles(dir4.addFolder("dir_4_1"), 5);
+    addFiles(dir4.addFolder("dir_4_2").addFolder("dir_4_2_1"), 5);
+    String path = dir4.dir().getCanonicalPath();
+    Files.delete(dir4.dir(), 4);
+    assertFalse(new File(path).exists());
+  }
+
+  private void addFiles(FolderFixture folder, int count) throws IOException {
+    for (int i = 0; i < count; i++) folder.addFiles(concat("file_", i));
+  }
+
+  @Test public void shouldCopyFolderInParallel() throws IOException {
+    File source = new File("dir_5");
+    File target = new File("dir_5_copy");
+    try {
+      for (int i = 0; i < ParallelFileTasks.BATCH_SIZE + 10; i++) write(new File(source, concat("file_", i)), i);
+      write(new File(source, join("dir_5_1", "dir_5_1_1", "file").with(separator)), 8);
+      new File(source, "empty_dir").mkdirs();
+      Files.copy(source, target, 4);
+      for (int i = 0; i < ParallelFileTasks.BATCH_SIZE + 10; i++)
+        assertEquals(read(new File(target, concat("file_", i))), i);
+      assertEquals(read(new File(target, join("dir_5_1", "dir_5_1_1", "file").with(separator))), 8);
+      assertTrue(new File(target, "empty_dir").isDirectory());
+    } finally {
+      Files.delete(source);
+      Files.delete(target);
+    }
+  }
+
+  @Test public void shouldCopyFile() throws IOException {
+    File source = new File("file_6");
+    File target = new File(join("dir_6", "file_6_copy").with(separator));
+    try {
+      write(source, 6);
+      Files.copy(source, target);
+      assertEquals(read(target), 6);
+    } finally {
+      Files.delete(source);
+      Files.delete(target.getParentFile());
+    }
+  }
+
+  private void write(File file, int content) throws IOException {
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      for (int i = 0; i < content; i++) out.write(content);
+    } finally {
+      out.close();
+    }
+  }
+
+  private int read(File file) throws IOException {
+    FileInputStream in = new FileInputStream(file);
+    try {
+      int count = 0;
+      while (in.read() >= 0) count++;
+      return count;
+    } finally {
+      in.close();
+    }
+  }
+
+  @Test public void shouldThrowErrorIfTargetIsInsideFolderToCopy() {
+    File source = new File("dir_7");
+    File target = new File(source, join("sub", "copy").with(separator));
+    source.mkdirs();
+    try {
+      Files.copy(source, target);
+      fail("expecting a FilesException");
+    } catch (FilesException expected) {
+      assertFalse(target.exists());
+    } finally {
+      Files.delete(source);
+    }
+  }
+
+  @Test(expectedExceptions = FilesException.class)
+  public void shouldThrowErrorIfTargetIsFileToCopy() throws IOException {
+    File source = new File("file_8");
+    try {
+      write(source, 8);
+      Files.copy(source, new File(".", "file_8"));
+    } finally {
+      Files.delete(source);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfFileToCopyDoesNotExist() {
+    Files.copy(new File("not_existing_file"), new File("copy"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfNumberOfThreadsIsNotPositive() {
+    Files.delete(new File("root"), 0);
+  }
 }
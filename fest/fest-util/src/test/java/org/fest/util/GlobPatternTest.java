@@ -0,0 +1,109 @@
+/*
+ * Created on Jul 25, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static org.fest.util.GlobPattern.glob;
+import static org.testng.Assert.*;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for <code>{@link GlobPattern}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class GlobPatternTest {
+
+  @Test public void shouldMatchAnyCharactersInSingleSegment() {
+    GlobPattern glob = glob("*.xml");
+    assertTrue(glob.matches("a.xml"));
+    assertTrue(glob.matches(".xml"));
+    assertFalse(glob.matches("dir/a.xml"));
+    assertFalse(glob.matches("axml"));
+  }
+
+  @Test public void shouldMatchAnyCharactersAcrossSegments() {
+    GlobPattern glob = glob("scripts/**/*.xml");
+    assertTrue(glob.matches("scripts/a.xml"));
+    assertTrue(glob.matches("scripts/dir/a.xml"));
+    assertTrue(glob.matches("scripts/dir/subdir/a.xml"));
+    assertFalse(glob.matches("a.xml"));
+    assertTrue(glob("**").matches("dir/a.xml"));
+  }
+
+  @Test public void shouldMatchSingleCharacter() {
+    GlobPattern glob = glob("file_?");
+    assertTrue(glob.matches("file_1"));
+    assertFalse(glob.matches("file_10"));
+    assertFalse(glob.matches("file_/"));
+  }
+
+  @Test public void shouldMatchCharacterSets() {
+    assertTrue(glob("file_[0-3]").matches("file_2"));
+    assertFalse(glob("file_[0-3]").matches("file_4"));
+    assertTrue(glob("file_[!0-3]").matches("file_4"));
+    assertFalse(glob("file_[!0-3]").matches("file_2"));
+  }
+
+  @Test public void shouldNotMatchSeparatorWithCharacterSets() {
+    assertFalse(glob("a[!bc]d").matches("a/d"));
+    assertFalse(glob("a[+-0]d").matches("a/d"));
+    assertTrue(glob("a[+-0]d").matches("a.d"));
+    assertTrue(glob("a[!-0]d").matches("a.d"));
+    assertFalse(glob("a[!-0]d").matches("a-d"));
+  }
+
+  @Test public void shouldMatchAlternatives() {
+    GlobPattern glob = glob("*.{xml,txt}");
+    assertTrue(glob.matches("a.xml"));
+    assertTrue(glob.matches("a.txt"));
+    assertFalse(glob.matches("a.html"));
+    assertTrue(glob("a,b").matches("a,b"));
+  }
+
+  @Test public void shouldMatchRegexCharactersLiterally() {
+    assertTrue(glob("a+b(1).$").matches("a+b(1).$"));
+    assertFalse(glob("a.b").matches("axb"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfCharacterSetIsNotClosed() {
+    glob("file_[0-3");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfCharacterSetIsEmpty() {
+    glob("file_[]");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfNegatedCharacterSetIsEmpty() {
+    glob("file_[!]");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfAlternativesAreNotClosed() {
+    glob("*.{xml,txt");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfGlobIsNull() {
+    glob(null);
+  }
+
+  @Test public void shouldImplementToString() {
+    assertEquals(glob("**/*.xml").toString(), "**/*.xml");
+  }
+}
@@ -15,7 +15,8 @@
  */
 package org.fest.util;
 
-import static org.testng.Assert.assertEquals;
+import static org.fest.util.Collections.list;
+import static org.testng.Assert.*;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,4 +39,27 @@ public class TypeFilterTest {
     assertEquals(filtered.size(), 1);
     assertEquals(filtered.get(0), "Frodo");
   }
+
+  @Test public void shouldReturnViewOfFilteredElements() {
+    List<Object> original = new ArrayList<Object>();
+    original.add(1);
+    original.add(null);
+    original.add("Frodo");
+    Iterable<String> view = new TypeFilter<String>(String.class).view(original);
+    assertEquals(elementsOf(view), list("Frodo"));
+    original.add("Sam");
+    original.add(8);
+    assertEquals(elementsOf(view), list("Frodo", "Sam"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfCollectionToViewIsNull() {
+    new TypeFilter<String>(String.class).view(null);
+  }
+
+  private static <T> List<T> elementsOf(Iterable<T> view) {
+    List<T> elements = new ArrayList<T>();
+    for (T element : view) elements.add(element);
+    return elements;
+  }
 }
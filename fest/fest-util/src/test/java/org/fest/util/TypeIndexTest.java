@@ -0,0 +1,99 @@
+/*
+ * Created on Jul 26, 2009
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2009 the original author or authors.
+ */
+package org.fest.util;
+
+import static org.fest.util.Collections.list;
+import static org.fest.util.TypeIndex.typeIndexOf;
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for <code>{@link TypeIndex}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class TypeIndexTest {
+
+  private List<Object> original;
+  private TypeIndex index;
+
+  @BeforeMethod public void setUp() {
+    original = new ArrayList<Object>();
+    original.add(1);
+    original.add("Frodo");
+    original.add(null);
+    original.add(8L);
+    original.add("Sam");
+    original.add(6);
+    index = typeIndexOf(original);
+  }
+
+  @Test public void shouldReturnElementsOfGivenType() {
+    assertEquals(index.elementsOf(String.class), list("Frodo", "Sam"));
+    assertEquals(index.elementsOf(Integer.class), list(1, 6));
+  }
+
+  @Test public void shouldReturnElementsOfSubtypesInOriginalOrder() {
+    assertEquals(index.elementsOf(Number.class), list(1, 8L, 6));
+    assertEquals(index.elementsOf(Object.class), list(1, "Frodo", 8L, "Sam", 6));
+  }
+
+  @Test public void shouldReturnSameElementsAsTypeFilter() {
+    for (Class<?> type : list(String.class, Integer.class, Long.class, Number.class, Comparable.class, Object.class))
+      assertEquals(index.elementsOf(type), new TypeFilter<Object>(type(type)).filter(original));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Class<Object> type(Class<?> type) {
+    return (Class<Object>)type;
+  }
+
+  @Test public void shouldReturnEmptyListIfNoElementIsOfGivenType() {
+    assertTrue(index.elementsOf(Double.class).isEmpty());
+  }
+
+  @Test public void shouldCacheFilteredElements() {
+    assertSame(index.elementsOf(Number.class), index.elementsOf(Number.class));
+  }
+
+  @Test public void shouldNotReflectChangesToIndexedCollection() {
+    original.add("Merry");
+    assertEquals(index.elementsOf(String.class), list("Frodo", "Sam"));
+  }
+
+  @Test public void shouldReturnNumberOfDistinctTypes() {
+    assertEquals(index.typeCount(), 3);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void shouldReturnUnmodifiableList() {
+    index.elementsOf(String.class).add("Pippin");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfCollectionToIndexIsNull() {
+    typeIndexOf(null);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowErrorIfTypeIsNull() {
+    index.elementsOf(null);
+  }
+}